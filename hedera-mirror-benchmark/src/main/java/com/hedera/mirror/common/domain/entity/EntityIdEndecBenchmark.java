@@ -0,0 +1,67 @@
+package com.hedera.mirror.common.domain.entity;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class EntityIdEndecBenchmark {
+
+    private long encodedId;
+    private long num;
+    private long realm;
+    private long shard;
+
+    @Setup
+    public void setup() {
+        var random = ThreadLocalRandom.current();
+        shard = random.nextLong(1L << EntityIdEndec.SHARD_BITS);
+        realm = random.nextLong(1L << EntityIdEndec.REALM_BITS);
+        num = random.nextLong(1L << EntityIdEndec.NUM_BITS);
+        encodedId = EntityIdEndec.encode(shard, realm, num);
+    }
+
+    @Benchmark
+    public EntityId decode() {
+        return EntityIdEndec.decode(encodedId, EntityType.ACCOUNT);
+    }
+
+    @Benchmark
+    public Long encode() {
+        return EntityIdEndec.encode(shard, realm, num);
+    }
+}
@@ -0,0 +1,92 @@
+package com.hedera.mirror.common.domain.transaction;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hedera.mirror.importer.BenchmarkFixtures;
+
+/**
+ * Measures constructing the record items of a record file from their raw bytes, with and without the lazy parsing of
+ * the transaction body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class RecordItemBenchmark {
+
+    private List<RecordItemBytes> items;
+
+    @Setup
+    public void setup() {
+        items = BenchmarkFixtures.recordItems()
+                .stream()
+                .map(r -> new RecordItemBytes(r.getRecordBytes(), r.getTransactionBytes()))
+                .toList();
+    }
+
+    @Benchmark
+    public void build(Blackhole blackhole) {
+        RecordItem previous = null;
+
+        for (var item : items) {
+            previous = build(item, previous);
+            blackhole.consume(previous);
+        }
+    }
+
+    @Benchmark
+    public void buildAndParseTransactionBody(Blackhole blackhole) {
+        RecordItem previous = null;
+
+        for (var item : items) {
+            previous = build(item, previous);
+            blackhole.consume(previous.getTransactionBody());
+        }
+    }
+
+    private RecordItem build(RecordItemBytes item, RecordItem previous) {
+        return RecordItem.builder()
+                .previous(previous)
+                .recordBytes(item.recordBytes())
+                .transactionBytes(item.transactionBytes())
+                .build();
+    }
+
+    private record RecordItemBytes(ByteString recordBytes, ByteString transactionBytes) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.hedera.mirror.importer;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.io.IOException;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.reader.record.ProtoRecordFileReader;
+
+/**
+ * Loads the record stream fixtures copied from the importer's test resources.
+ */
+@UtilityClass
+public class BenchmarkFixtures {
+
+    private static final String RECORD_STREAMS = "data/recordstreams/";
+    private static final String RECORD_FILE_V5 = "v5/record0.0.3/2021-01-11T22_09_24.063739000Z.rcd";
+    private static final String RECORD_FILE_V6 = "v6/record0.0.3/2022-07-13T08_46_08.041986003Z.rcd.gz";
+
+    public static StreamFileData recordFile(int version) {
+        String path = switch (version) {
+            case 5 -> RECORD_FILE_V5;
+            case 6 -> RECORD_FILE_V6;
+            default -> throw new IllegalArgumentException("No record file fixture for version " + version);
+        };
+
+        try (var inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(RECORD_STREAMS + path)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing record file fixture " + path);
+            }
+
+            return StreamFileData.from(StringUtils.substringAfterLast(path, "/"), inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read record file fixture " + path, e);
+        }
+    }
+
+    public static List<RecordItem> recordItems() {
+        var recordFile = new ProtoRecordFileReader().read(recordFile(ProtoRecordFileReader.VERSION));
+        return recordFile.getItems().collectList().block();
+    }
+}
@@ -0,0 +1,155 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import com.hedera.mirror.importer.repository.upsert.BenchmarkEntityMetadataRegistry;
+
+/**
+ * Measures serializing a batch of rows for COPY in the CSV and binary formats. The entity metadata is resolved by the
+ * importer's registry, with the column types that it would read from the database registered up front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class BatchInserterBenchmark {
+
+    private static final Map<String, String> CONTRACT_RESULT_COLUMNS = Map.ofEntries(
+            Map.entry("amount", "int8"),
+            Map.entry("bloom", "bytea"),
+            Map.entry("call_result", "bytea"),
+            Map.entry("consensus_timestamp", "int8"),
+            Map.entry("contract_id", "int8"),
+            Map.entry("created_contract_ids", "_int8"),
+            Map.entry("error_message", "text"),
+            Map.entry("failed_initcode", "bytea"),
+            Map.entry("function_parameters", "bytea"),
+            Map.entry("function_result", "bytea"),
+            Map.entry("gas_limit", "int8"),
+            Map.entry("gas_used", "int8"),
+            Map.entry("payer_account_id", "int8"),
+            Map.entry("sender_id", "int8"),
+            Map.entry("transaction_hash", "bytea"),
+            Map.entry("transaction_index", "int4"),
+            Map.entry("transaction_result", "int2"));
+
+    private static final Map<String, String> TRANSACTION_COLUMNS = Map.ofEntries(
+            Map.entry("charged_tx_fee", "int8"),
+            Map.entry("consensus_timestamp", "int8"),
+            Map.entry("entity_id", "int8"),
+            Map.entry("errata", "errata_type"),
+            Map.entry("index", "int4"),
+            Map.entry("initial_balance", "int8"),
+            Map.entry("max_fee", "int8"),
+            Map.entry("memo", "bytea"),
+            Map.entry("node_account_id", "int8"),
+            Map.entry("nonce", "int4"),
+            Map.entry("parent_consensus_timestamp", "int8"),
+            Map.entry("payer_account_id", "int8"),
+            Map.entry("result", "int2"),
+            Map.entry("scheduled", "bool"),
+            Map.entry("transaction_bytes", "bytea"),
+            Map.entry("transaction_hash", "bytea"),
+            Map.entry("type", "int2"),
+            Map.entry("valid_duration_seconds", "int8"),
+            Map.entry("valid_start_ns", "int8"));
+
+    @Param({"ContractResult", "Transaction"})
+    private String entity;
+
+    @Param({"BINARY", "CSV"})
+    private CopyFormat format;
+
+    @Param({"1000"})
+    private int size;
+
+    private BatchInserter batchInserter;
+    private List<Object> items;
+    private ByteArrayOutputStream outputStream;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        Class<?> domainClass;
+        Supplier<Object> supplier;
+
+        switch (entity) {
+            case "ContractResult" -> {
+                domainClass = ContractResult.class;
+                supplier = () -> domainBuilder.contractResult().get();
+            }
+            case "Transaction" -> {
+                domainClass = Transaction.class;
+                supplier = () -> domainBuilder.transaction().get();
+            }
+            default -> throw new IllegalArgumentException("Unsupported entity " + entity);
+        }
+
+        var meterRegistry = new SimpleMeterRegistry();
+        var properties = new CommonParserProperties();
+        if (format == CopyFormat.BINARY) {
+            var entityMetadata = new BenchmarkEntityMetadataRegistry(domainClass)
+                    .table("contract_result", CONTRACT_RESULT_COLUMNS)
+                    .table("transaction", TRANSACTION_COLUMNS)
+                    .lookup(domainClass);
+            batchInserter = new BinaryBatchInserter(domainClass, null, meterRegistry, properties, entityMetadata);
+        } else {
+            batchInserter = new BatchInserter(domainClass, null, meterRegistry, properties);
+        }
+
+        items = IntStream.range(0, size).mapToObj(i -> supplier.get()).toList();
+        outputStream = new ByteArrayOutputStream(size * 512);
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        outputStream.reset();
+        batchInserter.serialize(items, outputStream);
+        return outputStream.size();
+    }
+}
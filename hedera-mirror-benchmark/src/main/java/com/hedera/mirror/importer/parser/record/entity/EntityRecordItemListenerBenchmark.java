@@ -0,0 +1,168 @@
+package com.hedera.mirror.importer.parser.record.entity;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.mockito.Mockito.mock;
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.BenchmarkFixtures;
+import com.hedera.mirror.importer.addressbook.AddressBookService;
+import com.hedera.mirror.importer.domain.AliasNotFoundAction;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.record.NonFeeTransferExtractionStrategyImpl;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+import com.hedera.mirror.importer.parser.record.entity.staking.EntityStakeCalculator;
+import com.hedera.mirror.importer.parser.record.ethereum.EthereumTransactionParser;
+import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
+import com.hedera.mirror.importer.repository.FileDataRepository;
+import com.hedera.mirror.importer.repository.NftRepository;
+import com.hedera.mirror.importer.repository.NodeStakeRepository;
+
+/**
+ * Measures converting the record items of a record file to domain objects with a no-op {@link EntityListener}, so only
+ * the cost of the listener and the transaction handlers is included. The real transaction handlers are created from
+ * their package with the no-op listener, while entity ID lookups are resolved without aliases and the repositories the
+ * handlers read from are mocked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EntityRecordItemListenerBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private EntityRecordItemListener entityRecordItemListener;
+    private List<RecordItem> recordItems;
+
+    @Setup
+    public void setup() {
+        var entityIdService = new NoAliasEntityIdService();
+        var entityListener = new EntityListener() {
+        };
+        var entityProperties = new EntityProperties();
+        var recordParserProperties = new RecordParserProperties();
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(EntityIdService.class, () -> entityIdService);
+        context.registerBean(EntityListener.class, () -> entityListener);
+        context.registerBean(EntityProperties.class, () -> entityProperties);
+        context.registerBean(EntityStakeCalculator.class, () -> mock(EntityStakeCalculator.class));
+        context.registerBean(NftRepository.class, () -> mock(NftRepository.class));
+        context.registerBean(NodeStakeRepository.class, () -> mock(NodeStakeRepository.class));
+        context.registerBean(RecordParserProperties.class, () -> recordParserProperties);
+        context.scan(TransactionHandlerFactory.class.getPackageName(),
+                EthereumTransactionParser.class.getPackageName());
+        context.refresh();
+
+        entityRecordItemListener = new EntityRecordItemListener(
+                mock(AddressBookService.class),
+                new CommonParserProperties(),
+                (recordItem, transaction) -> {
+                },
+                entityIdService,
+                entityListener,
+                entityProperties,
+                mock(FileDataRepository.class),
+                new NonFeeTransferExtractionStrategyImpl(entityIdService),
+                recordParserProperties,
+                context.getBean(TransactionHandlerFactory.class)
+        );
+        recordItems = BenchmarkFixtures.recordItems();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void onItem() {
+        for (var recordItem : recordItems) {
+            entityRecordItemListener.onItem(recordItem);
+        }
+    }
+
+    private static class NoAliasEntityIdService implements EntityIdService {
+
+        @Override
+        public EntityId lookup(AccountID accountId) {
+            return EntityId.of(accountId);
+        }
+
+        @Override
+        public EntityId lookup(AliasNotFoundAction action, AccountID... accountIds) {
+            for (var accountId : accountIds) {
+                if (!AccountID.getDefaultInstance().equals(accountId)) {
+                    return EntityId.of(accountId);
+                }
+            }
+            return EntityId.EMPTY;
+        }
+
+        @Override
+        public EntityId lookup(ContractID contractId) {
+            return EntityId.of(contractId);
+        }
+
+        @Override
+        public EntityId lookup(AliasNotFoundAction action, ContractID... contractIds) {
+            for (var contractId : contractIds) {
+                if (!ContractID.getDefaultInstance().equals(contractId)) {
+                    return EntityId.of(contractId);
+                }
+            }
+            return EntityId.EMPTY;
+        }
+
+        @Override
+        public void prefetch(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+            // Nothing to resolve
+        }
+
+        @Override
+        public void notify(Entity entity) {
+            // Nothing to cache
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static com.hedera.mirror.common.domain.entity.EntityType.TOKEN;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenId;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hedera.mirror.importer.repository.SidecarFileRepository;
+
+/**
+ * Measures merging repeated updates to the same entities and tokens within a record file. The updates are rebuilt
+ * once per iteration rather than per invocation, which would add JMH's timing overhead to every call. Merging mutates
+ * them, but later invocations still take the same merge path since every update's id was already seen.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class SqlEntityListenerBenchmark {
+
+    @Param({"1000"})
+    private int updates;
+
+    @Param({"10"})
+    private int updatesPerId;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private List<Entity> entities;
+    private SqlEntityListener sqlEntityListener;
+    private List<Token> tokens;
+
+    @Setup
+    public void setup() {
+        sqlEntityListener = new SqlEntityListener(
+                items -> {
+                },
+                mock(EntityIdService.class),
+                new EntityProperties(),
+                event -> {
+                },
+                mock(RecordFileRepository.class),
+                mock(SidecarFileRepository.class),
+                new SqlProperties(),
+                items -> {
+                }
+        );
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        sqlEntityListener.onStart();
+        entities = IntStream.range(0, updates)
+                .mapToObj(i -> domainBuilder.entity().customize(e -> e.id(id(i)).num(id(i))).get())
+                .toList();
+        tokens = IntStream.range(0, updates)
+                .mapToObj(i -> domainBuilder.token()
+                        .customize(t -> t.tokenId(new TokenId(EntityId.of(0L, 0L, id(i), TOKEN))))
+                        .get())
+                .toList();
+    }
+
+    @Benchmark
+    public void mergeEntity() {
+        for (var entity : entities) {
+            sqlEntityListener.onEntity(entity);
+        }
+    }
+
+    @Benchmark
+    public void mergeToken() {
+        for (var token : tokens) {
+            sqlEntityListener.onToken(token);
+        }
+    }
+
+    private long id(int update) {
+        return 1000L + update / updatesPerId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.hedera.mirror.importer.reader.record;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.hedera.mirror.importer.BenchmarkFixtures;
+import com.hedera.mirror.importer.domain.StreamFileData;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class RecordFileReaderBenchmark {
+
+    @Param({"5", "6"})
+    private int version;
+
+    private RecordFileReader recordFileReader;
+    private StreamFileData streamFileData;
+
+    @Setup
+    public void setup() {
+        recordFileReader = version == ProtoRecordFileReader.VERSION ? new ProtoRecordFileReader() :
+                new RecordFileReaderImplV5();
+        streamFileData = BenchmarkFixtures.recordFile(version);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        var recordFile = recordFileReader.read(streamFileData);
+        recordFile.getItems().toIterable().forEach(blackhole::consume);
+        blackhole.consume(recordFile);
+    }
+}
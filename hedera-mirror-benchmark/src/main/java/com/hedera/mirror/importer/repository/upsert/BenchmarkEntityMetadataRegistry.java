@@ -0,0 +1,85 @@
+package com.hedera.mirror.importer.repository.upsert;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQL10Dialect;
+
+/**
+ * Resolves entity metadata the same way as the importer without a database. Hibernate builds the JPA metamodel from
+ * the domain classes alone, and the column types that would otherwise be read from information_schema are registered
+ * per table.
+ */
+public class BenchmarkEntityMetadataRegistry extends EntityMetadataRegistry {
+
+    private final Map<String, Map<String, String>> columnTypes = new HashMap<>();
+
+    public BenchmarkEntityMetadataRegistry(Class<?>... domainClasses) {
+        super(entityManager(domainClasses), null);
+    }
+
+    /**
+     * Registers the udt_name of each column of a table.
+     *
+     * @param tableName   the name of the table
+     * @param columnTypes the udt_name keyed by column name
+     * @return this registry
+     */
+    public BenchmarkEntityMetadataRegistry table(String tableName, Map<String, String> columnTypes) {
+        this.columnTypes.put(tableName, columnTypes);
+        return this;
+    }
+
+    @Override
+    Map<String, InformationSchemaColumns> getColumnSchema(String tableName) {
+        var types = columnTypes.get(tableName);
+        if (types == null) {
+            throw new IllegalStateException("Missing column types for " + tableName);
+        }
+
+        Map<String, InformationSchemaColumns> schema = new HashMap<>();
+        types.forEach((name, udtName) -> {
+            var columnSchema = new InformationSchemaColumns();
+            columnSchema.setColumnName(name);
+            columnSchema.setNullable(true);
+            columnSchema.setUdtName(udtName);
+            schema.put(name, columnSchema);
+        });
+        return schema;
+    }
+
+    private static EntityManager entityManager(Class<?>... domainClasses) {
+        var serviceRegistry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, PostgreSQL10Dialect.class.getName())
+                .applySetting("hibernate.temp.use_jdbc_metadata_defaults", false) // Don't connect to a database
+                .build();
+        var metadataSources = new MetadataSources(serviceRegistry);
+        for (var domainClass : domainClasses) {
+            metadataSources.addAnnotatedClass(domainClass);
+        }
+        return metadataSources.buildMetadata().buildSessionFactory().createEntityManager();
+    }
+}
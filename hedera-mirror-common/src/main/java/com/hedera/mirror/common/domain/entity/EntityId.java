@@ -21,6 +21,7 @@ package com.hedera.mirror.common.domain.entity;
  */
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Range;
@@ -39,6 +40,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Value;
 
 import com.hedera.mirror.common.converter.EntityTypeSerializer;
+import com.hedera.mirror.common.exception.InvalidEntityException;
 
 /**
  * Common encapsulation for accountID, fileID, contractID, topicID and tokenID.
@@ -46,33 +48,36 @@ import com.hedera.mirror.common.converter.EntityTypeSerializer;
  * There is no valid entity in Hedera network with an id '0.0.0'. When AccountID/FileID/ContractID/TopicID/TokenID are
  * not set, their values default to '0.0.0'. If such an unset (default) instance is used to create EntityId using one of
  * the of(..) functions, null is returned.
+ * <p>
+ * Only the encoded id and the type are stored, and the shard, realm and num are decoded from the id on demand.
+ * Instances created by the of(..) functions are interned in a small fixed size cache, so the frequently seen ids like
+ * node accounts, fee collectors and treasuries are not allocated again for every transfer that references them.
  */
-@Value
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@JsonPropertyOrder({"shardNum", "realmNum", "entityNum", "type"})
+@Value
 public class EntityId implements Serializable, Comparable<EntityId> {
 
     public static final EntityId EMPTY = new EntityId(0L, 0L, 0L, EntityType.ACCOUNT);
     private static final Comparator<EntityId> COMPARATOR = Comparator
-            .nullsFirst(Comparator.comparingLong(EntityId::getId));
+            .nullsFirst(Comparator.comparingLong(EntityId::id));
     private static final Range<Long> DEFAULT_RANGE = Range.atLeast(0L);
     private static final Splitter SPLITTER = Splitter.on('.').omitEmptyStrings().trimResults();
-    private static final long serialVersionUID = 1427649605832330197L;
+    private static final int INTERN_CACHE_SIZE = 4096; // Must be a power of two
+    private static final EntityId[] INTERN_CACHE = new EntityId[INTERN_CACHE_SIZE];
+    private static final long serialVersionUID = 6470186446620487113L;
 
-    // Ignored so not included in json serialization of PubSubMessage
-    @JsonIgnore
     @EqualsAndHashCode.Include
-    private final Long id;
-    private final Long shardNum;
-    private final Long realmNum;
-    private final Long entityNum;
+    private final long id;
     @JsonSerialize(using = EntityTypeSerializer.class)
     private final EntityType type;
 
     public EntityId(Long shardNum, Long realmNum, Long entityNum, EntityType type) {
-        id = EntityIdEndec.encode(shardNum, realmNum, entityNum);
-        this.shardNum = shardNum;
-        this.realmNum = realmNum;
-        this.entityNum = entityNum;
+        this(EntityIdEndec.encode(shardNum, realmNum, entityNum), type);
+    }
+
+    private EntityId(long id, EntityType type) {
+        this.id = id;
         this.type = type;
     }
 
@@ -119,23 +124,77 @@ public class EntityId implements Serializable, Comparable<EntityId> {
         if (entityNum == 0 && entityRealm == 0 && entityShard == 0) {
             return EMPTY;
         }
-        return new EntityId(entityShard, entityRealm, entityNum, type);
+
+        return intern(EntityIdEndec.encode(entityShard, entityRealm, entityNum), type);
     }
 
     public static EntityId of(long encodedEntityId, EntityType type) {
-        return EntityIdEndec.decode(encodedEntityId, type);
+        if (encodedEntityId < 0) {
+            throw new InvalidEntityException("encodedId can not be negative: " + encodedEntityId);
+        }
+
+        return encodedEntityId == 0 ? EMPTY : intern(encodedEntityId, type);
+    }
+
+    // Racy but safe since instances are immutable. A miss just replaces the cached instance with a new one.
+    private static EntityId intern(long id, EntityType type) {
+        int index = (int) (Long.hashCode(id) * 31 + type.ordinal()) & (INTERN_CACHE_SIZE - 1);
+        EntityId cached = INTERN_CACHE[index];
+        if (cached != null && cached.id == id && cached.type == type) {
+            return cached;
+        }
+
+        EntityId entityId = new EntityId(id, type);
+        INTERN_CACHE[index] = entityId;
+        return entityId;
     }
 
     public static boolean isEmpty(EntityId entityId) {
         return entityId == null || EMPTY.equals(entityId);
     }
 
+    // Ignored so not included in json serialization of PubSubMessage
+    @JsonIgnore
+    public Long getId() {
+        return id;
+    }
+
+    public Long getShardNum() {
+        return shard();
+    }
+
+    public Long getRealmNum() {
+        return realm();
+    }
+
+    public Long getEntityNum() {
+        return num();
+    }
+
+    // The primitive accessors below avoid boxing on hot paths and aren't picked up by json serialization
+
+    public long id() {
+        return id;
+    }
+
+    public long shard() {
+        return EntityIdEndec.shard(id);
+    }
+
+    public long realm() {
+        return EntityIdEndec.realm(id);
+    }
+
+    public long num() {
+        return EntityIdEndec.num(id);
+    }
+
     public Entity toEntity() {
         Entity entity = new Entity();
         entity.setId(id);
-        entity.setShard(shardNum);
-        entity.setRealm(realmNum);
-        entity.setNum(entityNum);
+        entity.setShard(shard());
+        entity.setRealm(realm());
+        entity.setNum(num());
         entity.setTimestampRange(DEFAULT_RANGE);
         entity.setType(type);
         return entity;
@@ -148,6 +207,6 @@ public class EntityId implements Serializable, Comparable<EntityId> {
 
     @Override
     public String toString() {
-        return String.format("%d.%d.%d", getShardNum(), getRealmNum(), getEntityNum());
+        return shard() + "." + realm() + "." + num();
     }
 }
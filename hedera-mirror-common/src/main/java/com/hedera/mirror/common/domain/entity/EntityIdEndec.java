@@ -58,12 +58,18 @@ public class EntityIdEndec {
     }
 
     public static EntityId decode(long encodedId, EntityType entityType) {
-        if (encodedId < 0) {
-            throw new InvalidEntityException("encodedId can not be negative: " + encodedId);
-        }
-        long shard = encodedId >> (REALM_BITS + NUM_BITS);
-        long realm = (encodedId >> NUM_BITS) & REALM_MASK;
-        long num = encodedId & NUM_MASK;
-        return EntityId.of(shard, realm, num, entityType);
+        return EntityId.of(encodedId, entityType);
+    }
+
+    static long shard(long encodedId) {
+        return encodedId >> (REALM_BITS + NUM_BITS);
+    }
+
+    static long realm(long encodedId) {
+        return (encodedId >> NUM_BITS) & REALM_MASK;
+    }
+
+    static long num(long encodedId) {
+        return encodedId & NUM_MASK;
     }
 }
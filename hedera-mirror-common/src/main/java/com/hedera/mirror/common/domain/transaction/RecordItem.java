@@ -22,6 +22,7 @@ package com.hedera.mirror.common.domain.transaction;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
@@ -63,9 +64,9 @@ public class RecordItem implements StreamItem {
     private final RecordItem parent;
     private final RecordItem previous;
     private final TransactionRecord record;
-    private final byte[] recordBytes;
+    private final ByteString recordBytes;
     private final Transaction transaction;
-    private final byte[] transactionBytes;
+    private final ByteString transactionBytes;
     private final int transactionIndex;
 
     // Lazily calculated fields
@@ -198,11 +199,18 @@ public class RecordItem implements StreamItem {
 
         public B record(TransactionRecord record) {
             this.record = record;
-            this.recordBytes = record.toByteArray();
+            this.recordBytes = record.toByteString();
             return (B) this;
         }
 
         public B recordBytes(byte[] recordBytes) {
+            return recordBytes(UnsafeByteOperations.unsafeWrap(recordBytes));
+        }
+
+        /**
+         * Sets the serialized record. The ByteString is kept as is, so a slice of a larger buffer is not copied.
+         */
+        public B recordBytes(ByteString recordBytes) {
             try {
                 this.recordBytes = recordBytes;
                 this.record = TransactionRecord.parseFrom(recordBytes);
@@ -214,11 +222,18 @@ public class RecordItem implements StreamItem {
 
         public B transaction(Transaction transaction) {
             this.transaction = transaction;
-            this.transactionBytes = transaction.toByteArray();
+            this.transactionBytes = transaction.toByteString();
             return (B) this;
         }
 
         public B transactionBytes(byte[] transactionBytes) {
+            return transactionBytes(UnsafeByteOperations.unsafeWrap(transactionBytes));
+        }
+
+        /**
+         * Sets the serialized transaction. The ByteString is kept as is, so a slice of a larger buffer is not copied.
+         */
+        public B transactionBytes(ByteString transactionBytes) {
             try {
                 this.transactionBytes = transactionBytes;
                 this.transaction = Transaction.parseFrom(transactionBytes);
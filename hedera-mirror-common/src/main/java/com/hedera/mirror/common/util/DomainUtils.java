@@ -268,7 +268,7 @@ public class DomainUtils {
             throw new InvalidEntityException("Empty contractId");
         }
 
-        return toEvmAddress(contractId.getShardNum().intValue(), contractId.getRealmNum(), contractId.getEntityNum());
+        return toEvmAddress((int) contractId.shard(), contractId.realm(), contractId.num());
     }
 
     private static byte[] toEvmAddress(int shard, long realm, long num) {
@@ -28,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import com.hedera.mirror.common.exception.InvalidEntityException;
+
 class EntityIdTest {
 
     @CsvSource({"null", ".", "0..1", "0", "0.0", "0.0.0.1", "-1.-2.-3", "0.0.9223372036854775808", "foo.bar.baz"})
@@ -45,4 +47,42 @@ class EntityIdTest {
         assertThat(EntityId.of("0.0.1", type)).isEqualTo(EntityId.of(0, 0, 1, type));
         assertThat(EntityId.of("0.0.0", type)).isEqualTo(EntityId.EMPTY);
     }
+
+    @DisplayName("Decode shard, realm and num from the encoded id")
+    @Test
+    void decodedParts() {
+        var entityId = EntityId.of(1, 2, 3, EntityType.TOKEN);
+        assertThat(entityId.getShardNum()).isEqualTo(1L);
+        assertThat(entityId.getRealmNum()).isEqualTo(2L);
+        assertThat(entityId.getEntityNum()).isEqualTo(3L);
+        assertThat(entityId.getId()).isEqualTo(EntityIdEndec.encode(1, 2, 3));
+        assertThat(entityId.getType()).isEqualTo(EntityType.TOKEN);
+        assertThat(entityId).hasToString("1.2.3");
+        assertThat(entityId.shard()).isEqualTo(1L);
+        assertThat(entityId.realm()).isEqualTo(2L);
+        assertThat(entityId.num()).isEqualTo(3L);
+        assertThat(entityId.id()).isEqualTo(entityId.getId());
+    }
+
+    @DisplayName("Convert encoded id to EntityId")
+    @Test
+    void ofEncodedId() {
+        long id = EntityIdEndec.encode(1, 2, 3);
+        var entityId = EntityId.of(id, EntityType.TOKEN);
+        assertThat(entityId.id()).isEqualTo(id);
+        assertThat(entityId).hasToString("1.2.3").isSameAs(EntityId.of(1, 2, 3, EntityType.TOKEN));
+        assertThat(EntityId.of(0L, EntityType.ACCOUNT)).isSameAs(EntityId.EMPTY);
+        assertThatThrownBy(() -> EntityId.of(-1L, EntityType.ACCOUNT)).isInstanceOf(InvalidEntityException.class);
+    }
+
+    @DisplayName("Reuse interned instances")
+    @Test
+    void interned() {
+        var entityId = EntityId.of(0, 0, 98, EntityType.ACCOUNT);
+        assertThat(EntityId.of(0, 0, 98, EntityType.ACCOUNT)).isSameAs(entityId);
+        assertThat(EntityId.of(0, 0, 98, EntityType.CONTRACT))
+                .isNotSameAs(entityId)
+                .returns(EntityType.CONTRACT, EntityId::getType);
+        assertThat(new EntityId(0L, 0L, 98L, EntityType.ACCOUNT)).isEqualTo(entityId).isNotSameAs(entityId);
+    }
 }
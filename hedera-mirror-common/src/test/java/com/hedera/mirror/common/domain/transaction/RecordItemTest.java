@@ -163,6 +163,31 @@ class RecordItemTest {
         assertRecordItem(expectedTransaction, recordItem);
     }
 
+    @Test
+    void testWithByteStringSlices() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(SignedTransaction.newBuilder()
+                        .setBodyBytes(TRANSACTION_BODY.toByteString())
+                        .setSigMap(SIGNATURE_MAP)
+                        .build()
+                        .toByteString())
+                .build();
+        var recordBytes = TRANSACTION_RECORD.toByteString();
+        var transactionBytes = transaction.toByteString();
+        var buffer = recordBytes.concat(transactionBytes);
+        var recordSlice = buffer.substring(0, recordBytes.size());
+        var transactionSlice = buffer.substring(recordBytes.size());
+
+        RecordItem recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .recordBytes(recordSlice)
+                .transactionBytes(transactionSlice)
+                .build();
+        assertRecordItem(transaction, recordItem);
+        assertThat(recordItem.getRecordBytes()).isSameAs(recordSlice);
+        assertThat(recordItem.getTransactionBytes()).isSameAs(transactionSlice);
+    }
+
     @Test
     void testWithBodyBytes() {
         Transaction transaction = Transaction.newBuilder()
@@ -467,8 +492,8 @@ class RecordItemTest {
         assertThat(recordItem.getTransaction()).isEqualTo(transaction);
         assertThat(recordItem.getRecord()).isEqualTo(TRANSACTION_RECORD);
         assertThat(recordItem.getTransactionBody()).isEqualTo(TRANSACTION_BODY);
-        assertThat(recordItem.getTransactionBytes()).isEqualTo(transaction.toByteArray());
-        assertThat(recordItem.getRecordBytes()).isEqualTo(TRANSACTION_RECORD.toByteArray());
+        assertThat(recordItem.getTransactionBytes()).isEqualTo(transaction.toByteString());
+        assertThat(recordItem.getRecordBytes()).isEqualTo(TRANSACTION_RECORD.toByteString());
         assertThat(recordItem.getSignatureMap()).isEqualTo(SIGNATURE_MAP);
     }
 }
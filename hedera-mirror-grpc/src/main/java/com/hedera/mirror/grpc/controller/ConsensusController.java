@@ -21,6 +21,11 @@ package com.hedera.mirror.grpc.controller;
  */
 
 import com.hederahashgraph.api.proto.java.Timestamp;
+import com.salesforce.reactorgrpc.stub.ServerCalls;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -28,6 +33,7 @@ import net.devh.boot.grpc.server.service.GrpcService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
 import com.hedera.mirror.api.proto.ConsensusTopicQuery;
 import com.hedera.mirror.api.proto.ConsensusTopicResponse;
 import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
@@ -51,11 +57,46 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
 
     private final TopicMessageService topicMessageService;
 
+    /**
+     * Binds subscribeTopic to a method that marshals TopicMessage directly so its serialized response can be shared by
+     * all subscribers. The wire format is unchanged. The generated subscribeTopic is not overridden since this binding
+     * replaces it.
+     */
     @Override
-    public Flux<ConsensusTopicResponse> subscribeTopic(Mono<ConsensusTopicQuery> request) {
+    public ServerServiceDefinition bindService() {
+        ServerServiceDefinition definition = super.bindService();
+        ServiceDescriptor serviceDescriptor = definition.getServiceDescriptor();
+        MethodDescriptor<ConsensusTopicQuery, ConsensusTopicResponse> method =
+                ConsensusServiceGrpc.getSubscribeTopicMethod();
+        MethodDescriptor<ConsensusTopicQuery, TopicMessage> subscribeTopicMethod = method
+                .toBuilder(method.getRequestMarshaller(), TopicMessageMarshaller.INSTANCE)
+                .build();
+
+        ServiceDescriptor.Builder serviceDescriptorBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+                .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor())
+                .addMethod(subscribeTopicMethod);
+        serviceDescriptor.getMethods()
+                .stream()
+                .filter(m -> !m.getFullMethodName().equals(method.getFullMethodName()))
+                .forEach(serviceDescriptorBuilder::addMethod);
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceDescriptorBuilder.build())
+                .addMethod(subscribeTopicMethod, io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+                        (request, responseObserver) -> ServerCalls.oneToMany(request, responseObserver,
+                                this::subscribeTopicMessages)));
+
+        for (ServerMethodDefinition<?, ?> methodDefinition : definition.getMethods()) {
+            if (!methodDefinition.getMethodDescriptor().getFullMethodName().equals(method.getFullMethodName())) {
+                builder.addMethod(methodDefinition);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private Flux<TopicMessage> subscribeTopicMessages(Mono<ConsensusTopicQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(topicMessageService::subscribeTopic)
-                .map(TopicMessage::getResponse)
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
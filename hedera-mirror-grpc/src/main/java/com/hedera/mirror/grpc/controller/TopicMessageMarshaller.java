@@ -0,0 +1,82 @@
+package com.hedera.mirror.grpc.controller;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.util.ProtoUtil;
+
+/**
+ * Writes the serialized ConsensusTopicResponse cached on a TopicMessage instead of serializing a response for every
+ * subscriber. Since shared listeners emit the same TopicMessage instance to all subscribers of a topic, a message is
+ * serialized once regardless of the number of subscribers. Parsing is delegated to the generated response marshaller.
+ */
+class TopicMessageMarshaller implements MethodDescriptor.Marshaller<TopicMessage> {
+
+    static final TopicMessageMarshaller INSTANCE = new TopicMessageMarshaller(
+            ConsensusServiceGrpc.getSubscribeTopicMethod().getResponseMarshaller());
+
+    private final MethodDescriptor.Marshaller<ConsensusTopicResponse> responseMarshaller;
+
+    private TopicMessageMarshaller(MethodDescriptor.Marshaller<ConsensusTopicResponse> responseMarshaller) {
+        this.responseMarshaller = responseMarshaller;
+    }
+
+    @Override
+    public InputStream stream(TopicMessage topicMessage) {
+        return new ResponseInputStream(topicMessage.getResponseBytes());
+    }
+
+    // The response doesn't include the topic ID, so it's left unset
+    @Override
+    public TopicMessage parse(InputStream stream) {
+        var response = responseMarshaller.parse(stream);
+        var builder = TopicMessage.builder()
+                .consensusTimestamp(ProtoUtil.fromTimestamp(response.getConsensusTimestamp()))
+                .message(response.getMessage().toByteArray())
+                .runningHash(response.getRunningHash().toByteArray())
+                .runningHashVersion((int) response.getRunningHashVersion())
+                .sequenceNumber(response.getSequenceNumber());
+
+        if (response.hasChunkInfo()) {
+            var chunkInfo = response.getChunkInfo();
+            builder.chunkNum(chunkInfo.getNumber())
+                    .chunkTotal(chunkInfo.getTotal())
+                    .initialTransactionId(chunkInfo.getInitialTransactionID().toByteArray());
+        }
+
+        return builder.build();
+    }
+
+    // Lets gRPC size the frame up front instead of buffering the stream
+    private static class ResponseInputStream extends ByteArrayInputStream implements KnownLength {
+
+        private ResponseInputStream(byte[] bytes) {
+            super(bytes);
+        }
+    }
+}
@@ -54,7 +54,8 @@ import com.hedera.mirror.grpc.converter.LongToInstantConverter;
 @AllArgsConstructor
 @Builder
 @Entity
-@JsonIgnoreProperties(ignoreUnknown = true, value = {"consensusTimestampInstant", "response"})
+@JsonIgnoreProperties(ignoreUnknown = true, value = {"consensusTimestampInstant", "response",
+        "responseBytes"})
 @JsonTypeInfo(use = com.fasterxml.jackson.annotation.JsonTypeInfo.Id.NAME)
 @JsonTypeName("TopicMessage")
 @Log4j2
@@ -105,6 +106,13 @@ public class TopicMessage implements Comparable<TopicMessage>, Persistable<Long>
     @Transient
     private final ConsensusTopicResponse response = toResponse();
 
+    // Serialized once and written as is to every subscriber of the topic
+    @EqualsAndHashCode.Exclude
+    @Getter(lazy = true)
+    @ToString.Exclude
+    @Transient
+    private final byte[] responseBytes = getResponse().toByteArray();
+
     private ConsensusTopicResponse toResponse() {
         var consensusTopicResponseBuilder = ConsensusTopicResponse.newBuilder()
                 .setConsensusTimestamp(ProtoUtil.toTimestamp(getConsensusTimestampInstant()))
@@ -34,12 +34,17 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.listener")
 public class ListenerProperties {
 
+    private boolean catchUp = true;
+
     private boolean enabled = true;
 
     @Min(8192)
     @Max(65536)
     private int maxBufferSize = 16384;
 
+    @Min(8192)
+    private long maxBufferedMessages = 500_000L;
+
     @Min(32)
     private int maxPageSize = 5000;
 
@@ -27,35 +27,56 @@ import io.vertx.core.VertxOptions;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.pgclient.pubsub.PgSubscriber;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.time.Duration;
-import java.util.Objects;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import javax.inject.Named;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @Named
 public class NotifyingTopicListener extends SharedTopicListener {
 
+    // Binary payloads are packed by the importer's TopicMessageBatchEncoder, which documents the format
+    static final String BINARY_PREFIX = "b1:";
+    private static final int FLAG_REFERENCE = 1;
+    private static final int FLAG_CHUNK_INFO = 2;
+    private static final int FLAG_INITIAL_TRANSACTION_ID = 4;
+    private static final int FLAG_PAYER_ACCOUNT_ID = 8;
+    private static final int FLAG_VALID_START_TIMESTAMP = 16;
+
     final Mono<PgChannel> channel;
     final ObjectMapper objectMapper;
     private final DbProperties dbProperties;
+    private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
 
-    public NotifyingTopicListener(DbProperties dbProperties, ListenerProperties listenerProperties) {
-        super(listenerProperties);
+    public NotifyingTopicListener(DbProperties dbProperties, ListenerProperties listenerProperties,
+                                  TopicMessageCache topicMessageCache,
+                                  TopicMessageRepository topicMessageRepository) {
+        super(listenerProperties, topicMessageCache);
         this.dbProperties = dbProperties;
+        this.topicMessageRepository = topicMessageRepository;
         objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
         topicMessages = Flux.defer(() -> listen())
-                .map(this::toTopicMessage)
-                .filter(Objects::nonNull)
+                .concatMap(this::toTopicMessages)
+                .doOnNext(topicMessageCache::add)
                 .name("notify")
                 .metrics()
                 .doOnError(t -> log.error("Error listening for messages", t))
@@ -107,6 +128,14 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .thenReturn(subscriber.channel("topic_message"));
     }
 
+    private Flux<TopicMessage> toTopicMessages(String payload) {
+        if (payload.startsWith(BINARY_PREFIX)) {
+            return fromBinary(payload);
+        }
+
+        return Mono.justOrEmpty(toTopicMessage(payload)).flux();
+    }
+
     private TopicMessage toTopicMessage(String payload) {
         try {
             return objectMapper.readValue(payload, TopicMessage.class);
@@ -116,4 +145,79 @@ public class NotifyingTopicListener extends SharedTopicListener {
             return null;
         }
     }
+
+    private Flux<TopicMessage> fromBinary(String payload) {
+        List<Mono<TopicMessage>> topicMessageList = new ArrayList<>();
+
+        try {
+            byte[] bytes = Base64.getDecoder().decode(payload.substring(BINARY_PREFIX.length()));
+            var input = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            while (input.available() > 0) {
+                topicMessageList.add(readTopicMessage(input));
+            }
+        } catch (Exception ex) {
+            // Discard the rest of an invalid payload. No need to propagate error and cause a reconnect.
+            log.error("Error parsing binary payload {}", payload, ex);
+        }
+
+        return Flux.concat(topicMessageList);
+    }
+
+    private Mono<TopicMessage> readTopicMessage(DataInputStream input) throws IOException {
+        int flags = input.readUnsignedByte();
+        long consensusTimestamp = input.readLong();
+        long topicId = input.readLong();
+        long sequenceNumber = input.readLong();
+
+        if ((flags & FLAG_REFERENCE) != 0) {
+            // Too large for a payload so read it from the database. The notification is sent in the transaction that
+            // inserts it, but retry in case the read races the commit becoming visible.
+            Duration interval = listenerProperties.getInterval();
+            return Mono.fromCallable(() -> topicMessageRepository.findById(consensusTimestamp))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(Mono::justOrEmpty)
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("Missing topic message")))
+                    .retryWhen(Retry.backoff(3, interval))
+                    .onErrorResume(e -> {
+                        // Subscribers query the database for the gap once they receive the next message
+                        log.warn("Missing topic message {} of topic {}", sequenceNumber, topicId);
+                        return Mono.empty();
+                    });
+        }
+
+        var builder = TopicMessage.builder()
+                .consensusTimestamp(Instant.ofEpochSecond(0, consensusTimestamp))
+                .runningHashVersion(input.readInt())
+                .runningHash(readBytes(input))
+                .message(readBytes(input))
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId);
+
+        if ((flags & FLAG_CHUNK_INFO) != 0) {
+            builder.chunkNum(input.readInt()).chunkTotal(input.readInt());
+        }
+        if ((flags & FLAG_INITIAL_TRANSACTION_ID) != 0) {
+            builder.initialTransactionId(readBytes(input));
+        }
+        if ((flags & FLAG_PAYER_ACCOUNT_ID) != 0) {
+            builder.payerAccountId(input.readLong());
+        }
+        if ((flags & FLAG_VALID_START_TIMESTAMP) != 0) {
+            builder.validStartTimestamp(Instant.ofEpochSecond(0, input.readLong()));
+        }
+
+        return Mono.just(builder.build());
+    }
+
+    private byte[] readBytes(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
 }
@@ -40,6 +40,7 @@ import reactor.util.retry.Retry;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @Lazy
 @Log4j2
@@ -52,9 +53,10 @@ public class RedisTopicListener extends SharedTopicListener {
     private final Map<String, Flux<TopicMessage>> topicMessages; // Topic name to active subscription
 
     public RedisTopicListener(ListenerProperties listenerProperties,
+                              TopicMessageCache topicMessageCache,
                               ReactiveRedisConnectionFactory connectionFactory,
                               RedisSerializer<?> redisSerializer) {
-        super(listenerProperties);
+        super(listenerProperties, topicMessageCache);
         this.channelSerializer = SerializationPair.fromSerializer(RedisSerializer.string());
         this.messageSerializer = (SerializationPair<TopicMessage>) SerializationPair.fromSerializer(redisSerializer);
         this.topicMessages = new ConcurrentHashMap<>();
@@ -84,6 +86,7 @@ public class RedisTopicListener extends SharedTopicListener {
 
         return container.flatMapMany(r -> r.receive(Arrays.asList(topic), channelSerializer, messageSerializer))
                 .map(Message::getMessage)
+                .doOnNext(topicMessageCache::add)
                 .name("redis")
                 .metrics()
                 .doOnCancel(() -> unsubscribe(topic))
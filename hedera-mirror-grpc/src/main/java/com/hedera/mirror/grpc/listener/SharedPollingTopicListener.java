@@ -21,15 +21,23 @@ package com.hedera.mirror.grpc.listener;
  */
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
 import lombok.Data;
+import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Repeat;
@@ -39,20 +47,38 @@ import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
+/**
+ * Polls the database for new messages of all topics and routes each message only to the subscribers of its topic.
+ */
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    static final String METRIC_DROPPED = "hedera.mirror.grpc.listener.dropped";
+    static final String METRIC_ROUTED = "hedera.mirror.grpc.listener.routed";
+    static final String METRIC_UNROUTED = "hedera.mirror.grpc.listener.unrouted";
+
     private final TopicMessageRepository topicMessageRepository;
     private final InstantToLongConverter instantToLongConverter;
+    private final MeterRegistry meterRegistry;
     private final Flux<TopicMessage> topicMessages;
+    private final Map<Long, TopicRoute> routes = new ConcurrentHashMap<>(); // Topic ID to its subscribers
+    private final Counter unrouted;
+    private Disposable routing;
 
     public SharedPollingTopicListener(ListenerProperties listenerProperties,
+                                      TopicMessageCache topicMessageCache,
                                       TopicMessageRepository topicMessageRepository,
-                                      InstantToLongConverter instantToLongConverter) {
-        super(listenerProperties);
+                                      InstantToLongConverter instantToLongConverter,
+                                      MeterRegistry meterRegistry) {
+        super(listenerProperties, topicMessageCache);
         this.topicMessageRepository = topicMessageRepository;
         this.instantToLongConverter = instantToLongConverter;
+        this.meterRegistry = meterRegistry;
+        this.unrouted = Counter.builder(METRIC_UNROUTED)
+                .description("The number of polled messages discarded since their topic had no subscribers")
+                .register(meterRegistry);
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
         Duration interval = listenerProperties.getInterval();
@@ -73,7 +99,56 @@ public class SharedPollingTopicListener extends SharedTopicListener {
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        long topicId = filter.getTopicId().getId();
+        return Flux.from(subscriber -> subscribe(topicId, subscriber));
+    }
+
+    private synchronized void subscribe(long topicId, Subscriber<? super TopicMessage> subscriber) {
+        var route = routes.get(topicId);
+        var topicRoute = route != null ? route : new TopicRoute(topicId);
+        topicRoute.subscribers++;
+
+        // Subscribe to a new route before publishing it so messages are never routed to it without a subscriber
+        topicRoute.sink.asFlux().doFinally(s -> unsubscribe(topicRoute)).subscribe(subscriber);
+        if (route != null || topicRoute.subscribers <= 0) {
+            return;
+        }
+
+        routes.put(topicId, topicRoute);
+        if (routing == null) {
+            routing = topicMessages.subscribe(this::route, this::onError);
+        }
+    }
+
+    private synchronized void unsubscribe(TopicRoute route) {
+        if (--route.subscribers <= 0) {
+            routes.remove(route.topicId, route);
+            route.close();
+        }
+
+        // Stop polling once the last subscriber is gone
+        if (routes.isEmpty() && routing != null) {
+            routing.dispose();
+            routing = null;
+        }
+    }
+
+    private void route(TopicMessage topicMessage) {
+        var route = routes.get(topicMessage.getTopicId());
+        if (route != null) {
+            topicMessageCache.add(topicMessage);
+            route.emit(topicMessage);
+        } else {
+            unrouted.increment();
+        }
+    }
+
+    // Errored routes are removed so new subscribers get a new route instead of the terminated sink
+    private synchronized void onError(Throwable throwable) {
+        var errored = List.copyOf(routes.values());
+        routes.clear();
+        routing = null;
+        errored.forEach(route -> route.sink.tryEmitError(throwable));
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -91,6 +166,43 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnSubscribe(context::onPollStart);
     }
 
+    private class TopicRoute {
+
+        // Subscribers always have demand since each buffers messages after subscribing
+        private final Sinks.Many<TopicMessage> sink = Sinks.many().multicast().directBestEffort();
+        private final Counter dropped;
+        private final Counter routed;
+        private final long topicId;
+        private int subscribers = 0;
+
+        private TopicRoute(long topicId) {
+            this.topicId = topicId;
+            var topic = String.valueOf(topicId);
+            dropped = Counter.builder(METRIC_DROPPED)
+                    .description("The number of messages of a topic that couldn't be delivered to its subscribers")
+                    .tag("topic", topic)
+                    .register(meterRegistry);
+            routed = Counter.builder(METRIC_ROUTED)
+                    .description("The number of messages of a topic delivered to its subscribers")
+                    .tag("topic", topic)
+                    .register(meterRegistry);
+        }
+
+        private void emit(TopicMessage topicMessage) {
+            int count = sink.currentSubscriberCount();
+            if (sink.tryEmitNext(topicMessage).isSuccess()) {
+                routed.increment(count);
+            } else {
+                dropped.increment();
+            }
+        }
+
+        private void close() {
+            meterRegistry.remove(dropped);
+            meterRegistry.remove(routed);
+        }
+    }
+
     @Data
     private class PollingContext {
 
@@ -20,6 +20,7 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,29 +32,58 @@ import reactor.core.scheduler.Schedulers;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @RequiredArgsConstructor
 public abstract class SharedTopicListener implements TopicListener {
 
     protected final Logger log = LogManager.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    protected final TopicMessageCache topicMessageCache;
+    private final AtomicLong buffered = new AtomicLong(0L); // Across all subscribers
 
     @Override
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
         DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
         FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
+        AtomicLong pending = new AtomicLong(0L);
 
         // moving publishOn from after onBackpressureBuffer to after Flux.merge reduces CPU usage by up to 40%
         Flux<TopicMessage> topicMessageFlux = getSharedListener(filter)
                 .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
+                .doOnNext(t -> {
+                    if (isOverGlobalLimit(pending.incrementAndGet(), buffered.incrementAndGet())) {
+                        overflowSink.error(Exceptions.failWithOverflow());
+                    }
+                })
                 .onBackpressureBuffer(
                         listenerProperties.getMaxBufferSize(),
                         t -> overflowSink.error(Exceptions.failWithOverflow())
                 )
-                .doFinally(s -> overflowSink.complete());
+                .doOnNext(t -> {
+                    pending.decrementAndGet();
+                    buffered.decrementAndGet();
+                })
+                .doFinally(s -> {
+                    buffered.addAndGet(-pending.getAndSet(0L));
+                    overflowSink.complete();
+                });
         return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
                 .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
     }
 
+    /**
+     * Bounds the heap used by all subscriber buffers. When the total is exceeded, subscribers that have fallen behind
+     * by more than the prefetch size are overflowed so that they can catch up from the database, while subscribers
+     * that keep up are unaffected.
+     */
+    private boolean isOverGlobalLimit(long pending, long total) {
+        return total > listenerProperties.getMaxBufferedMessages() && pending > listenerProperties.getPrefetch();
+    }
+
+    /**
+     * Returns the messages of the filter's topic from a source shared by all subscribers. Implementations add each
+     * message to the topic message cache once from that shared source, not once per subscriber.
+     */
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
 }
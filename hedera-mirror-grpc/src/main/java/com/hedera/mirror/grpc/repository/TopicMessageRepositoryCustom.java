@@ -21,13 +21,15 @@ package com.hedera.mirror.grpc.repository;
  */
 
 import java.util.stream.Stream;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 
 public interface TopicMessageRepositoryCustom {
 
-    @Transactional(readOnly = true)
+    /**
+     * Lazily streams the messages matching the filter, reading the next page of messages from the database as the
+     * previous one is consumed. No database connection is held between pages.
+     */
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
 }
@@ -20,62 +20,175 @@ package com.hedera.mirror.grpc.repository;
  * ‍
  */
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.inject.Named;
-import javax.persistence.EntityManager;
-import javax.persistence.TypedQuery;
-import javax.persistence.criteria.CriteriaBuilder;
-import javax.persistence.criteria.CriteriaQuery;
-import javax.persistence.criteria.Predicate;
-import javax.persistence.criteria.Root;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.hibernate.jpa.QueryHints;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
 
 import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
 
+/**
+ * Streams topic messages a bounded page at a time so that only a page of rows is held in memory at a time. The page
+ * size is the filter's limit, which the listeners and retrievers already bound by their max page size, or the
+ * listener's max page size otherwise. Rows are mapped directly to immutable messages without going through the
+ * persistence context. Each page is read with its own short-lived connection that is returned to the pool before any
+ * of its messages are emitted, so slow subscribers never hold a connection.
+ */
 @Log4j2
 @Named
 @RequiredArgsConstructor
 public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryCustom {
 
     // make the cost estimation of using the index on (topic_id, consensus_timestamp) lower than that of
-    // the primary key so pg planner will choose the better index when querying topic messages by id
-    private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
+    // the primary key so pg planner will choose the better index when querying topic messages by id. It's sent in
+    // the same statement as the query so it doesn't cost a separate round trip.
+    private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0; ";
 
-    private static final String CONSENSUS_TIMESTAMP = "consensusTimestamp";
+    private static final String TOPIC_MESSAGES_QUERY = TOPIC_MESSAGES_BY_ID_QUERY_HINT + "select chunk_num, " +
+            "chunk_total, consensus_timestamp, initial_transaction_id, message, payer_account_id, running_hash, " +
+            "running_hash_version, sequence_number, topic_id, valid_start_timestamp from topic_message where " +
+            "topic_id = ? and consensus_timestamp >= ? and consensus_timestamp < ? order by consensus_timestamp " +
+            "asc limit ?";
 
-    private final EntityManager entityManager;
+    private final DataSource dataSource;
     private final InstantToLongConverter converter;
+    private final ListenerProperties listenerProperties;
+    private final SQLExceptionTranslator exceptionTranslator = new SQLStateSQLExceptionTranslator();
 
     @Override
     public Stream<TopicMessage> findByFilter(TopicMessageFilter filter) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<TopicMessage> query = cb.createQuery(TopicMessage.class);
-        Root<TopicMessage> root = query.from(TopicMessage.class);
-
-        Predicate predicate = cb.and(
-                cb.equal(root.get("topicId"), filter.getTopicId().getId()),
-                cb.greaterThanOrEqualTo(root.get(CONSENSUS_TIMESTAMP), converter.convert(filter.getStartTime()))
-        );
-
-        if (filter.getEndTime() != null) {
-            predicate = cb.and(predicate, cb
-                    .lessThan(root.get(CONSENSUS_TIMESTAMP), converter.convert(filter.getEndTime())));
+        long endTime = filter.getEndTime() != null ? converter.convert(filter.getEndTime()) : Long.MAX_VALUE;
+        long limit = filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE;
+        int pageSize = (int) Math.min(filter.hasLimit() ? limit : listenerProperties.getMaxPageSize(),
+                Integer.MAX_VALUE);
+        var pages = new TopicMessagePages(filter.getTopicId().getId(), filter.getStartTimeLong(), endTime, limit,
+                pageSize);
+        return StreamSupport.stream(pages, false);
+    }
+
+    // The hint only applies within a transaction, so the page is read in a read-only transaction on its own connection
+    private List<TopicMessage> findPage(long topicId, long startTime, long endTime, int limit) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(TOPIC_MESSAGES_QUERY)) {
+                preparedStatement.setLong(1, topicId);
+                preparedStatement.setLong(2, startTime);
+                preparedStatement.setLong(3, endTime);
+                preparedStatement.setLong(4, limit);
+                preparedStatement.execute();
+                preparedStatement.getMoreResults(); // Skip the hint's update count to the query's result set
+
+                int capacity = Math.min(limit, listenerProperties.getMaxPageSize());
+                List<TopicMessage> topicMessages = new ArrayList<>(capacity);
+                try (ResultSet resultSet = preparedStatement.getResultSet()) {
+                    while (resultSet.next()) {
+                        topicMessages.add(map(resultSet));
+                    }
+                }
+
+                return topicMessages;
+            } finally {
+                connection.rollback(); // Read-only, so just end the transaction before returning it to the pool
+                connection.setReadOnly(false);
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw translate(e);
         }
+    }
+
+    private TopicMessage map(ResultSet rs) throws SQLException {
+        return TopicMessage.builder()
+                .chunkNum(rs.getObject(1, Integer.class))
+                .chunkTotal(rs.getObject(2, Integer.class))
+                .consensusTimestamp(rs.getLong(3))
+                .initialTransactionId(rs.getBytes(4))
+                .message(rs.getBytes(5))
+                .payerAccountId(rs.getObject(6, Long.class))
+                .runningHash(rs.getBytes(7))
+                .runningHashVersion(rs.getInt(8))
+                .sequenceNumber(rs.getLong(9))
+                .topicId(rs.getLong(10))
+                .validStartTimestamp(rs.getObject(11, Long.class))
+                .build();
+    }
 
-        query = query.select(root).where(predicate).orderBy(cb.asc(root.get(CONSENSUS_TIMESTAMP)));
+    private DataAccessException translate(SQLException e) {
+        return exceptionTranslator.translate("findByFilter", TOPIC_MESSAGES_QUERY, e);
+    }
+
+    /**
+     * Reads the next page once the messages of the current one have been emitted, starting after the last message
+     * read. A page shorter than requested means there are no more messages.
+     */
+    private class TopicMessagePages extends Spliterators.AbstractSpliterator<TopicMessage> {
+
+        private final long topicId;
+        private final long endTime;
+        private final int pageSize;
+        private long startTime;
+        private long remaining;
+        private boolean exhausted = false;
+        private Iterator<TopicMessage> page = Collections.emptyIterator();
+
+        private TopicMessagePages(long topicId, long startTime, long endTime, long limit, int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
+            this.topicId = topicId;
+            this.pageSize = pageSize;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.remaining = limit;
+        }
 
-        TypedQuery<TopicMessage> typedQuery = entityManager.createQuery(query);
-        typedQuery.setHint(QueryHints.HINT_READONLY, true);
+        @Override
+        public boolean tryAdvance(Consumer<? super TopicMessage> action) {
+            if (!page.hasNext() && !nextPage()) {
+                return false;
+            }
 
-        if (filter.hasLimit()) {
-            typedQuery.setMaxResults((int) filter.getLimit());
+            action.accept(page.next());
+            return true;
         }
 
-        entityManager.createNativeQuery(TOPIC_MESSAGES_BY_ID_QUERY_HINT).executeUpdate();
-        return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
+        private boolean nextPage() {
+            if (exhausted || remaining <= 0) {
+                return false;
+            }
+
+            int size = (int) Math.min(pageSize, remaining);
+            var topicMessages = findPage(topicId, startTime, endTime, size);
+            int count = topicMessages.size();
+            exhausted = count < size;
+            remaining -= count;
+
+            if (count == 0) {
+                return false;
+            }
+
+            startTime = topicMessages.get(count - 1).getConsensusTimestamp() + 1;
+            page = topicMessages.iterator();
+            return true;
+        }
     }
 }
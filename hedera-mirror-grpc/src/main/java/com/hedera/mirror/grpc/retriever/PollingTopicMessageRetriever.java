@@ -45,12 +45,15 @@ import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(RetrieverProperties retrieverProperties,
+                                        TopicMessageCache topicMessageCache,
                                         TopicMessageRepository topicMessageRepository) {
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageCache = topicMessageCache;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount = retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
@@ -63,11 +66,12 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         }
 
         PollingContext context = new PollingContext(filter, throttled);
-        return Flux.defer(() -> poll(context))
-                .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
-                        .fixedBackoff(context.getFrequency())
-                        .jitter(Jitter.random(0.1))
-                        .withBackoffScheduler(scheduler))
+        return Flux.defer(() -> cached(context))
+                .concatWith(Flux.defer(() -> poll(context))
+                        .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
+                                .fixedBackoff(context.getFrequency())
+                                .jitter(Jitter.random(0.1))
+                                .withBackoffScheduler(scheduler)))
                 .name("retriever")
                 .metrics()
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)))
@@ -77,7 +81,25 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                 .doOnNext(context::onNext);
     }
 
+    /**
+     * Serves the start of the range from the cache if it covers the start time. The database is then only polled for
+     * messages newer than the last cached message, which is usually a single query that returns nothing.
+     */
+    private Flux<TopicMessage> cached(PollingContext context) {
+        if (context.getTotal().get() > 0) {
+            return Flux.empty(); // Already emitted before a retry
+        }
+
+        return topicMessageCache.get(context.getFilter())
+                .map(Flux::fromIterable)
+                .orElseGet(Flux::empty);
+    }
+
     private Flux<TopicMessage> poll(PollingContext context) {
+        if (context.isLimitHit()) {
+            return Flux.empty();
+        }
+
         TopicMessageFilter filter = context.getFilter();
         TopicMessage last = context.getLast();
         int limit = filter.hasLimit() ? (int) (filter.getLimit() - context.getTotal().get()) : Integer.MAX_VALUE;
@@ -137,7 +159,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
          * @return whether all historic messages have been returned
          */
         boolean isComplete() {
-            boolean limitHit = filter.hasLimit() && filter.getLimit() == total.get();
+            boolean limitHit = isLimitHit();
 
             if (throttled) {
                 return pageSize.get() < retrieverProperties.getMaxPageSize() || limitHit;
@@ -146,6 +168,10 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return limitHit;
         }
 
+        boolean isLimitHit() {
+            return filter.hasLimit() && filter.getLimit() == total.get();
+        }
+
         void onNext(TopicMessage topicMessage) {
             last.set(topicMessage);
             total.incrementAndGet();
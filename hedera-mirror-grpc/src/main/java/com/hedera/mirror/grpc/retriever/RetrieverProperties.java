@@ -33,6 +33,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
     @Min(32)
@@ -50,6 +53,20 @@ public class RetrieverProperties {
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxAge = Duration.ofSeconds(60L);
+
+        @Min(1)
+        private int maxMessages = 1000;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
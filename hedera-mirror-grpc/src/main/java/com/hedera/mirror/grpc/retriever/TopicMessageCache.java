@@ -0,0 +1,211 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+/**
+ * Keeps the most recent messages of each topic that has active subscribers in a bounded ring buffer so that
+ * subscribers starting near the tip of a topic can be served from memory instead of the database. A buffer only ever
+ * holds a contiguous run of sequence numbers, so a retrieval whose start time falls within its window is guaranteed to
+ * be complete up to the latest buffered message.
+ */
+@Log4j2
+@Named
+@RequiredArgsConstructor
+public class TopicMessageCache {
+
+    private final RetrieverProperties retrieverProperties;
+    private final Map<Long, TopicBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Appends a message received by a shared topic listener to its topic's buffer. Each listener calls this once per
+     * message, not once per subscriber. Messages already buffered are ignored. A gap in the sequence numbers, such as
+     * one the subscribers fill from the database, restarts the buffer at the given message.
+     */
+    public void add(TopicMessage topicMessage) {
+        TopicBuffer buffer = buffers.get(topicMessage.getTopicId());
+        if (buffer != null) {
+            buffer.add(topicMessage, minTimestamp());
+        }
+    }
+
+    /**
+     * Returns the buffered messages matching the filter if the buffer covers its start time, otherwise empty.
+     */
+    public Optional<List<TopicMessage>> get(TopicMessageFilter filter) {
+        if (!retrieverProperties.getCache().isEnabled()) {
+            return Optional.empty();
+        }
+
+        TopicBuffer buffer = buffers.get(filter.getTopicId().getId());
+        if (buffer == null) {
+            return Optional.empty();
+        }
+
+        long endTime = filter.getEndTime() != null ? InstantToLongConverter.INSTANCE.convert(filter.getEndTime()) :
+                Long.MAX_VALUE;
+        long limit = filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE;
+        List<TopicMessage> messages = buffer.get(filter.getStartTimeLong(), endTime, limit, minTimestamp());
+
+        if (messages != null) {
+            log.debug("[{}] Retrieved {} messages from cache for topic {}", filter.getSubscriberId(), messages.size(),
+                    filter.getTopicId());
+        }
+
+        return Optional.ofNullable(messages);
+    }
+
+    public void subscribe(EntityId topicId) {
+        if (retrieverProperties.getCache().isEnabled()) {
+            int capacity = retrieverProperties.getCache().getMaxMessages();
+            buffers.compute(topicId.getId(), (id, buffer) -> {
+                TopicBuffer topicBuffer = buffer != null ? buffer : new TopicBuffer(capacity);
+                topicBuffer.subscribers++;
+                return topicBuffer;
+            });
+        }
+    }
+
+    public void unsubscribe(EntityId topicId) {
+        buffers.computeIfPresent(topicId.getId(), (id, buffer) -> --buffer.subscribers > 0 ? buffer : null);
+    }
+
+    private long minTimestamp() {
+        Instant minTime = Instant.now().minus(retrieverProperties.getCache().getMaxAge());
+        return InstantToLongConverter.INSTANCE.convert(minTime);
+    }
+
+    private static class TopicBuffer {
+
+        private final TopicMessage[] messages;
+        private int head = 0;
+        private int size = 0;
+        private int subscribers = 0; // Only accessed within the map's compute functions
+
+        private TopicBuffer(int capacity) {
+            messages = new TopicMessage[capacity];
+        }
+
+        synchronized void add(TopicMessage topicMessage, long minTimestamp) {
+            if (topicMessage.getConsensusTimestamp() < minTimestamp) {
+                return;
+            }
+
+            if (size > 0) {
+                long lastSequenceNumber = at(size - 1).getSequenceNumber();
+
+                if (topicMessage.getSequenceNumber() <= lastSequenceNumber) {
+                    return;
+                } else if (topicMessage.getSequenceNumber() != lastSequenceNumber + 1) {
+                    clear();
+                }
+            }
+
+            if (size == messages.length) {
+                removeFirst();
+            }
+
+            messages[(head + size) % messages.length] = topicMessage;
+            size++;
+            evict(minTimestamp);
+        }
+
+        synchronized List<TopicMessage> get(long startTime, long endTime, long limit, long minTimestamp) {
+            evict(minTimestamp);
+
+            if (size == 0 || at(0).getConsensusTimestamp() > startTime) {
+                return null;
+            }
+
+            int index = indexOf(startTime);
+            if (index >= size) {
+                return Collections.emptyList();
+            }
+
+            List<TopicMessage> result = new ArrayList<>((int) Math.min(limit, size - index));
+
+            for (int i = index; i < size && result.size() < limit; ++i) {
+                TopicMessage topicMessage = at(i);
+                if (topicMessage.getConsensusTimestamp() >= endTime) {
+                    break;
+                }
+                result.add(topicMessage);
+            }
+
+            return result;
+        }
+
+        private TopicMessage at(int index) {
+            return messages[(head + index) % messages.length];
+        }
+
+        private void clear() {
+            while (size > 0) {
+                removeFirst();
+            }
+            head = 0;
+        }
+
+        private void evict(long minTimestamp) {
+            while (size > 0 && at(0).getConsensusTimestamp() < minTimestamp) {
+                removeFirst();
+            }
+        }
+
+        // Returns the index of the first message at or after the timestamp
+        private int indexOf(long timestamp) {
+            int low = 0;
+            int high = size;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (at(mid).getConsensusTimestamp() < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        private void removeFirst() {
+            messages[head] = null;
+            head = (head + 1) % messages.length;
+            size--;
+        }
+    }
+}
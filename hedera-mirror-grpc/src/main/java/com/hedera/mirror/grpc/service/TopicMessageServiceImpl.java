@@ -25,6 +25,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.PostConstruct;
@@ -33,10 +34,12 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
 import reactor.retry.Repeat;
+import reactor.util.retry.Retry;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
@@ -45,8 +48,10 @@ import com.hedera.mirror.grpc.domain.Entity;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
 import com.hedera.mirror.grpc.listener.TopicListener;
 import com.hedera.mirror.grpc.repository.EntityRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
 
 @Named
@@ -56,9 +61,11 @@ import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
 public class TopicMessageServiceImpl implements TopicMessageService {
 
     private final GrpcProperties grpcProperties;
+    private final ListenerProperties listenerProperties;
     private final TopicListener topicListener;
     private final EntityRepository entityRepository;
     private final TopicMessageRetriever topicMessageRetriever;
+    private final TopicMessageCache topicMessageCache;
     private final MeterRegistry meterRegistry;
     private final AtomicLong subscriberCount = new AtomicLong(0L);
 
@@ -88,11 +95,21 @@ public class TopicMessageServiceImpl implements TopicMessageService {
         }
 
         return topicExists(filter).thenMany(flux.doOnNext(topicContext::onNext)
-                .doOnSubscribe(s -> subscriberCount.incrementAndGet())
-                .doFinally(s -> subscriberCount.decrementAndGet())
+                .doOnSubscribe(s -> subscribed(filter))
+                .doFinally(s -> unsubscribed(filter))
                 .doFinally(topicContext::finished));
     }
 
+    private void subscribed(TopicMessageFilter filter) {
+        subscriberCount.incrementAndGet();
+        topicMessageCache.subscribe(filter.getTopicId());
+    }
+
+    private void unsubscribed(TopicMessageFilter filter) {
+        subscriberCount.decrementAndGet();
+        topicMessageCache.unsubscribe(filter.getTopicId());
+    }
+
     private Mono<?> topicExists(TopicMessageFilter filter) {
         var topicId = filter.getTopicId();
         return Mono.justOrEmpty(entityRepository.findById(topicId.getId()))
@@ -107,14 +124,18 @@ public class TopicMessageServiceImpl implements TopicMessageService {
             return Flux.empty();
         }
 
-        TopicMessageFilter filter = topicContext.getFilter();
-        TopicMessage last = topicContext.getLast();
-        long limit = filter.hasLimit() ? filter.getLimit() - topicContext.getCount().get() : 0;
-        Instant startTime = last != null ? last.getConsensusTimestampInstant().plusNanos(1) : filter.getStartTime();
+        return Flux.defer(() -> catchUp(topicContext))
+                .concatWith(Flux.defer(() -> listen(topicContext)))
+                .retryWhen(Retry.indefinitely()
+                        .filter(t -> listenerProperties.isCatchUp() && Exceptions.isOverflow(t))
+                        .doBeforeRetry(r -> topicContext.getBehind().set(true)));
+    }
 
+    private Flux<TopicMessage> listen(TopicContext topicContext) {
+        TopicMessageFilter filter = topicContext.getFilter();
         TopicMessageFilter newFilter = filter.toBuilder()
-                .limit(limit)
-                .startTime(startTime)
+                .limit(topicContext.getRemaining())
+                .startTime(topicContext.getNextStartTime())
                 .build();
 
         return topicListener.listen(newFilter)
@@ -122,6 +143,27 @@ public class TopicMessageServiceImpl implements TopicMessageService {
                 .concatMap(t -> missingMessages(topicContext, t));
     }
 
+    /**
+     * A subscriber that falls too far behind the live stream overflows its listener buffer. Instead of disconnecting
+     * it, page through the messages it missed from the database and then rejoin the live stream.
+     */
+    private Flux<TopicMessage> catchUp(TopicContext topicContext) {
+        if (!topicContext.getBehind().getAndSet(false)) {
+            return Flux.empty();
+        }
+
+        TopicMessageFilter newFilter = topicContext.getFilter().toBuilder()
+                .limit(topicContext.getRemaining())
+                .startTime(topicContext.getNextStartTime())
+                .build();
+
+        log.info("[{}] Subscriber fell behind on topic {}, catching up from {}", newFilter.getSubscriberId(),
+                topicContext.getTopicId(), newFilter.getStartTime());
+        return topicMessageRetriever.retrieve(newFilter, true)
+                .name("catchUp")
+                .metrics();
+    }
+
     private Flux<Object> pastEndTime(TopicContext topicContext) {
         if (topicContext.getFilter().getEndTime() == null) {
             return Flux.never();
@@ -175,6 +217,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
     @Data
     private class TopicContext {
 
+        private final AtomicBoolean behind;
         private final AtomicLong count;
         private final TopicMessageFilter filter;
         private final AtomicReference<TopicMessage> last;
@@ -183,6 +226,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
         private final EntityId topicId;
 
         private TopicContext(TopicMessageFilter filter) {
+            this.behind = new AtomicBoolean(false);
             this.count = new AtomicLong(0L);
             this.filter = filter;
             this.last = new AtomicReference<>();
@@ -195,6 +239,16 @@ public class TopicMessageServiceImpl implements TopicMessageService {
             return last.get();
         }
 
+        Instant getNextStartTime() {
+            TopicMessage topicMessage = getLast();
+            return topicMessage != null ? topicMessage.getConsensusTimestampInstant().plusNanos(1) :
+                    filter.getStartTime();
+        }
+
+        long getRemaining() {
+            return filter.hasLimit() ? filter.getLimit() - count.get() : 0;
+        }
+
         boolean isComplete() {
             if (filter.getEndTime() == null) {
                 return false;
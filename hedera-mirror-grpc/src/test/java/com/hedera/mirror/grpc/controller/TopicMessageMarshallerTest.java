@@ -0,0 +1,77 @@
+package com.hedera.mirror.grpc.controller;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.grpc.KnownLength;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+class TopicMessageMarshallerTest {
+
+    @Test
+    void stream() throws Exception {
+        TopicMessage topicMessage = TopicMessage.builder()
+                .consensusTimestamp(1L)
+                .message(new byte[] {1, 2, 3})
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .sequenceNumber(1L)
+                .topicId(100L)
+                .build();
+
+        InputStream stream = TopicMessageMarshaller.INSTANCE.stream(topicMessage);
+
+        assertThat(stream).isInstanceOf(KnownLength.class);
+        assertThat(stream.available()).isEqualTo(topicMessage.getResponseBytes().length);
+        assertThat(ConsensusTopicResponse.parseFrom(stream)).isEqualTo(topicMessage.getResponse());
+        assertThat(topicMessage.getResponseBytes()).isSameAs(topicMessage.getResponseBytes());
+    }
+
+    @Test
+    void parse() {
+        TopicMessage topicMessage = TopicMessage.builder()
+                .chunkNum(1)
+                .chunkTotal(2)
+                .consensusTimestamp(1L)
+                .initialTransactionId(new byte[] {10, 2, 8, 1})
+                .message(new byte[] {1, 2, 3})
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .sequenceNumber(1L)
+                .build();
+
+        var stream = new ByteArrayInputStream(topicMessage.getResponseBytes());
+        var parsed = TopicMessageMarshaller.INSTANCE.parse(stream);
+
+        assertThat(parsed.getResponse()).isEqualTo(topicMessage.getResponse());
+        assertThat(parsed)
+                .returns(topicMessage.getConsensusTimestamp(), TopicMessage::getConsensusTimestamp)
+                .returns(topicMessage.getSequenceNumber(), TopicMessage::getSequenceNumber)
+                .returns(topicMessage.getChunkNum(), TopicMessage::getChunkNum)
+                .returns(topicMessage.getChunkTotal(), TopicMessage::getChunkTotal);
+    }
+}
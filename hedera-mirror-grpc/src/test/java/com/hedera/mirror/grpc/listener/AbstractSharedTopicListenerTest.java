@@ -20,10 +20,13 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
 import java.time.Instant;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import javax.annotation.Resource;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import reactor.core.Exceptions;
@@ -32,9 +35,17 @@ import reactor.test.StepVerifier;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.RetrieverProperties;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListenerTest {
 
+    @Resource
+    private RetrieverProperties retrieverProperties;
+
+    @Resource
+    private TopicMessageCache topicMessageCache;
+
     @Test
     @DisplayName("slow subscriber receives overflow exception and normal subscriber is not affected")
     void slowSubscriberOverflowException() {
@@ -92,4 +103,45 @@ public abstract class AbstractSharedTopicListenerTest extends AbstractTopicListe
 
         stepVerifierFast.verify(Duration.ofMillis(1000L));
     }
+
+    @Test
+    @DisplayName("messages are cached once from the shared listener for all subscribers")
+    void cachesMessages() {
+        var cacheProperties = retrieverProperties.getCache();
+        cacheProperties.setEnabled(true);
+        topicMessageCache.subscribe(topicId);
+
+        try {
+            TopicMessageFilter filter = TopicMessageFilter.builder()
+                    .startTime(Instant.EPOCH)
+                    .topicId(topicId)
+                    .build();
+            var topicMessages = domainBuilder.topicMessages(2, future);
+
+            var otherSubscriber = topicListener.listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .expectNext(1L, 2L)
+                    .thenCancel()
+                    .verifyLater();
+
+            topicListener.listen(filter)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .thenAwait(Duration.ofMillis(50))
+                    .then(() -> publish(topicMessages))
+                    .expectNext(1L, 2L)
+                    .thenCancel()
+                    .verify(Duration.ofMillis(1000));
+            otherSubscriber.verify(Duration.ofMillis(1000));
+
+            assertThat(topicMessageCache.get(filter.toBuilder().startTime(future).build()))
+                    .hasValueSatisfying(cached -> assertThat(cached)
+                            .extracting(TopicMessage::getSequenceNumber)
+                            .containsExactly(1L, 2L));
+        } finally {
+            topicMessageCache.unsubscribe(topicId);
+            cacheProperties.setEnabled(false);
+        }
+    }
 }
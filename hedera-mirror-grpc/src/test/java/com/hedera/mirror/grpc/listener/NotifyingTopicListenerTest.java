@@ -20,8 +20,11 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import javax.annotation.Resource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -96,6 +99,52 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(Duration.ofMillis(500L));
     }
 
+    // Test decoding of the binary payload format packed by the importer
+    @Test
+    void binary() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        var output = new DataOutputStream(bytes);
+        for (int sequenceNumber = 1; sequenceNumber <= 2; sequenceNumber++) {
+            output.writeByte(2 | 8 | 16); // chunk info, payer and valid start
+            output.writeLong(1594401417000000000L + sequenceNumber);
+            output.writeLong(1001L);
+            output.writeLong(sequenceNumber);
+            output.writeInt(2);
+            output.writeInt(3);
+            output.write(new byte[] {4, 5, 6});
+            output.writeInt(3);
+            output.write(new byte[] {1, 2, 3});
+            output.writeInt(1);
+            output.writeInt(2);
+            output.writeLong(4294968296L);
+            output.writeLong(1594401416000000000L);
+        }
+        String payload = NotifyingTopicListener.BINARY_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+
+        var builder = TopicMessage.builder().chunkNum(1)
+                .chunkTotal(2)
+                .message(new byte[] {1, 2, 3})
+                .payerAccountId(4294968296L)
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .topicId(1001)
+                .validStartTimestamp(Instant.ofEpochSecond(1594401416));
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(EntityId.of(1001L, EntityType.TOPIC))
+                .build();
+
+        topicListener.listen(filter)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50))
+                .then(() -> jdbcTemplate.execute("NOTIFY topic_message, '" + payload + "'"))
+                .expectNext(builder.consensusTimestamp(Instant.ofEpochSecond(1594401417, 1)).sequenceNumber(1L).build())
+                .expectNext(builder.consensusTimestamp(Instant.ofEpochSecond(1594401417, 2)).sequenceNumber(2L).build())
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+    }
+
     @Test
     void jsonError() {
         TopicMessageFilter filter = TopicMessageFilter.builder()
@@ -20,10 +20,73 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Resource;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
 class SharedPollingTopicListenerTest extends AbstractSharedTopicListenerTest {
 
+    @Resource
+    private MeterRegistry meterRegistry;
+
     @Override
     protected ListenerProperties.ListenerType getType() {
         return ListenerProperties.ListenerType.SHARED_POLL;
     }
+
+    @Test
+    void routesByTopic() {
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(topicId)
+                .build();
+        var topicMessages = Flux.concat(
+                domainBuilder.topicMessage(t -> t.topicId(101L).consensusTimestamp(future)),
+                domainBuilder.topicMessage(t -> t.topicId(topicId.getId()).consensusTimestamp(future.plusNanos(1L))));
+
+        topicListener.listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50))
+                .then(() -> publish(topicMessages))
+                .expectNext(2L)
+                .thenCancel()
+                .verify(Duration.ofMillis(1000));
+
+        assertThat(meterRegistry.find(SharedPollingTopicListener.METRIC_UNROUTED).counter())
+                .isNotNull()
+                .satisfies(c -> assertThat(c.count()).isPositive());
+    }
+
+    @Test
+    void removesRouteOnCancel() {
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(topicId)
+                .build();
+        var topic = String.valueOf(topicId.getId());
+
+        topicListener.listen(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .thenAwait(Duration.ofMillis(50))
+                .then(() -> publish(Flux.from(domainBuilder.topicMessage(t -> t.consensusTimestamp(future)))))
+                .expectNext(1L)
+                .then(() -> assertThat(meterRegistry.find(SharedPollingTopicListener.METRIC_ROUTED)
+                        .tag("topic", topic).counter()).isNotNull())
+                .thenCancel()
+                .verify(Duration.ofMillis(1000));
+
+        assertThat(meterRegistry.find(SharedPollingTopicListener.METRIC_ROUTED).tag("topic", topic).counter())
+                .isNull();
+    }
 }
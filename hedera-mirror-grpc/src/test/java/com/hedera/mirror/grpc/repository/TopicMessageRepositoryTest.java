@@ -21,9 +21,16 @@ package com.hedera.mirror.grpc.repository;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.sql.SQLException;
 import java.time.Instant;
+import java.util.stream.Stream;
 import javax.annotation.Resource;
+import javax.sql.DataSource;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
@@ -34,15 +41,23 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.DomainBuilder;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
 
 class TopicMessageRepositoryTest extends GrpcIntegrationTest {
 
     @Resource
     private TopicMessageRepository topicMessageRepository;
 
+    @Resource
+    private DataSource dataSource;
+
+    @Resource
+    private InstantToLongConverter converter;
+
     @Autowired
     private DomainBuilder domainBuilder;
 
@@ -128,6 +143,84 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void findByFilterAcrossPages() throws SQLException {
+        int count = 65;
+        var topicMessages = domainBuilder.topicMessages(count, Instant.now()).collectList().block();
+        TopicMessage topicMessage1 = topicMessages.get(0);
+        var listenerProperties = new ListenerProperties();
+        listenerProperties.setMaxPageSize(32);
+        var dataSourceSpy = mock(DataSource.class, delegatesTo(dataSource));
+        var repository = new TopicMessageRepositoryCustomImpl(dataSourceSpy, converter, listenerProperties);
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestampInstant())
+                .topicId(EntityId.of(topicMessage1.getTopicId(), EntityType.TOPIC))
+                .build();
+
+        assertThat(repository.findByFilter(filter)).containsExactlyElementsOf(topicMessages);
+        verify(dataSourceSpy, times(3)).getConnection();
+        assertThat(repository.findByFilter(filter.toBuilder().limit(count - 1L).build()))
+                .containsExactlyElementsOf(topicMessages.subList(0, count - 1));
+    }
+
+    @Test
+    void findByFilterLargeReplay() throws SQLException {
+        int count = 1000;
+        var topicMessages = domainBuilder.topicMessages(count, Instant.now()).collectList().block();
+        TopicMessage topicMessage1 = topicMessages.get(0);
+        var dataSourceSpy = mock(DataSource.class, delegatesTo(dataSource));
+        var repository = new TopicMessageRepositoryCustomImpl(dataSourceSpy, converter, new ListenerProperties());
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .limit(count)
+                .startTime(topicMessage1.getConsensusTimestampInstant())
+                .topicId(EntityId.of(topicMessage1.getTopicId(), EntityType.TOPIC))
+                .build();
+
+        // The page is sized from the limit, so the whole replay is read with a single query
+        assertThat(repository.findByFilter(filter)).containsExactlyElementsOf(topicMessages);
+        verify(dataSourceSpy, times(1)).getConnection();
+    }
+
+    @Test
+    void findByFilterNotClosed() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestampInstant())
+                .topicId(EntityId.of(topicMessage1.getTopicId(), EntityType.TOPIC))
+                .build();
+
+        // Partially consume more streams than there are connections in the pool without closing them
+        for (int i = 0; i < 60; ++i) {
+            assertThat(topicMessageRepository.findByFilter(filter).findFirst()).contains(topicMessage1);
+        }
+
+        assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1, topicMessage2);
+    }
+
+    @Test
+    void findByFilterClosedEarly() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestampInstant())
+                .topicId(EntityId.of(topicMessage1.getTopicId(), EntityType.TOPIC))
+                .build();
+
+        // Repeat more times than there are connections in the pool to ensure closing releases the connection
+        for (int i = 0; i < 60; ++i) {
+            try (Stream<TopicMessage> stream = topicMessageRepository.findByFilter(filter)) {
+                assertThat(stream.findFirst()).contains(topicMessage1);
+            }
+        }
+
+        assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1, topicMessage2);
+    }
+
     @Test
     void findLatest() {
         TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
@@ -0,0 +1,145 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.converter.LongToInstantConverter;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L, EntityType.TOPIC);
+
+    private final long now = InstantToLongConverter.INSTANCE.convert(Instant.now());
+    private RetrieverProperties retrieverProperties;
+    private TopicMessageCache topicMessageCache;
+
+    @BeforeEach
+    void setup() {
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.getCache().setEnabled(true);
+        retrieverProperties.getCache().setMaxMessages(3);
+        topicMessageCache = new TopicMessageCache(retrieverProperties);
+        topicMessageCache.subscribe(TOPIC_ID);
+    }
+
+    @Test
+    void disabled() {
+        topicMessageCache.add(topicMessage(1));
+        retrieverProperties.getCache().setEnabled(false);
+        assertThat(topicMessageCache.get(filter(topicMessage(1)))).isEmpty();
+    }
+
+    @Test
+    void notSubscribed() {
+        topicMessageCache.unsubscribe(TOPIC_ID);
+        topicMessageCache.add(topicMessage(1));
+        assertThat(topicMessageCache.get(filter(topicMessage(1)))).isEmpty();
+    }
+
+    @Test
+    void get() {
+        var message1 = topicMessage(1);
+        var message2 = topicMessage(2);
+        var message3 = topicMessage(3);
+        topicMessageCache.add(message1);
+        topicMessageCache.add(message2);
+        topicMessageCache.add(message3);
+        topicMessageCache.add(message2);
+
+        assertThat(topicMessageCache.get(filter(message1))).contains(List.of(message1, message2, message3));
+        assertThat(topicMessageCache.get(filter(message2))).contains(List.of(message2, message3));
+        assertThat(topicMessageCache.get(filter(message1).toBuilder().limit(1).build())).contains(List.of(message1));
+        assertThat(topicMessageCache.get(filter(message1).toBuilder()
+                .endTime(message3.getConsensusTimestampInstant()).build()))
+                .contains(List.of(message1, message2));
+        assertThat(topicMessageCache.get(filter(topicMessage(4)))).contains(List.of());
+    }
+
+    @Test
+    void startTimeBeforeWindow() {
+        var message1 = topicMessage(1);
+        topicMessageCache.add(message1);
+        var filter = filter(message1).toBuilder()
+                .startTime(message1.getConsensusTimestampInstant().minusNanos(1))
+                .build();
+        assertThat(topicMessageCache.get(filter)).isEmpty();
+    }
+
+    @Test
+    void maxMessages() {
+        var message1 = topicMessage(1);
+        topicMessageCache.add(message1);
+        topicMessageCache.add(topicMessage(2));
+        topicMessageCache.add(topicMessage(3));
+        topicMessageCache.add(topicMessage(4));
+
+        assertThat(topicMessageCache.get(filter(message1))).isEmpty();
+        assertThat(topicMessageCache.get(filter(topicMessage(2)))).hasValueSatisfying(messages -> assertThat(messages).hasSize(3));
+    }
+
+    @Test
+    void maxAge() {
+        var expired = TopicMessage.builder()
+                .consensusTimestamp(now - retrieverProperties.getCache().getMaxAge().toNanos() - 1)
+                .sequenceNumber(1L)
+                .topicId(TOPIC_ID.getId())
+                .build();
+        topicMessageCache.add(expired);
+        assertThat(topicMessageCache.get(filter(expired))).isEmpty();
+    }
+
+    @Test
+    void gapRestartsWindow() {
+        var message1 = topicMessage(1);
+        var message3 = topicMessage(3);
+        topicMessageCache.add(message1);
+        topicMessageCache.add(message3);
+
+        assertThat(topicMessageCache.get(filter(message1))).isEmpty();
+        assertThat(topicMessageCache.get(filter(message3))).contains(List.of(message3));
+    }
+
+    private TopicMessageFilter filter(TopicMessage topicMessage) {
+        return TopicMessageFilter.builder()
+                .startTime(LongToInstantConverter.INSTANCE.convert(topicMessage.getConsensusTimestamp()))
+                .topicId(TOPIC_ID)
+                .build();
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(now + sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID.getId())
+                .build();
+    }
+}
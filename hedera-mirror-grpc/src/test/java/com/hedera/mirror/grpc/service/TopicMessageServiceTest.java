@@ -35,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
@@ -51,6 +52,7 @@ import com.hedera.mirror.grpc.listener.ListenerProperties;
 import com.hedera.mirror.grpc.listener.TopicListener;
 import com.hedera.mirror.grpc.repository.EntityRepository;
 import com.hedera.mirror.grpc.retriever.RetrieverProperties;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
 
 class TopicMessageServiceTest extends GrpcIntegrationTest {
@@ -74,6 +76,9 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
     @Resource
     private RetrieverProperties retrieverProperties;
 
+    @Resource
+    private TopicMessageCache topicMessageCache;
+
     @BeforeEach
     void setup() {
         listenerProperties.setEnabled(true);
@@ -462,8 +467,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
         EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
-        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), topicListener, entityRepository,
-                topicMessageRetriever, new SimpleMeterRegistry());
+        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), listenerProperties, topicListener,
+                entityRepository, topicMessageRetriever, topicMessageCache, new SimpleMeterRegistry());
 
         TopicMessageFilter retrieverFilter = TopicMessageFilter.builder()
                 .startTime(Instant.EPOCH)
@@ -497,8 +502,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
         EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
-        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), topicListener, entityRepository,
-                topicMessageRetriever, new SimpleMeterRegistry());
+        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), listenerProperties, topicListener,
+                entityRepository, topicMessageRetriever, topicMessageCache, new SimpleMeterRegistry());
 
         TopicMessageFilter filter = TopicMessageFilter.builder()
                 .startTime(Instant.EPOCH)
@@ -531,6 +536,41 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(Duration.ofMillis(700));
     }
 
+    @Test
+    void slowSubscriberCatchesUp() {
+        TopicListener topicListener = Mockito.mock(TopicListener.class);
+        EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
+        TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
+        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), listenerProperties, topicListener,
+                entityRepository, topicMessageRetriever, topicMessageCache, new SimpleMeterRegistry());
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(topicId)
+                .build();
+
+        TopicMessage beforeOverflow = topicMessage(1);
+
+        Mockito.when(entityRepository.findById(filter.getTopicId().getId()))
+                .thenReturn(Optional.of(Entity.builder().type(EntityType.TOPIC).build()));
+        Mockito.when(topicMessageRetriever.retrieve(ArgumentMatchers.eq(filter), ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.empty());
+        Mockito.when(topicMessageRetriever.retrieve(ArgumentMatchers.argThat(t -> t.getStartTime()
+                                .equals(beforeOverflow.getConsensusTimestampInstant().plusNanos(1))),
+                        ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.just(topicMessage(2), topicMessage(3)));
+        Mockito.when(topicListener.listen(ArgumentMatchers.any()))
+                .thenReturn(Flux.just(beforeOverflow).concatWith(Flux.error(Exceptions.failWithOverflow())))
+                .thenReturn(Flux.just(topicMessage(4)));
+
+        topicMessageService.subscribeTopic(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L, 4L)
+                .thenCancel()
+                .verify(Duration.ofMillis(700));
+    }
+
     @Test
     void missingMessagesFromListenerAllRetrieved() {
         TopicMessageFilter filter = TopicMessageFilter.builder()
@@ -587,8 +627,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
         EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
-        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), topicListener, entityRepository,
-                topicMessageRetriever, new SimpleMeterRegistry());
+        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), listenerProperties, topicListener,
+                entityRepository, topicMessageRetriever, topicMessageCache, new SimpleMeterRegistry());
 
         TopicMessageFilter retrieverFilter = TopicMessageFilter.builder()
                 .startTime(Instant.EPOCH)
@@ -642,8 +682,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
         EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
         TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
-        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), topicListener, entityRepository,
-                topicMessageRetriever, new SimpleMeterRegistry());
+        topicMessageService = new TopicMessageServiceImpl(new GrpcProperties(), listenerProperties, topicListener,
+                entityRepository, topicMessageRetriever, topicMessageCache, new SimpleMeterRegistry());
 
         // historic messages
         TopicMessage retrieved1 = topicMessage(1);
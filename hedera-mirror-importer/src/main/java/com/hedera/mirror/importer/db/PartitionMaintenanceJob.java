@@ -0,0 +1,62 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Creates partitions ahead of time for the tables that are range partitioned by consensus_timestamp so that inserts
+ * never fail for lack of a partition. Does nothing if no table is partitioned.
+ */
+@Log4j2
+@Named
+@RequiredArgsConstructor
+public class PartitionMaintenanceJob {
+
+    private final PartitionProperties partitionProperties;
+    private final TimePartitionService timePartitionService;
+
+    @Scheduled(fixedDelayString = "#{@partitionProperties.getFrequency().toMillis()}")
+    public synchronized void run() {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+
+        var endAt = Instant.now().atOffset(ZoneOffset.UTC).plus(partitionProperties.getAhead()).toInstant();
+        var interval = partitionProperties.getInterval();
+
+        try {
+            for (var table : timePartitionService.getPartitionedTables()) {
+                int count = timePartitionService.createPartitions(table, interval, endAt);
+                if (count > 0) {
+                    log.info("Created {} partitions for {} up to {}", count, table, endAt);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error creating partitions up to {}", endAt, e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.time.Duration;
+import java.time.Period;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@ConfigurationProperties("hedera.mirror.importer.db.partition")
+@Validated
+public class PartitionProperties {
+
+    @NotNull
+    private Period ahead = Period.ofMonths(2);
+
+    private boolean enabled = true;
+
+    @NotNull
+    private Duration frequency = Duration.ofHours(1L);
+
+    @NotNull
+    private Period interval = Period.ofMonths(1);
+}
@@ -0,0 +1,45 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Comparator;
+import lombok.Value;
+
+/**
+ * A partition of a table range partitioned by consensus_timestamp. The lower bound is inclusive and the upper bound is
+ * exclusive, with Long.MIN_VALUE and Long.MAX_VALUE representing unbounded ends.
+ */
+@Value
+public class TimePartition implements Comparable<TimePartition> {
+
+    private static final Comparator<TimePartition> COMPARATOR = Comparator.comparingLong(TimePartition::getFrom)
+            .thenComparing(TimePartition::getName);
+
+    private final String parent;
+    private final String name;
+    private final long from;
+    private final long to;
+
+    @Override
+    public int compareTo(TimePartition other) {
+        return COMPARATOR.compare(this, other);
+    }
+}
@@ -0,0 +1,132 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.Period;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Manages the partitions of tables that are range partitioned by consensus_timestamp.
+ */
+@Log4j2
+@Named
+@RequiredArgsConstructor
+public class TimePartitionService {
+
+    private static final Pattern BOUND_PATTERN = Pattern.compile(
+            "FROM \\('?(MINVALUE|-?\\d+)'?\\) TO \\('?(MAXVALUE|-?\\d+)'?\\)");
+
+    private static final String CREATE_SQL = "select create_consensus_partitions(?::regclass, ?::interval, ?, ?)";
+
+    private static final String PARTITIONED_TABLES_SQL = """
+            select c.relname
+            from pg_partitioned_table p
+            join pg_class c on c.oid = p.partrelid
+            where c.relnamespace = current_schema()::regnamespace and
+              pg_get_partkeydef(p.partrelid) = 'RANGE (consensus_timestamp)'
+            order by c.relname
+            """;
+
+    private static final String PARTITIONS_SQL = """
+            select c.relname, pg_get_expr(c.relpartbound, c.oid) as bound
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            where i.inhparent = ?::regclass
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    static TimePartition parse(String parent, String name, String bound) {
+        var matcher = BOUND_PATTERN.matcher(bound);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Unsupported partition bound for " + name + ": " + bound);
+        }
+
+        long from = matcher.group(1).equals("MINVALUE") ? Long.MIN_VALUE : Long.parseLong(matcher.group(1));
+        long to = matcher.group(2).equals("MAXVALUE") ? Long.MAX_VALUE : Long.parseLong(matcher.group(2));
+        return new TimePartition(parent, name, from, to);
+    }
+
+    public List<String> getPartitionedTables() {
+        return jdbcOperations.queryForList(PARTITIONED_TABLES_SQL, String.class);
+    }
+
+    /**
+     * Gets the partitions of a table ordered by their lower bound.
+     *
+     * @param table the partitioned table
+     * @return the partitions of the table
+     */
+    public List<TimePartition> getPartitions(String table) {
+        return jdbcOperations.query(PARTITIONS_SQL, (rs, rowNum) ->
+                        parse(table, rs.getString("relname"), rs.getString("bound")), table)
+                .stream()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Creates partitions so that the table can hold data with a consensus timestamp before the given end. New
+     * partitions start after the last existing partition.
+     *
+     * @param table    the partitioned table
+     * @param interval the length of each new partition
+     * @param endAt    the time the new partitions should reach
+     * @return the number of partitions created
+     */
+    public int createPartitions(String table, Period interval, Instant endAt) {
+        var partitions = getPartitions(table);
+        if (partitions.isEmpty()) {
+            log.warn("Not creating partitions for {} since it has no initial partition", table);
+            return 0;
+        }
+
+        long last = partitions.get(partitions.size() - 1).getTo();
+        if (last == Long.MAX_VALUE) {
+            return 0;
+        }
+
+        var startAt = Timestamp.from(Instant.ofEpochSecond(0L, last));
+        var created = jdbcOperations.queryForObject(CREATE_SQL, Integer.class, table, interval.toString(), startAt,
+                Timestamp.from(endAt));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Detaches and drops the partition in one transaction so that a failure never leaves a detached table behind.
+     *
+     * @param partition the partition to drop
+     */
+    @Transactional
+    public void dropPartition(TimePartition partition) {
+        jdbcOperations.execute(String.format("alter table %s detach partition %s", partition.getParent(),
+                partition.getName()));
+        jdbcOperations.execute("drop table " + partition.getName());
+    }
+}
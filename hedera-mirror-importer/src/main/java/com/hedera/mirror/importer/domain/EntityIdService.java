@@ -22,6 +22,7 @@ package com.hedera.mirror.importer.domain;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -96,6 +97,16 @@ public interface EntityIdService {
      */
     EntityId lookup(AliasNotFoundAction action, ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses of the given IDs that aren't cached yet with one query per kind so that
+     * subsequent lookups of them don't have to query the database individually. IDs that can't be resolved are cached
+     * as not found until an entity with that alias is created.
+     *
+     * @param accountIds  The protobuf account IDs
+     * @param contractIds The protobuf contract IDs
+     */
+    void prefetch(Collection<AccountID> accountIds, Collection<ContractID> contractIds);
+
     /**
      * Used to notify the system of new aliases for potential use in future lookups.
      *
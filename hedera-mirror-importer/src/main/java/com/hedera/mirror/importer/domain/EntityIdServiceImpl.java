@@ -28,6 +28,12 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
@@ -54,6 +60,9 @@ public class EntityIdServiceImpl implements EntityIdService {
     private final Cache cache;
     private final EntityRepository entityRepository;
 
+    // Aliases the last prefetch didn't find. Only kept until the next prefetch so a miss is never cached for long.
+    private Map<GeneratedMessageV3, NotFound> notFound = new HashMap<>();
+
     public EntityIdServiceImpl(@Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager,
                                EntityRepository entityRepository) {
         this.cache = cacheManager.getCache("entityId");
@@ -86,6 +95,11 @@ public class EntityIdServiceImpl implements EntityIdService {
             return EntityId.EMPTY;
         }
 
+        var prefetchMiss = notFound.get(entityIdProto);
+        if (prefetchMiss != null && cache.get(entityIdProto) == null) {
+            throw new AliasNotFoundException(prefetchMiss.alias(), prefetchMiss.type());
+        }
+
         try {
             return cache.get(entityIdProto, loader);
         } catch (Cache.ValueRetrievalException e) {
@@ -111,13 +125,78 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EntityId.EMPTY;
     }
 
+    @Override
+    public void prefetch(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+        Map<ByteBuffer, List<GeneratedMessageV3>> aliases = new HashMap<>();
+        Map<ByteBuffer, List<GeneratedMessageV3>> evmAddresses = new HashMap<>();
+        notFound = new HashMap<>();
+
+        for (AccountID accountId : accountIds) {
+            if (accountId.getAccountCase() == AccountID.AccountCase.ALIAS && cache.get(accountId) == null) {
+                byte[] alias = DomainUtils.toBytes(accountId.getAlias());
+                if (alias.length != DomainUtils.EVM_ADDRESS_LENGTH) {
+                    aliases.computeIfAbsent(ByteBuffer.wrap(alias), k -> new ArrayList<>()).add(accountId);
+                } else if (!isNumericEvmAddress(alias, accountId.getShardNum(), accountId.getRealmNum())) {
+                    evmAddresses.computeIfAbsent(ByteBuffer.wrap(alias), k -> new ArrayList<>()).add(accountId);
+                }
+            }
+        }
+
+        for (ContractID contractId : contractIds) {
+            if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS && cache.get(contractId) == null) {
+                byte[] evmAddress = DomainUtils.toBytes(contractId.getEvmAddress());
+                if (!isNumericEvmAddress(evmAddress, contractId.getShardNum(), contractId.getRealmNum())) {
+                    evmAddresses.computeIfAbsent(ByteBuffer.wrap(evmAddress), k -> new ArrayList<>()).add(contractId);
+                }
+            }
+        }
+
+        prefetch(aliases, entityRepository::findByAliasIn);
+        prefetch(evmAddresses, entityRepository::findByEvmAddressIn);
+    }
+
+    private void prefetch(Map<ByteBuffer, List<GeneratedMessageV3>> entityIdProtos,
+                          Function<Collection<byte[]>, Map<ByteBuffer, Long>> finder) {
+        if (entityIdProtos.isEmpty()) {
+            return;
+        }
+
+        var keys = entityIdProtos.keySet().stream().map(ByteBuffer::array).toList();
+        var ids = finder.apply(keys);
+
+        entityIdProtos.forEach((key, protos) -> {
+            Long id = ids.get(key);
+            for (var proto : protos) {
+                EntityType type = proto instanceof ContractID ? CONTRACT : ACCOUNT;
+                if (id != null) {
+                    cache.putIfAbsent(proto, EntityId.of(id, type));
+                } else {
+                    notFound.put(proto, new NotFound(Hex.encodeHexString(key.array()), type));
+                }
+            }
+        });
+
+        log.debug("Prefetched {} of {} aliases", ids.size(), keys.size());
+    }
+
+    // An EVM address in the 'shard.realm.num' form that can be converted without querying the database
+    private boolean isNumericEvmAddress(byte[] evmAddress, long shardNum, long realmNum) {
+        var entityId = DomainUtils.fromEvmAddress(evmAddress);
+        return entityId != null && entityId.shard() == shardNum && entityId.realm() == realmNum;
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
             return;
         }
 
-        byte[] aliasBytes = entity.getAlias() != null ? entity.getAlias() : entity.getEvmAddress();
+        // The entity can be referenced by either its alias or its EVM address, so cache both
+        notify(entity, entity.getAlias());
+        notify(entity, entity.getEvmAddress());
+    }
+
+    private void notify(Entity entity, byte[] aliasBytes) {
         ByteString alias = DomainUtils.fromBytes(aliasBytes);
         if (alias == null) {
             return;
@@ -125,26 +204,22 @@ public class EntityIdServiceImpl implements EntityIdService {
 
         EntityId entityId = entity.toEntityId();
         EntityType type = entity.getType();
-        GeneratedMessageV3.Builder<?> builder;
-
-        switch (type) {
-            case ACCOUNT:
-                builder = AccountID.newBuilder()
-                        .setShardNum(entityId.getShardNum())
-                        .setRealmNum(entityId.getRealmNum())
-                        .setAlias(alias);
-                break;
-            case CONTRACT:
-                builder = ContractID.newBuilder()
-                        .setShardNum(entityId.getShardNum())
-                        .setRealmNum(entityId.getRealmNum())
-                        .setEvmAddress(alias);
-                break;
-            default:
-                throw new InvalidEntityException(String.format("%s entity can't have alias", type));
-        }
+        GeneratedMessageV3 key = switch (type) {
+            case ACCOUNT -> AccountID.newBuilder()
+                    .setShardNum(entityId.getShardNum())
+                    .setRealmNum(entityId.getRealmNum())
+                    .setAlias(alias)
+                    .build();
+            case CONTRACT -> ContractID.newBuilder()
+                    .setShardNum(entityId.getShardNum())
+                    .setRealmNum(entityId.getRealmNum())
+                    .setEvmAddress(alias)
+                    .build();
+            default -> throw new InvalidEntityException(String.format("%s entity can't have alias", type));
+        };
 
-        cache.put(builder.build(), entityId);
+        cache.put(key, entityId);
+        notFound.remove(key);
     }
 
     private EntityId load(AccountID accountId) {
@@ -179,8 +254,12 @@ public class EntityIdServiceImpl implements EntityIdService {
     private EntityId findByEvmAddress(byte[] evmAddress, long shardNum, long realmNum, EntityType type) {
         return Optional.ofNullable(DomainUtils.fromEvmAddress(evmAddress))
                 // Verify shard and realm match when assuming evmAddress is in the 'shard.realm.num' form
-                .filter(e -> e.getShardNum() == shardNum && e.getRealmNum() == realmNum)
+                .filter(e -> e.shard() == shardNum && e.realm() == realmNum)
                 .or(() -> entityRepository.findByEvmAddress(evmAddress).map(id -> EntityId.of(id, type)))
                 .orElseThrow(() -> new AliasNotFoundException(Hex.encodeHexString(evmAddress), type));
     }
+
+    // A prefetched alias that doesn't exist yet. Superseded by notify() once the entity is created.
+    private record NotFound(String alias, EntityType type) {
+    }
 }
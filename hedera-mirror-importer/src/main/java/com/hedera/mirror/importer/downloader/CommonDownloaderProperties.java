@@ -65,6 +65,9 @@ public class CommonDownloaderProperties {
     @Min(0)
     private int maxConcurrency = 1000; // aws sdk default = 50
 
+    @Min(1)
+    private int pipelineDepth = 1;
+
     private String region = "us-east-1";
 
     private String secretKey;
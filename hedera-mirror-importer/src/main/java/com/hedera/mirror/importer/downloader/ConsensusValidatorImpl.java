@@ -24,8 +24,10 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import javax.inject.Named;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -99,25 +101,28 @@ public class ConsensusValidatorImpl implements ConsensusValidator {
             }
         }
 
+        var hashStakeMap = new HashMap<String, Long>();
+        for (var entry : signatureHashMap.entries()) {
+            // If the stake cannot be found in the map, count it as a signature giving it a value of 1.
+            long stake = nodeAccountIdToStakeMap.getOrDefault(entry.getValue().getNodeAccountId(), 1L);
+            hashStakeMap.merge(entry.getKey(), stake, Long::sum);
+        }
+
+        // Check the hashes with the most stake first so the check can stop at the first one that can't reach consensus
+        var hashes = new ArrayList<>(hashStakeMap.entrySet());
+        hashes.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
         var stakeRequiredForConsensus = getStakeRequiredForConsensus(totalStake);
-        long debugStake = 0;
+        long debugStake = hashes.isEmpty() ? 0L : hashes.get(0).getValue();
         long consensusCount = 0;
-        for (String key : signatureHashMap.keySet()) {
-            var validatedSignatures = signatureHashMap.get(key);
-            long stake = 0L;
-            for (var signature : validatedSignatures) {
-                // If the stake cannot be found in the map, count it as a signature giving it a value of 1.
-                stake += nodeAccountIdToStakeMap.getOrDefault(signature.getNodeAccountId(), 1L);
+        for (var hash : hashes) {
+            if (!canReachConsensus(hash.getValue(), stakeRequiredForConsensus)) {
+                break;
             }
 
-            if (canReachConsensus(stake, stakeRequiredForConsensus)) {
-                consensusCount += validatedSignatures.size();
-                validatedSignatures.forEach(s -> s.setStatus(FileStreamSignature.SignatureStatus.CONSENSUS_REACHED));
-            }
-
-            if (debugStake < stake) {
-                debugStake = stake;
-            }
+            var validatedSignatures = signatureHashMap.get(hash.getKey());
+            consensusCount += validatedSignatures.size();
+            validatedSignatures.forEach(s -> s.setStatus(FileStreamSignature.SignatureStatus.CONSENSUS_REACHED));
         }
 
         if (consensusCount > 0) {
@@ -26,6 +26,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.maxBy;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.Sets;
@@ -37,8 +38,10 @@ import java.nio.file.Path;
 import java.security.PublicKey;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -47,16 +50,23 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Value;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.context.event.EventListener;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -101,9 +111,11 @@ public abstract class Downloader<T extends StreamFile> {
     protected final S3AsyncClient s3Client;
     private final AddressBookService addressBookService;
     private final ExecutorService signatureDownloadThreadPool; // One per node during the signature download process
+    private final ExecutorService dataFileThreadPool; // One per pipelined data file during the data file download
     private final MirrorProperties mirrorProperties;
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final StreamType streamType;
+    private final AtomicBoolean rewind = new AtomicBoolean(false);
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Map<String, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
@@ -131,6 +143,8 @@ public abstract class Downloader<T extends StreamFile> {
         Runtime.getRuntime().addShutdownHook(new Thread(signatureDownloadThreadPool::shutdown));
         mirrorProperties = downloaderProperties.getMirrorProperties();
         commonDownloaderProperties = downloaderProperties.getCommon();
+        dataFileThreadPool = Executors.newFixedThreadPool(commonDownloaderProperties.getPipelineDepth());
+        Runtime.getRuntime().addShutdownHook(new Thread(dataFileThreadPool::shutdown));
 
         streamType = downloaderProperties.getStreamType();
 
@@ -159,6 +173,13 @@ public abstract class Downloader<T extends StreamFile> {
 
     public abstract void download();
 
+    @EventListener
+    public void onRewind(StreamFileRewindEvent event) {
+        if (event.getStreamType() == streamType) {
+            rewind.set(true);
+        }
+    }
+
     protected void downloadNextBatch() {
         if (!downloaderProperties.isEnabled()) {
             return;
@@ -168,6 +189,11 @@ public abstract class Downloader<T extends StreamFile> {
             return;
         }
 
+        if (rewind.getAndSet(false)) {
+            log.warn("Rewinding to the last {} file in the database", streamType);
+            lastStreamFile.set(Optional.empty());
+        }
+
         try {
             AddressBook addressBook = addressBookService.getCurrent();
             var sigFilesMap = downloadAndParseSigFiles(addressBook);
@@ -387,116 +413,201 @@ public abstract class Downloader<T extends StreamFile> {
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * The signatures of up to pipelineDepth groups are verified in parallel ahead of time, and the data files of up to
+     * pipelineDepth groups that reached consensus are downloaded, read and checked against the file and metadata hashes
+     * ahead of time. Only the running hash chain verification and the notification of the verified stream file are
+     * done in order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
     private void verifySigsAndDownloadDataFiles(Multimap<String, FileStreamSignature> sigFilesMap) {
         Instant endDate = mirrorProperties.getEndDate();
+        int pipelineDepth = commonDownloaderProperties.getPipelineDepth();
+        Deque<PendingStreamFile> pipeline = new ArrayDeque<>(pipelineDepth);
+        Deque<PendingVerification> verifications = new ArrayDeque<>(pipelineDepth);
+        SignatureVerificationException verificationException = null;
+        var sigFilenameIter = sigFilesMap.keySet().iterator();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            while (sigFilenameIter.hasNext() || !verifications.isEmpty() || !pipeline.isEmpty()) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            String sigFilename = sigFilenameIter.next();
-            Collection<FileStreamSignature> signatures = sigFilesMap.get(sigFilename);
-            boolean valid = false;
-            var nodeAccountIDPubKeyMap = addressBookService.getCurrent().getNodeAccountIDPubKeyMap();
-            try {
-                nodeSignatureVerifier.verify(signatures);
+                while (pipeline.size() < pipelineDepth && (sigFilenameIter.hasNext() || !verifications.isEmpty())) {
+                    while (pipeline.size() + verifications.size() < pipelineDepth && sigFilenameIter.hasNext()) {
+                        Instant startTime = Instant.now();
+                        String sigFilename = sigFilenameIter.next();
+                        Collection<FileStreamSignature> signatures = sigFilesMap.get(sigFilename);
+                        var future = nodeSignatureVerifier.verifyAsync(signatures);
+                        verifications.add(new PendingVerification(sigFilename, signatures, startTime, future));
+                    }
 
-                var consensusCount = signatures.stream()
-                        .filter(s -> s.getStatus() == FileStreamSignature.SignatureStatus.CONSENSUS_REACHED)
-                        .count();
+                    PendingVerification verification = verifications.poll();
+                    String sigFilename = verification.sigFilename();
+                    Collection<FileStreamSignature> signatures = verification.signatures();
 
-                if (consensusCount == nodeAccountIDPubKeyMap.size()) {
-                    log.debug("Verified signature file {} reached consensus", sigFilename);
-                } else if (consensusCount > 0) {
-                    log.warn("Verified signature file {} reached consensus but with some errors: {}", sigFilename,
-                            statusMap(signatures, nodeAccountIDPubKeyMap));
+                    try {
+                        verifySignatures(sigFilename, signatures, verification.future());
+                        pipeline.add(new PendingStreamFile(sigFilename, signatures, verification.startTime()));
+                    } catch (SignatureVerificationException ex) {
+                        if (!sigFilenameIter.hasNext() && verifications.isEmpty()) {
+                            verificationException = ex;
+                            break;
+                        }
+
+                        log.warn("Signature verification failed but still have files in the batch, try to process " +
+                                "the next group. {}", ex.getMessage());
+                    }
                 }
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeAccountIDPubKeyMap);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("Signature verification failed but still have files in the batch, try to process the " +
-                            "next group. File {}: {}", sigFilename, statusMapMessage);
-                    continue;
+
+                PendingStreamFile pendingStreamFile = pipeline.poll();
+                if (pendingStreamFile != null && !verifyDataFile(pendingStreamFile, endDate)) {
+                    return;
                 }
+            }
+        } finally {
+            pipeline.forEach(PendingStreamFile::cancel);
+        }
+
+        if (verificationException != null) {
+            throw verificationException;
+        }
+    }
+
+    private void verifySignatures(String sigFilename, Collection<FileStreamSignature> signatures,
+                                  CompletableFuture<Void> verification) {
+        var nodeAccountIDPubKeyMap = addressBookService.getCurrent().getNodeAccountIDPubKeyMap();
 
-                throw new SignatureVerificationException("Signature verification failed for file " + sigFilename + ":" +
-                        " " + statusMapMessage);
+        try {
+            try {
+                verification.join();
+            } catch (CompletionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
             }
 
-            for (FileStreamSignature signature : signatures) {
-                if (ShutdownHelper.isStopping()) {
-                    return;
-                }
+            var consensusCount = signatures.stream()
+                    .filter(s -> s.getStatus() == FileStreamSignature.SignatureStatus.CONSENSUS_REACHED)
+                    .count();
 
-                // Ignore signatures that didn't validate or weren't in the majority
-                if (signature.getStatus() != FileStreamSignature.SignatureStatus.CONSENSUS_REACHED) {
-                    continue;
-                }
+            if (consensusCount == nodeAccountIDPubKeyMap.size()) {
+                log.debug("Verified signature file {} reached consensus", sigFilename);
+            } else if (consensusCount > 0) {
+                log.warn("Verified signature file {} reached consensus but with some errors: {}", sigFilename,
+                        statusMap(signatures, nodeAccountIDPubKeyMap));
+            }
+        } catch (SignatureVerificationException ex) {
+            var statusMapMessage = statusMap(signatures, nodeAccountIDPubKeyMap);
+            throw new SignatureVerificationException("Signature verification failed for file " + sigFilename + ":" +
+                    " " + statusMapMessage);
+        }
+    }
 
-                try {
-                    PendingDownload pendingDownload = downloadSignedDataFile(signature);
-                    if (!pendingDownload.waitForCompletion()) {
-                        continue;
-                    }
+    /**
+     * Verifies the data file of a signature group that reached consensus, trying the data file of each node in turn
+     * until one matches the hashes and continues the hash chain.
+     *
+     * @param pendingStreamFile the signature group with its data file download already started
+     * @param endDate           the configured end date
+     * @return false if the download of the current batch should stop
+     */
+    private boolean verifyDataFile(PendingStreamFile pendingStreamFile, Instant endDate) {
+        String sigFilename = pendingStreamFile.getSigFilename();
+        Collection<FileStreamSignature> signatures = pendingStreamFile.getSignatures();
+        boolean valid = false;
 
-                    StreamFilename dataFilename = pendingDownload.getStreamFilename();
-                    StreamFileData streamFileData = new StreamFileData(dataFilename, pendingDownload.getBytes());
-                    T streamFile = streamFileReader.read(streamFileData);
-                    streamFile.setNodeAccountId(signature.getNodeAccountId());
+        for (FileStreamSignature signature : signatures) {
+            if (ShutdownHelper.isStopping()) {
+                return false;
+            }
 
-                    verify(streamFile, signature);
+            // Ignore signatures that didn't validate or weren't in the majority
+            if (signature.getStatus() != FileStreamSignature.SignatureStatus.CONSENSUS_REACHED) {
+                continue;
+            }
 
-                    if (downloaderProperties.isWriteFiles()) {
-                        Utility.archiveFile(streamFile.getName(), streamFile.getBytes(),
-                                downloaderProperties.getNodeStreamPath(signature.getNodeAccountIdString()));
-                    }
+            try {
+                PendingDataFile pendingDataFile = pendingStreamFile.take(signature);
+                T streamFile = pendingDataFile.get();
+                if (streamFile == null) {
+                    continue;
+                }
 
-                    if (downloaderProperties.isWriteSignatures()) {
-                        signatures.forEach(s -> {
-                            Path destination = downloaderProperties.getNodeStreamPath(s.getNodeAccountIdString());
-                            Utility.archiveFile(s.getFilename(), s.getBytes(), destination);
-                        });
-                    }
+                verifyHashChain(streamFile);
 
-                    if (!downloaderProperties.isPersistBytes()) {
-                        streamFile.setBytes(null);
-                    }
+                if (downloaderProperties.isWriteFiles()) {
+                    Utility.archiveFile(streamFile.getName(), streamFile.getBytes(),
+                            downloaderProperties.getNodeStreamPath(signature.getNodeAccountIdString()));
+                }
 
-                    if (dataFilename.getInstant().isAfter(endDate)) {
-                        downloaderProperties.setEnabled(false);
-                        log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
-                        return;
-                    }
+                if (downloaderProperties.isWriteSignatures()) {
+                    signatures.forEach(s -> {
+                        Path destination = downloaderProperties.getNodeStreamPath(s.getNodeAccountIdString());
+                        Utility.archiveFile(s.getFilename(), s.getBytes(), destination);
+                    });
+                }
 
-                    onVerified(pendingDownload, streamFile);
-                    valid = true;
-                    break;
-                } catch (HashMismatchException e) {
-                    log.warn("Failed to verify data file from node {} corresponding to {}. Will retry another node",
-                            signature.getNodeAccountIdString(), sigFilename, e);
-                } catch (InterruptedException e) {
-                    log.warn("Failed to download data file from node {} corresponding to {}",
-                            signature.getNodeAccountIdString(), sigFilename, e);
-                    Thread.currentThread().interrupt();
-                } catch (Exception e) {
-                    log.error("Error downloading data file from node {} corresponding to {}. Will retry another node",
-                            signature.getNodeAccountIdString(), sigFilename, e);
+                if (!downloaderProperties.isPersistBytes()) {
+                    streamFile.setBytes(null);
+                }
+
+                PendingDownload pendingDownload = pendingDataFile.getPendingDownload();
+                if (pendingDownload.getStreamFilename().getInstant().isAfter(endDate)) {
+                    downloaderProperties.setEnabled(false);
+                    log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
+                    return false;
                 }
-            }
 
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+                onVerified(pendingDownload, streamFile);
+                valid = true;
+                break;
+            } catch (HashMismatchException e) {
+                log.warn("Failed to verify data file from node {} corresponding to {}. Will retry another node",
+                        signature.getNodeAccountIdString(), sigFilename, e);
+            } catch (InterruptedException e) {
+                log.warn("Failed to download data file from node {} corresponding to {}",
+                        signature.getNodeAccountIdString(), sigFilename, e);
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Error downloading data file from node {} corresponding to {}. Will retry another node",
+                        signature.getNodeAccountIdString(), sigFilename, e);
             }
+        }
 
-            streamVerificationMetric.tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+        if (!valid) {
+            log.error("None of the data files could be verified, signatures: {}", signatures);
         }
+
+        streamVerificationMetric.tag("success", String.valueOf(valid))
+                .register(meterRegistry)
+                .record(Duration.between(pendingStreamFile.getStartTime(), Instant.now()));
+        return true;
+    }
+
+    /**
+     * Starts the download of the data file corresponding to the signature and submits the read and the file and
+     * metadata hash verification of it to the data file thread pool.
+     *
+     * @param signature the signature that reached consensus
+     * @return the pending data file
+     */
+    private PendingDataFile readDataFileAsync(FileStreamSignature signature) {
+        PendingDownload pendingDownload = downloadSignedDataFile(signature);
+        Future<T> future = dataFileThreadPool.submit(() -> {
+            if (!pendingDownload.waitForCompletion()) {
+                return null;
+            }
+
+            StreamFileData streamFileData = new StreamFileData(pendingDownload.getStreamFilename(),
+                    pendingDownload.getBytes());
+            T streamFile = streamFileReader.read(streamFileData);
+            streamFile.setNodeAccountId(signature.getNodeAccountId());
+            verifyHashes(streamFile, signature);
+            return streamFile;
+        });
+        return new PendingDataFile(future, pendingDownload);
     }
 
     private PendingDownload downloadSignedDataFile(FileStreamSignature fileStreamSignature) {
@@ -533,21 +644,27 @@ public abstract class Downloader<T extends StreamFile> {
     }
 
     /**
-     * Verifies the stream file is the next file in the hashchain if it's chained and the hash of the stream file
-     * matches the expected hash in the signature.
+     * Verifies the stream file is the next file in the hashchain if it's chained.
      *
      * @param streamFile the stream file object
-     * @param signature  the signature object corresponding to the stream file
      */
-    private void verify(StreamFile streamFile, FileStreamSignature signature) {
-        String filename = streamFile.getName();
+    private void verifyHashChain(StreamFile streamFile) {
         String expectedPrevHash = lastStreamFile.get().map(StreamFile::getHash).orElse(null);
 
         if (!verifyHashChain(streamFile, expectedPrevHash)) {
-            throw new HashMismatchException(filename, expectedPrevHash, streamFile
+            throw new HashMismatchException(streamFile.getName(), expectedPrevHash, streamFile
                     .getPreviousHash(), HASH_TYPE_RUNNING);
         }
+    }
 
+    /**
+     * Verifies the file hash and the metadata hash of the stream file match the expected hashes in the signature.
+     *
+     * @param streamFile the stream file object
+     * @param signature  the signature object corresponding to the stream file
+     */
+    private void verifyHashes(StreamFile streamFile, FileStreamSignature signature) {
+        String filename = streamFile.getName();
         verifyHash(filename, streamFile.getFileHash(), signature.getFileHashAsHex(), HASH_TYPE_FILE);
         verifyHash(filename, streamFile.getMetadataHash(), signature.getMetadataHashAsHex(), HASH_TYPE_METADATA);
     }
@@ -630,4 +747,83 @@ public abstract class Downloader<T extends StreamFile> {
                 .tag("status", status)
                 .register(meterRegistry);
     }
+
+    /**
+     * A signature group whose signatures are being verified ahead of time on the verifier thread pool.
+     */
+    private record PendingVerification(String sigFilename, Collection<FileStreamSignature> signatures,
+                                       Instant startTime, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * A signature group that reached consensus, with the data file of the first signature in consensus being
+     * downloaded, read and hash verified ahead of time.
+     */
+    @Getter
+    private class PendingStreamFile {
+
+        private final String sigFilename;
+        private final Collection<FileStreamSignature> signatures;
+        private final Instant startTime;
+        private FileStreamSignature prefetchedSignature;
+        private PendingDataFile prefetched;
+
+        PendingStreamFile(String sigFilename, Collection<FileStreamSignature> signatures, Instant startTime) {
+            this.sigFilename = sigFilename;
+            this.signatures = signatures;
+            this.startTime = startTime;
+            signatures.stream()
+                    .filter(s -> s.getStatus() == FileStreamSignature.SignatureStatus.CONSENSUS_REACHED)
+                    .findFirst()
+                    .ifPresent(signature -> {
+                        prefetchedSignature = signature;
+                        prefetched = readDataFileAsync(signature);
+                    });
+        }
+
+        /**
+         * Returns the pending data file of the signature, either the prefetched one or a newly started one when
+         * falling back to the data file of another node.
+         */
+        PendingDataFile take(FileStreamSignature signature) {
+            if (prefetched != null && prefetchedSignature == signature) {
+                var pendingDataFile = prefetched;
+                prefetched = null;
+                return pendingDataFile;
+            }
+
+            return readDataFileAsync(signature);
+        }
+
+        void cancel() {
+            if (prefetched != null) {
+                prefetched.cancel();
+                prefetched = null;
+            }
+        }
+    }
+
+    @Value
+    private class PendingDataFile {
+
+        private final Future<T> future;
+        private final PendingDownload pendingDownload;
+
+        /**
+         * @return the read and hash verified stream file, or null if the download was not successful
+         */
+        T get() throws ExecutionException, InterruptedException {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
+            }
+        }
+
+        void cancel() {
+            future.cancel(true);
+            pendingDownload.getFuture().cancel(true);
+        }
+    }
 }
@@ -20,27 +20,52 @@ package com.hedera.mirror.importer.downloader;
  * ‍
  */
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.security.GeneralSecurityException;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
 import com.hedera.mirror.common.domain.addressbook.AddressBook;
 import com.hedera.mirror.importer.addressbook.AddressBookService;
 import com.hedera.mirror.importer.domain.FileStreamSignature;
 import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureStatus;
+import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureType;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
 
 @Named
 @CustomLog
-@RequiredArgsConstructor
 public class NodeSignatureVerifier {
 
+    // Signature instances are expensive to look up and not thread safe, so each verifier thread keeps its own
+    private static final ThreadLocal<Map<SignatureType, Signature>> SIGNATURES =
+            ThreadLocal.withInitial(() -> new EnumMap<>(SignatureType.class));
+
     private final AddressBookService addressBookService;
     private final ConsensusValidator consensusValidator;
+    private final ExecutorService verifierThreadPool; // One per CPU since verification is CPU bound
+
+    public NodeSignatureVerifier(AddressBookService addressBookService, ConsensusValidator consensusValidator) {
+        this.addressBookService = addressBookService;
+        this.consensusValidator = consensusValidator;
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        var threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("signature-verifier-%d").build();
+        var threadPool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                threadFactory);
+        threadPool.allowCoreThreadTimeOut(true);
+        verifierThreadPool = threadPool;
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -58,16 +83,37 @@ public class NodeSignatureVerifier {
      * @throws SignatureVerificationException
      */
     public void verify(Collection<FileStreamSignature> signatures) throws SignatureVerificationException {
+        try {
+            verifyAsync(signatures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SignatureVerificationException sve) {
+                throw sve;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Same as {@link #verify(Collection)}, but the signatures are verified in parallel on the verifier thread pool
+     * without blocking the caller so that several signature groups can be verified ahead of time.
+     *
+     * @param signatures a list of signature files which have the same filename
+     * @return a future that completes when the consensus check is done, or completes exceptionally with a
+     * SignatureVerificationException if consensus was not reached
+     */
+    public CompletableFuture<Void> verifyAsync(Collection<FileStreamSignature> signatures) {
         AddressBook currentAddressBook = addressBookService.getCurrent();
         Map<String, PublicKey> nodeAccountIDPubKeyMap = currentAddressBook.getNodeAccountIDPubKeyMap();
 
-        for (FileStreamSignature fileStreamSignature : signatures) {
-            if (verifySignature(fileStreamSignature, nodeAccountIDPubKeyMap)) {
-                fileStreamSignature.setStatus(SignatureStatus.VERIFIED);
-            }
-        }
+        var futures = signatures.stream()
+                .map(s -> CompletableFuture.runAsync(() -> {
+                    if (verifySignature(s, nodeAccountIDPubKeyMap)) {
+                        s.setStatus(SignatureStatus.VERIFIED);
+                    }
+                }, verifierThreadPool))
+                .toArray(CompletableFuture[]::new);
 
-        consensusValidator.validate(signatures);
+        return CompletableFuture.allOf(futures).thenRun(() -> consensusValidator.validate(signatures));
     }
 
     /**
@@ -93,8 +139,7 @@ public class NodeSignatureVerifier {
         try {
             log.trace("Verifying signature: {}", fileStreamSignature);
 
-            Signature sig = Signature.getInstance(fileStreamSignature.getSignatureType().getAlgorithm(),
-                    fileStreamSignature.getSignatureType().getProvider());
+            Signature sig = getSignature(fileStreamSignature.getSignatureType());
             sig.initVerify(publicKey);
             sig.update(fileStreamSignature.getFileHash());
 
@@ -114,5 +159,15 @@ public class NodeSignatureVerifier {
         return false;
     }
 
+    private Signature getSignature(SignatureType signatureType) throws GeneralSecurityException {
+        var signatures = SIGNATURES.get();
+        var signature = signatures.get(signatureType);
+
+        if (signature == null) {
+            signature = Signature.getInstance(signatureType.getAlgorithm(), signatureType.getProvider());
+            signatures.put(signatureType, signature);
+        }
 
+        return signature;
+    }
 }
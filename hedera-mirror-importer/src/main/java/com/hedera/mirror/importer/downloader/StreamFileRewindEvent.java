@@ -0,0 +1,43 @@
+package com.hedera.mirror.importer.downloader;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import com.hedera.mirror.common.domain.StreamType;
+
+/**
+ * Asks the downloader of the stream type to resume from the last stream file in the database, so that stream files
+ * that were verified but failed to be persisted are downloaded and parsed again.
+ */
+@Getter
+public class StreamFileRewindEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 5383734618418226716L;
+
+    private final StreamType streamType;
+
+    public StreamFileRewindEvent(Object source, StreamType streamType) {
+        super(source);
+        this.streamType = streamType;
+    }
+}
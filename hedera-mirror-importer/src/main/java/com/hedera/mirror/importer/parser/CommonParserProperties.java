@@ -43,6 +43,9 @@ public class CommonParserProperties {
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
+    @NotNull
+    private CopyFormat copyFormat = CopyFormat.CSV;
+
     @NotNull
     private Collection<TransactionFilter> exclude = new ArrayList<>();
 
@@ -73,6 +76,11 @@ public class CommonParserProperties {
                 .reduce(a -> false, Predicate::or);
     }
 
+    public enum CopyFormat {
+        BINARY,
+        CSV
+    }
+
     @Data
     @Validated
     public static class TransactionFilter {
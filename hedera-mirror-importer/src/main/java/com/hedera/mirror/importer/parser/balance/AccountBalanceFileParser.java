@@ -22,12 +22,20 @@ package com.hedera.mirror.importer.parser.balance;
 
 import static com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
 
+import com.google.common.base.Throwables;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.inject.Named;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -38,6 +46,7 @@ import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
@@ -52,6 +61,7 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
     private final BatchPersister batchPersister;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
     private final BalanceStreamFileListener streamFileListener;
+    private final ExecutorService shardThreadPool;
 
     public AccountBalanceFileParser(BatchPersister batchPersister,
                                     MeterRegistry meterRegistry,
@@ -63,6 +73,8 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         this.batchPersister = batchPersister;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
         this.streamFileListener = streamFileListener;
+        shardThreadPool = Executors.newCachedThreadPool();
+        Runtime.getRuntime().addShutdownHook(new Thread(shardThreadPool::shutdown));
     }
 
     /**
@@ -88,36 +100,183 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         long count = 0L;
 
         if (filter.filter(accountBalanceFile.getConsensusTimestamp())) {
-            List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
-            Map<TokenBalance.Id, TokenBalance> tokenBalances = new HashMap<>(batchSize);
+            int parallelism = ((BalanceParserProperties) parserProperties).getParallelism();
+            count = parallelism > 1 ? persistSharded(accountBalanceFile, batchSize, parallelism) :
+                    persist(accountBalanceFile, batchSize);
+        }
+
+        Instant loadEnd = Instant.now();
+        accountBalanceFile.setCount(count);
+        accountBalanceFile.setLoadEnd(loadEnd.getEpochSecond());
+        streamFileListener.onEnd(accountBalanceFile);
+        streamFileRepository.save(accountBalanceFile);
+    }
+
+    private long persist(AccountBalanceFile accountBalanceFile, int batchSize) {
+        List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
+        Map<TokenBalance.Id, TokenBalance> tokenBalances = new HashMap<>(batchSize);
+
+        long count = accountBalanceFile.getItems().doOnNext(accountBalance -> {
+            accountBalances.add(accountBalance);
+            for (var tokenBalance : accountBalance.getTokenBalances()) {
+                if (tokenBalances.putIfAbsent(tokenBalance.getId(), tokenBalance) != null) {
+                    log.warn("Skipping duplicate token balance: {}", tokenBalance);
+                }
+            }
+
+            if (accountBalances.size() >= batchSize) {
+                batchPersister.persist(accountBalances);
+                accountBalances.clear();
+            }
+
+            if (tokenBalances.size() >= batchSize) {
+                batchPersister.persist(tokenBalances.values());
+                tokenBalances.clear();
+            }
+        }).count().block();
 
-            count = accountBalanceFile.getItems().doOnNext(accountBalance -> {
-                accountBalances.add(accountBalance);
+        batchPersister.persist(accountBalances);
+        batchPersister.persist(tokenBalances.values());
+        return count;
+    }
+
+    /**
+     * Splits the account balances into shards by account ID, so the rows of each shard are serialized for COPY by a
+     * separate thread. The batch size is divided among the shards to keep the number of rows in memory the same. The
+     * serialized batches are copied in the order they are completed, rather than submitted, on the connection of the
+     * current transaction, so the file is still committed atomically. Token balances are keyed by account, so each
+     * shard only has to de-duplicate its own token balances.
+     */
+    private long persistSharded(AccountBalanceFile accountBalanceFile, int batchSize, int parallelism) {
+        int shardBatchSize = Math.max(1, batchSize / parallelism);
+        List<Shard> shards = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            shards.add(new Shard(i, shardBatchSize));
+        }
+
+        var pendingWrites = new PendingWrites(parallelism);
+
+        try {
+            long count = accountBalanceFile.getItems().doOnNext(accountBalance -> {
+                long accountId = accountBalance.getId().getAccountId().id();
+                var shard = shards.get((int) (accountId % parallelism));
+                shard.accountBalances.add(accountBalance);
                 for (var tokenBalance : accountBalance.getTokenBalances()) {
-                    if (tokenBalances.putIfAbsent(tokenBalance.getId(), tokenBalance) != null) {
+                    if (shard.tokenBalances.putIfAbsent(tokenBalance.getId(), tokenBalance) != null) {
                         log.warn("Skipping duplicate token balance: {}", tokenBalance);
                     }
                 }
 
-                if (accountBalances.size() >= batchSize) {
-                    batchPersister.persist(accountBalances);
-                    accountBalances.clear();
+                if (shard.accountBalances.size() >= shardBatchSize) {
+                    pendingWrites.submit(shard.accountBalanceRows, new ArrayList<>(shard.accountBalances));
+                    shard.accountBalances.clear();
                 }
 
-                if (tokenBalances.size() >= batchSize) {
-                    batchPersister.persist(tokenBalances.values());
-                    tokenBalances.clear();
+                if (shard.tokenBalances.size() >= shardBatchSize) {
+                    pendingWrites.submit(shard.tokenBalanceRows, new ArrayList<>(shard.tokenBalances.values()));
+                    shard.tokenBalances.clear();
                 }
             }).count().block();
 
-            batchPersister.persist(accountBalances);
-            batchPersister.persist(tokenBalances.values());
+            for (var shard : shards) {
+                pendingWrites.submit(shard.accountBalanceRows, shard.accountBalances);
+                pendingWrites.submit(shard.tokenBalanceRows, shard.tokenBalances.values());
+            }
+
+            pendingWrites.writeAll();
+            return count;
+        } finally {
+            pendingWrites.await();
         }
+    }
 
-        Instant loadEnd = Instant.now();
-        accountBalanceFile.setCount(count);
-        accountBalanceFile.setLoadEnd(loadEnd.getEpochSecond());
-        streamFileListener.onEnd(accountBalanceFile);
-        streamFileRepository.save(accountBalanceFile);
+    /**
+     * Serializes batches on the shard thread pool, keeping at most {@code parallelism} of them in flight, and copies
+     * each one on the current thread as soon as any in-flight batch is serialized.
+     */
+    private class PendingWrites {
+
+        private final CompletionService<PreparedWrite> completionService;
+        private final int parallelism;
+        private int size;
+
+        private PendingWrites(int parallelism) {
+            this.completionService = new ExecutorCompletionService<>(shardThreadPool);
+            this.parallelism = parallelism;
+        }
+
+        private void submit(Counter rows, Collection<?> items) {
+            if (items.isEmpty()) {
+                return;
+            }
+
+            while (size >= parallelism) {
+                writeNext();
+            }
+
+            int count = items.size();
+            completionService.submit(() -> new PreparedWrite(batchPersister.prepare(items), rows, count));
+            size++;
+        }
+
+        private void writeAll() {
+            while (size > 0) {
+                writeNext();
+            }
+        }
+
+        private void writeNext() {
+            try {
+                var preparedWrite = completionService.take();
+                size--;
+                var write = preparedWrite.get();
+                write.copy().run();
+                write.rows().increment(write.count());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParserException(e);
+            } catch (ExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new ParserException(e.getCause());
+            }
+        }
+
+        // wait for in-flight serialization to finish before returning on error
+        private void await() {
+            for (; size > 0; size--) {
+                try {
+                    completionService.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private record PreparedWrite(Runnable copy, Counter rows, int count) {
+    }
+
+    private class Shard {
+
+        private final List<AccountBalance> accountBalances;
+        private final Counter accountBalanceRows;
+        private final Map<TokenBalance.Id, TokenBalance> tokenBalances;
+        private final Counter tokenBalanceRows;
+
+        private Shard(int index, int batchSize) {
+            accountBalances = new ArrayList<>(batchSize);
+            accountBalanceRows = rowsCounter(index, "account_balance");
+            tokenBalances = new HashMap<>(batchSize);
+            tokenBalanceRows = rowsCounter(index, "token_balance");
+        }
+
+        private Counter rowsCounter(int index, String table) {
+            return Counter.builder("hedera.mirror.importer.parse.insert.rows")
+                    .description("The number of rows copied into the table by a shard of a parallel balance parse")
+                    .tag("shard", String.valueOf(index))
+                    .tag("table", table)
+                    .register(meterRegistry);
+        }
     }
 }
@@ -48,6 +48,9 @@ public class BalanceParserProperties extends AbstractParserProperties {
     @Min(1)
     private int fileBufferSize = 200_000;
 
+    @Min(1)
+    private int parallelism = 1; // The number of account ID shards whose rows are serialized concurrently
+
     @Override
     public StreamType getStreamType() {
         return StreamType.BALANCE;
@@ -30,7 +30,9 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -101,11 +103,36 @@ public class BatchInserter implements BatchPersister {
             return;
         }
 
+        persist(items, outputStream -> serialize(items, outputStream));
+    }
+
+    /**
+     * Serializes the items up front so the returned runnable only has to copy the bytes to the database.
+     */
+    @Override
+    public Runnable prepare(Collection<? extends Object> items) {
+        if (items == null || items.isEmpty()) {
+            return () -> {
+            };
+        }
+
+        try {
+            var byteArrayOutputStream = new ByteArrayOutputStream();
+            serialize(items, byteArrayOutputStream);
+            byte[] bytes = byteArrayOutputStream.toByteArray();
+            return () -> persist(items, outputStream -> outputStream.write(bytes));
+        } catch (Exception e) {
+            throw new ParserException(String.format("Error serializing %d items for table %s", items.size(),
+                    tableName), e);
+        }
+    }
+
+    private void persist(Collection<?> items, CopyWriter copyWriter) {
         Connection connection = DataSourceUtils.getConnection(dataSource);
 
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            persistItems(items, connection);
+            persistItems(items, copyWriter, connection);
             insertDurationMetric.record(stopwatch.elapsed());
             log.info("Copied {} rows to {} table in {}", items.size(), tableName, stopwatch);
         } catch (Exception e) {
@@ -115,21 +142,39 @@ public class BatchInserter implements BatchPersister {
         }
     }
 
-    protected void persistItems(Collection<?> items, Connection connection) throws SQLException, IOException {
+    protected void persistItems(Collection<?> items, CopyWriter copyWriter, Connection connection)
+            throws SQLException, IOException {
+        String copySql = getCopySql();
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
-        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(copySql);
 
-        if (log.isTraceEnabled()) {
-            String csv = writer.writeValueAsString(items);
-            log.trace("Generated SQL: {}\n{}", sql, csv);
-        }
+        log.trace("Generated SQL for {} rows: {}", items.size(), copySql);
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            copyWriter.write(pgCopyOutputStream);
         } finally {
             if (copyIn.isActive()) {
                 copyIn.cancelCopy();
             }
         }
     }
+
+    protected String getCopySql() {
+        return sql;
+    }
+
+    /**
+     * Serializes the items in the format expected by the COPY statement returned by {@link #getCopySql()}.
+     */
+    protected void serialize(Collection<?> items, OutputStream outputStream) throws IOException {
+        writer.writeValue(outputStream, items);
+    }
+
+    /**
+     * Writes the serialized items to the COPY output stream.
+     */
+    @FunctionalInterface
+    protected interface CopyWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
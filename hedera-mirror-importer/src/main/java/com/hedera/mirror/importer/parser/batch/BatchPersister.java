@@ -29,4 +29,16 @@ import java.util.Collection;
 public interface BatchPersister {
 
     void persist(Collection<? extends Object> items);
+
+    /**
+     * Prepares the items to be persisted by the returned runnable. Implementations may do CPU bound work such as
+     * serialization here so it can run concurrently with the persisting of other items, while the database operations
+     * are left to the returned runnable to run on the caller's connection in the caller's order.
+     *
+     * @param items the items to persist
+     * @return the runnable that persists the prepared items
+     */
+    default Runnable prepare(Collection<? extends Object> items) {
+        return () -> persist(items);
+    }
 }
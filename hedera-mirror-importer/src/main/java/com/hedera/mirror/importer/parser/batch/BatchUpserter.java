@@ -66,7 +66,7 @@ public class BatchUpserter extends BatchInserter {
     }
 
     @Override
-    protected void persistItems(Collection<?> items, Connection connection) {
+    protected void persistItems(Collection<?> items, CopyWriter copyWriter, Connection connection) {
         if (CollectionUtils.isEmpty(items)) {
             return;
         }
@@ -76,7 +76,7 @@ public class BatchUpserter extends BatchInserter {
             createTempTable(connection);
 
             // copy items to temp table
-            super.persistItems(items, connection);
+            super.persistItems(items, copyWriter, connection);
 
             // Upsert items from the temporary table to the final table
             upsert(connection);
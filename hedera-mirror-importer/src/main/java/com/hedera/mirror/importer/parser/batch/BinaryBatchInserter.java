@@ -0,0 +1,251 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ClassUtils;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+
+/**
+ * Stateless writer to insert rows into PostgreSQL using COPY with the binary format. Each value is written in its
+ * binary wire representation, which avoids formatting the values as CSV text only for PostgreSQL to parse them again.
+ * An {@link UnsupportedOperationException} is thrown on construction if any column type is not supported.
+ */
+@Log4j2
+public class BinaryBatchInserter extends BatchInserter {
+
+    // PGCOPY\n\377\r\n\0 signature followed by the 32-bit flags field and the 32-bit header extension length
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0,
+            0, 0, 0, 0, 0, 0, 0, 0};
+    private static final int INT8_OID = 20;
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+
+    // Range flags as defined in rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private final List<BinaryColumn> columns;
+    private final String sql;
+
+    public BinaryBatchInserter(Class<?> entityClass, DataSource dataSource, MeterRegistry meterRegistry,
+                               CommonParserProperties properties, EntityMetadata entityMetadata) {
+        super(entityClass, dataSource, meterRegistry, properties, entityMetadata.getTableName());
+        columns = entityMetadata.getColumns()
+                .stream()
+                .map(c -> new BinaryColumn(c.getGetter(), encoder(c)))
+                .toList();
+        sql = String.format("COPY %s(%s) FROM STDIN WITH (FORMAT binary)", tableName, entityMetadata.columns("{0}"));
+        log.debug("Using binary COPY format for table {}", tableName);
+    }
+
+    @Override
+    protected String getCopySql() {
+        return sql;
+    }
+
+    @Override
+    protected void serialize(Collection<?> items, OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+
+        for (Object item : items) {
+            out.writeShort(columns.size());
+
+            for (BinaryColumn column : columns) {
+                Object value = column.getter().apply(item);
+
+                if (value == null) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    column.encoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private static ValueEncoder encoder(ColumnMetadata column) {
+        Class<?> type = ClassUtils.primitiveToWrapper(column.getType());
+        boolean number = Number.class.isAssignableFrom(type);
+
+        ValueEncoder encoder = switch (column.getSqlType()) {
+            case "bool" -> type == Boolean.class ? BinaryBatchInserter::writeBoolean : null;
+            case "bytea" -> type == byte[].class ? BinaryBatchInserter::writeBytes : null;
+            case "int2" -> number ? BinaryBatchInserter::writeInt2 : null;
+            case "int4" -> number ? BinaryBatchInserter::writeInt4 : null;
+            case "int8" -> {
+                if (type == EntityId.class) {
+                    yield BinaryBatchInserter::writeEntityId;
+                }
+                yield number ? BinaryBatchInserter::writeInt8 : null;
+            }
+            case "int8range" -> type == Range.class ? BinaryBatchInserter::writeInt8Range : null;
+            case "_int8" -> List.class.isAssignableFrom(type) ? BinaryBatchInserter::writeInt8Array : null;
+            case "text", "varchar" -> type == String.class ? BinaryBatchInserter::writeText : null;
+            default -> type.isEnum() ? BinaryBatchInserter::writeEnum : null;
+        };
+
+        if (encoder == null) {
+            throw new UnsupportedOperationException(String.format("Unsupported binary column %s of type %s for %s",
+                    column.getName(), column.getSqlType(), type.getSimpleName()));
+        }
+
+        return encoder;
+    }
+
+    private static void writeBoolean(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean((Boolean) value);
+    }
+
+    private static void writeBytes(DataOutputStream out, Object value) throws IOException {
+        byte[] bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeEntityId(DataOutputStream out, Object value) throws IOException {
+        var entityId = (EntityId) value;
+
+        // Consistent with EntityIdSerializer used by the CSV format
+        if (EntityId.isEmpty(entityId)) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            writeInt8(out, entityId.getId());
+        }
+    }
+
+    private static void writeEnum(DataOutputStream out, Object value) throws IOException {
+        writeText(out, ((Enum<?>) value).name());
+    }
+
+    private static void writeInt2(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Short.BYTES);
+        out.writeShort(((Number) value).shortValue());
+    }
+
+    private static void writeInt4(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Integer.BYTES);
+        out.writeInt(((Number) value).intValue());
+    }
+
+    private static void writeInt8(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(((Number) value).longValue());
+    }
+
+    private static void writeInt8Array(DataOutputStream out, Object value) throws IOException {
+        var elements = (List<?>) value;
+        int nulls = (int) elements.stream().filter(e -> e == null).count();
+        int dimensions = elements.isEmpty() ? 0 : 1;
+        int length = 3 * Integer.BYTES + dimensions * 2 * Integer.BYTES + elements.size() * Integer.BYTES +
+                (elements.size() - nulls) * Long.BYTES;
+
+        out.writeInt(length);
+        out.writeInt(dimensions);
+        out.writeInt(nulls > 0 ? 1 : 0);
+        out.writeInt(INT8_OID);
+
+        if (dimensions > 0) {
+            out.writeInt(elements.size());
+            out.writeInt(1); // Lower bound
+        }
+
+        for (Object element : elements) {
+            if (element == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                writeInt8(out, element);
+            }
+        }
+    }
+
+    private static void writeInt8Range(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        boolean hasLower = range.hasLowerBound();
+        boolean hasUpper = range.hasUpperBound();
+        int flags = 0;
+
+        if (!hasLower) {
+            flags |= RANGE_LB_INF;
+        } else if (range.lowerBoundType() == BoundType.CLOSED) {
+            flags |= RANGE_LB_INC;
+        }
+
+        if (!hasUpper) {
+            flags |= RANGE_UB_INF;
+        } else if (range.upperBoundType() == BoundType.CLOSED) {
+            flags |= RANGE_UB_INC;
+        }
+
+        int boundLength = Integer.BYTES + Long.BYTES;
+        out.writeInt(1 + (hasLower ? boundLength : 0) + (hasUpper ? boundLength : 0));
+        out.writeByte(flags);
+
+        if (hasLower) {
+            writeInt8(out, range.lowerEndpoint());
+        }
+
+        if (hasUpper) {
+            writeInt8(out, range.upperEndpoint());
+        }
+    }
+
+    private static void writeText(DataOutputStream out, Object value) throws IOException {
+        writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record BinaryColumn(Function<Object, Object> getter, ValueEncoder encoder) {
+    }
+}
@@ -28,14 +28,17 @@ import javax.inject.Named;
 import javax.persistence.Entity;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
 
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 
+@Log4j2
 @Named
 @Primary
 @RequiredArgsConstructor
@@ -43,6 +46,7 @@ public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
@@ -53,13 +57,26 @@ public class CompositeBatchPersister implements BatchPersister {
             return;
         }
 
+        getBatchPersister(items).persist(items);
+    }
+
+    @Override
+    public Runnable prepare(Collection<? extends Object> items) {
+        if (items == null || items.isEmpty()) {
+            return () -> {
+            };
+        }
+
+        return getBatchPersister(items).prepare(items);
+    }
+
+    private BatchPersister getBatchPersister(Collection<? extends Object> items) {
         Object item = items.iterator().next();
         if (item == null) {
             throw new UnsupportedOperationException("Object does not support batch insertion: " + item);
         }
 
-        BatchPersister batchPersister = batchPersisters.computeIfAbsent(item.getClass(), this::create);
-        batchPersister.persist(items);
+        return batchPersisters.computeIfAbsent(item.getClass(), this::create);
     }
 
     private BatchPersister create(Class<?> domainClass) {
@@ -73,8 +90,20 @@ public class CompositeBatchPersister implements BatchPersister {
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
             return new BatchUpserter(domainClass, dataSource, meterRegistry, properties, generator);
+        } else if (properties.getCopyFormat() == CommonParserProperties.CopyFormat.BINARY) {
+            return createBinaryBatchInserter(domainClass);
         } else {
             return new BatchInserter(domainClass, dataSource, meterRegistry, properties);
         }
     }
+
+    private BatchPersister createBinaryBatchInserter(Class<?> domainClass) {
+        try {
+            var entityMetadata = entityMetadataRegistry.lookup(domainClass);
+            return new BinaryBatchInserter(domainClass, dataSource, meterRegistry, properties, entityMetadata);
+        } catch (Exception e) {
+            log.warn("Falling back to CSV COPY format for {}: {}", domainClass.getSimpleName(), e.getMessage());
+            return new BatchInserter(domainClass, dataSource, meterRegistry, properties);
+        }
+    }
 }
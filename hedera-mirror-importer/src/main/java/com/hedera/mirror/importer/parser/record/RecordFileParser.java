@@ -24,25 +24,50 @@ import static com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcess
 import static com.hedera.mirror.importer.reader.record.ProtoRecordFileReader.VERSION;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.NftTransfer;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransactionBody;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import javax.inject.Named;
 import org.apache.logging.log4j.Level;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.downloader.StreamFileRewindEvent;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
@@ -52,11 +77,25 @@ import com.hedera.mirror.importer.util.Utility;
 @Named
 public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
+    // Transactions whose processing reads back the database, so the record files before them have to be committed
+    // before they're parsed and they're never committed in the background
+    private static final Set<TransactionType> PIPELINE_BARRIER_TYPES = EnumSet.of(TransactionType.FILEAPPEND,
+            TransactionType.FILECREATE, TransactionType.FILEUPDATE, TransactionType.NODESTAKEUPDATE);
+
     private final AtomicReference<RecordFile> last;
+    private final EntityIdService entityIdService;
     private final RecordItemListener recordItemListener;
     private final RecordStreamFileListener recordStreamFileListener;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
 
+    // Pipeline
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService commitExecutor;
+    private final AtomicReference<RecordFile> failedCommit;
+    private final Deque<Future<?>> pendingCommits;
+    private final RetryTemplate retryTemplate;
+    private final TransactionTemplate transactionTemplate;
+
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
     private final Map<Integer, DistributionSummary> sizeMetrics;
@@ -67,13 +106,32 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
                             StreamFileRepository<RecordFile, Long> streamFileRepository,
                             RecordItemListener recordItemListener,
                             RecordStreamFileListener recordStreamFileListener,
-                            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
+                            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor,
+                            PlatformTransactionManager transactionManager,
+                            EntityIdService entityIdService,
+                            ApplicationEventPublisher eventPublisher) {
         super(meterRegistry, parserProperties, streamFileRepository);
         this.last = new AtomicReference<>();
+        this.entityIdService = entityIdService;
         this.recordItemListener = recordItemListener;
         this.recordStreamFileListener = recordStreamFileListener;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
 
+        this.eventPublisher = eventPublisher;
+
+        commitExecutor = Executors.newSingleThreadExecutor();
+        Runtime.getRuntime().addShutdownHook(new Thread(commitExecutor::shutdown));
+        failedCommit = new AtomicReference<>();
+        pendingCommits = new ArrayDeque<>();
+        var retry = parserProperties.getRetry();
+        retryTemplate = RetryTemplate.builder()
+                .maxAttempts(retry.getMaxAttempts())
+                .exponentialBackoff(retry.getMinBackoff().toMillis(), retry.getMultiplier(),
+                        retry.getMaxBackoff().toMillis())
+                .build();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setTimeout((int) parserProperties.getTransactionTimeout().toSeconds());
+
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
         ImmutableMap.Builder<Integer, DistributionSummary> sizeMetricsBuilder = ImmutableMap.builder();
@@ -114,6 +172,10 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public void parse(RecordFile recordFile) {
+        if (isSkipped(recordFile)) {
+            return;
+        }
+
         super.parse(recordFile);
     }
 
@@ -121,8 +183,23 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     protected void doParse(RecordFile recordFile) {
         DateRangeFilter dateRangeFilter = mirrorDateRangePropertiesProcessor
                 .getDateRangeFilter(parserProperties.getStreamType());
+        var recordParserProperties = (RecordParserProperties) parserProperties;
+        int aliasPrefetchSize = recordParserProperties.getAliasPrefetchSize();
+        int pipelineDepth = recordParserProperties.getPipelineDepth();
 
         try {
+            boolean deferred = pipelineDepth > 1 && !isPipelineBarrier(recordFile);
+
+            if (!deferred) {
+                // Previously parsed record files have to be committed first since this one reads the database while
+                // it's parsed and is committed inline
+                drainPendingCommits();
+
+                if (failedCommit.get() != null) {
+                    throw new ParserException("Failed to commit previously parsed record files");
+                }
+            }
+
             Flux<RecordItem> recordItems = recordFile.getItems();
 
             if (log.getLevel().isInRange(Level.DEBUG, Level.TRACE)) {
@@ -131,22 +208,169 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
             recordStreamFileListener.onStart();
 
-            long count = recordItems.doOnNext(recordFile::processItem)
-                    .filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()))
-                    .doOnNext(recordItemListener::onItem)
+            recordItems = recordItems.doOnNext(recordFile::processItem)
+                    .filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()));
+
+            if (aliasPrefetchSize > 0) {
+                recordItems = recordItems.buffer(aliasPrefetchSize)
+                        .doOnNext(this::prefetchAliases)
+                        .flatMapIterable(Function.identity());
+            }
+
+            long count = recordItems.doOnNext(recordItemListener::onItem)
                     .doOnNext(this::recordMetrics)
                     .count()
                     .block();
 
             recordFile.finishLoad(count);
-            recordStreamFileListener.onEnd(recordFile);
-            updateIndex(recordFile);
+
+            if (deferred) {
+                var persist = recordStreamFileListener.onEndDeferred(recordFile);
+                commit(recordFile, persist, pipelineDepth);
+            } else {
+                recordStreamFileListener.onEnd(recordFile);
+                updateIndex(recordFile);
+            }
         } catch (Exception ex) {
             recordStreamFileListener.onError();
             throw ex;
         }
     }
 
+    /**
+     * Once a deferred commit fails, the record files parsed after it are skipped until the downloader rewinds to the
+     * record file that failed to commit, so it's parsed again and no record file is missing from the database.
+     */
+    private boolean isSkipped(RecordFile recordFile) {
+        var failed = failedCommit.get();
+
+        if (failed == null) {
+            return false;
+        }
+
+        drainPendingCommits();
+
+        if (recordFile.getConsensusEnd() > failed.getConsensusEnd()) {
+            log.warn("Skipping record file {} until {} that failed to commit is parsed again", recordFile.getName(),
+                    failed.getName());
+            return true;
+        }
+
+        log.info("Parsing record files again starting from {}", recordFile.getName());
+        failedCommit.set(null);
+        last.set(null); // Reload from the database since the record files after it were never committed
+        return false;
+    }
+
+    /**
+     * Commits the parsed record file in its own transaction on the commit thread, so the next record file can be parsed
+     * while the database writes of this one are in progress. Commits run one at a time in the order the record files
+     * are parsed, and once a commit fails the pending commits of later record files are skipped and the downloader is
+     * asked to rewind to the last committed record file. Returns once fewer than pipelineDepth record files are
+     * waiting to be committed.
+     */
+    private void commit(RecordFile recordFile, Runnable persist, int pipelineDepth) {
+        pendingCommits.add(commitExecutor.submit(() -> {
+            if (failedCommit.get() != null) {
+                log.warn("Skipping commit of {} since a previous record file failed to commit", recordFile.getName());
+                return;
+            }
+
+            try {
+                retryTemplate.execute(context -> transactionTemplate.execute(status -> {
+                    persist.run();
+                    updateIndex(recordFile);
+                    return null;
+                }));
+                log.info("Committed record file {}", recordFile.getName());
+            } catch (RuntimeException e) {
+                log.error("Error committing record file {}", recordFile.getName(), e);
+                failedCommit.set(recordFile);
+                eventPublisher.publishEvent(new StreamFileRewindEvent(this, parserProperties.getStreamType()));
+            }
+        }));
+
+        while (pendingCommits.size() >= pipelineDepth) {
+            await(pendingCommits.poll());
+        }
+    }
+
+    private void drainPendingCommits() {
+        while (!pendingCommits.isEmpty()) {
+            await(pendingCommits.poll());
+        }
+    }
+
+    private void await(Future<?> commit) {
+        try {
+            commit.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException(e);
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), ParserException.class);
+            throw new ParserException(e.getCause());
+        }
+    }
+
+    /**
+     * Resolves the aliases and EVM addresses referenced by the transactions that most often use them with a query per
+     * batch of record items instead of a query per alias while the items are processed.
+     */
+    private void prefetchAliases(List<RecordItem> recordItems) {
+        List<AccountID> accountIds = new ArrayList<>();
+        List<ContractID> contractIds = new ArrayList<>();
+
+        for (var recordItem : recordItems) {
+            TransactionBody body = recordItem.getTransactionBody();
+
+            switch (body.getDataCase()) {
+                case CONTRACTCALL -> contractIds.add(body.getContractCall().getContractID());
+                case CONTRACTDELETEINSTANCE -> {
+                    var contractDelete = body.getContractDeleteInstance();
+                    accountIds.add(contractDelete.getTransferAccountID());
+                    contractIds.add(contractDelete.getContractID());
+                    contractIds.add(contractDelete.getTransferContractID());
+                }
+                case CONTRACTUPDATEINSTANCE -> contractIds.add(body.getContractUpdateInstance().getContractID());
+                case CRYPTOAPPROVEALLOWANCE -> {
+                    var approveAllowance = body.getCryptoApproveAllowance();
+                    approveAllowance.getCryptoAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                    approveAllowance.getNftAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                    approveAllowance.getTokenAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                }
+                case CRYPTODELETE -> accountIds.add(body.getCryptoDelete().getTransferAccountID());
+                case CRYPTOTRANSFER -> {
+                    var cryptoTransfer = body.getCryptoTransfer();
+                    cryptoTransfer.getTransfers().getAccountAmountsList()
+                            .forEach(a -> accountIds.add(a.getAccountID()));
+
+                    for (TokenTransferList tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+                        for (AccountAmount accountAmount : tokenTransferList.getTransfersList()) {
+                            accountIds.add(accountAmount.getAccountID());
+                        }
+
+                        for (NftTransfer nftTransfer : tokenTransferList.getNftTransfersList()) {
+                            accountIds.add(nftTransfer.getReceiverAccountID());
+                            accountIds.add(nftTransfer.getSenderAccountID());
+                        }
+                    }
+                }
+                default -> {
+                    // Aliases are resolved individually for the remaining transaction types
+                }
+            }
+        }
+
+        entityIdService.prefetch(accountIds, contractIds);
+    }
+
+    private boolean isPipelineBarrier(RecordFile recordFile) {
+        return Boolean.TRUE.equals(recordFile.getItems()
+                .any(r -> PIPELINE_BARRIER_TYPES.contains(TransactionType.of(r.getTransactionType())))
+                .block());
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace("Transaction = {}, Record = {}",
@@ -159,7 +383,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
     private void recordMetrics(RecordItem recordItem) {
         sizeMetrics.getOrDefault(recordItem.getTransactionType(), unknownSizeMetric)
-                .record(recordItem.getTransactionBytes().length);
+                .record(recordItem.getTransactionBytes().size());
 
         Instant consensusTimestamp = Utility.convertToInstant(recordItem.getRecord().getConsensusTimestamp());
         latencyMetrics.getOrDefault(recordItem.getTransactionType(), unknownLatencyMetric)
@@ -20,6 +20,7 @@ package com.hedera.mirror.importer.parser.record;
  * ‍
  */
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -36,9 +37,15 @@ import com.hedera.mirror.importer.parser.PartialDataAction;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @Min(0)
+    private int aliasPrefetchSize = 1000; // The number of record items whose aliases are resolved together, 0 disables
+
     @NotNull
     private PartialDataAction partialDataAction = PartialDataAction.ERROR;
 
+    @Min(1)
+    private int pipelineDepth = 1; // The number of record files that can be parsed but not yet committed
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
@@ -24,4 +24,19 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.StreamFileListener;
 
 public interface RecordStreamFileListener extends StreamFileListener<RecordFile> {
+
+    /**
+     * Called instead of {@link #onEnd} when the record file is persisted by a later pipeline stage. Completes the
+     * in-memory processing of the record file and returns the task that persists it, so that the listener can start
+     * processing the next record file while the task runs in another thread and transaction. By default, the record
+     * file is persisted before returning.
+     *
+     * @param recordFile the record file
+     * @return the task that persists the record file
+     */
+    default Runnable onEndDeferred(RecordFile recordFile) {
+        onEnd(recordFile);
+        return () -> {
+        };
+    }
 }
@@ -20,11 +20,15 @@ package com.hedera.mirror.importer.parser.record.entity;
  * ‍
  */
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.context.ApplicationEvent;
 
 public class EntityBatchSaveEvent extends ApplicationEvent {
     private static final long serialVersionUID = -5121039174183266247L;
 
+    private final transient List<Runnable> persistTasks;
+
     /**
      * Create a new {@code ApplicationEvent}.
      *
@@ -32,6 +36,41 @@ public class EntityBatchSaveEvent extends ApplicationEvent {
      *               {@code null})
      */
     public EntityBatchSaveEvent(Object source) {
+        this(source, false);
+    }
+
+    /**
+     * Create a new {@code ApplicationEvent}.
+     *
+     * @param source   the object on which the event initially occurred or with which the event is associated (never
+     *                 {@code null})
+     * @param deferred whether the batch is persisted later in another thread
+     */
+    public EntityBatchSaveEvent(Object source, boolean deferred) {
         super(source);
+        persistTasks = deferred ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Runs the task in the transaction that persists the batch. The task runs immediately unless the batch is
+     * deferred, in which case it runs once the batch has been persisted.
+     *
+     * @param task the task to run
+     */
+    public void onPersist(Runnable task) {
+        if (persistTasks != null) {
+            persistTasks.add(task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs the tasks registered for a deferred batch after it has been persisted.
+     */
+    public void persisted() {
+        if (persistTasks != null) {
+            persistTasks.forEach(Runnable::run);
+        }
     }
 }
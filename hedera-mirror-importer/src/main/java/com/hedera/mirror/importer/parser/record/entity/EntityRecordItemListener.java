@@ -256,7 +256,7 @@ public class EntityRecordItemListener implements RecordItemListener {
         transaction.setResult(txRecord.getReceipt().getStatusValue());
         transaction.setScheduled(txRecord.hasScheduleRef());
         transaction.setTransactionBytes(entityProperties.getPersist().isTransactionBytes() ?
-                recordItem.getTransactionBytes() : null);
+                DomainUtils.toBytes(recordItem.getTransactionBytes()) : null);
         transaction.setTransactionHash(DomainUtils.toBytes(txRecord.getTransactionHash()));
         transaction.setType(recordItem.getTransactionType());
         transaction.setValidDurationSeconds(validDurationSeconds);
@@ -371,7 +371,7 @@ public class EntityRecordItemListener implements RecordItemListener {
             fileDataRepository.save(fileData);
             addressBookService.update(fileData);
         } else if (entityProperties.getPersist().isFiles() ||
-                (entityProperties.getPersist().isSystemFiles() && entityId.getEntityNum() < 1000)) {
+                (entityProperties.getPersist().isSystemFiles() && entityId.num() < 1000)) {
             entityListener.onFileData(fileData);
         }
     }
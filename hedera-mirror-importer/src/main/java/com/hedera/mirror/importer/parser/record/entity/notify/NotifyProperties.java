@@ -33,5 +33,12 @@ public class NotifyProperties implements EntityListenerProperties {
 
     private boolean enabled = false;
 
+    private PayloadFormat format = PayloadFormat.JSON;
+
     private int maxJsonPayloadSize = 8000;
+
+    public enum PayloadFormat {
+        BINARY, // Many topic messages packed into each payload
+        JSON, // One topic message per payload
+    }
 }
@@ -29,6 +29,7 @@ import io.micrometer.core.instrument.Timer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import javax.annotation.PostConstruct;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
@@ -61,10 +62,12 @@ public class NotifyingEntityListener implements BatchEntityListener {
     private final MeterRegistry meterRegistry;
     private final List<TopicMessage> topicMessages = new ArrayList<>();
 
+    private TopicMessageBatchEncoder encoder;
     private Timer timer;
 
     @PostConstruct
     void init() {
+        encoder = new TopicMessageBatchEncoder(notifyProperties.getMaxJsonPayloadSize());
         timer = Timer.builder("hedera.mirror.importer.publish.duration")
                 .description("The amount of time it took to publish the entity")
                 .tag("entity", TopicMessage.class.getSimpleName())
@@ -86,9 +89,16 @@ public class NotifyingEntityListener implements BatchEntityListener {
     @EventListener
     public void onSave(EntityBatchSaveEvent event) {
         if (isEnabled()) {
-            Stopwatch stopwatch = Stopwatch.createStarted();
-            timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
-            log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
+            int count = topicMessages.size();
+            var payloads = notifyProperties.getFormat() == NotifyProperties.PayloadFormat.BINARY ?
+                    encoder.encode(topicMessages) : toJson(topicMessages);
+
+            // Notifications are delivered when the transaction that persists the messages commits
+            event.onPersist(() -> {
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                timer.record(() -> jdbcTemplate.execute(SQL, callback(payloads)));
+                log.info("Finished notifying {} messages in {} payloads in {}", count, payloads.size(), stopwatch);
+            });
         }
     }
 
@@ -99,19 +109,23 @@ public class NotifyingEntityListener implements BatchEntityListener {
         topicMessages.clear();
     }
 
-    private PreparedStatementCallback callback(Collection<TopicMessage> topicMessages) {
+    private PreparedStatementCallback callback(Collection<String> payloads) {
         return preparedStatement -> {
-            for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
-                if (json != null) {
-                    preparedStatement.setString(1, json);
-                    preparedStatement.addBatch();
-                }
+            for (String payload : payloads) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
             }
             return preparedStatement.executeBatch();
         };
     }
 
+    private List<String> toJson(Collection<TopicMessage> topicMessages) {
+        return topicMessages.stream()
+                .map(this::toJson)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private String toJson(TopicMessage topicMessage) {
         try {
             String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
@@ -0,0 +1,155 @@
+package com.hedera.mirror.importer.parser.record.entity.notify;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.importer.exception.ParserException;
+
+/**
+ * Packs topic messages into as few pg_notify payloads as possible. Since a notify payload has to be text, a payload is
+ * {@link #PREFIX} followed by the Base64 encoding of one or more records written back to back. A record is:
+ * <pre>
+ * byte flags | long consensus_timestamp | long topic_id | long sequence_number
+ * </pre>
+ * followed, unless it's a reference, by:
+ * <pre>
+ * int running_hash_version | bytes running_hash | bytes message | [int chunk_num | int chunk_total]
+ * | [bytes initial_transaction_id] | [long payer_account_id] | [long valid_start_timestamp]
+ * </pre>
+ * where bytes is an int length, -1 for null, followed by that many bytes, and the optional fields are present when
+ * their flag is set. A topic message whose record doesn't fit in a payload is sent as a reference with only the header,
+ * and the listener reads it from the database instead.
+ */
+class TopicMessageBatchEncoder {
+
+    static final String PREFIX = "b1:";
+    static final int FLAG_REFERENCE = 1;
+    static final int FLAG_CHUNK_INFO = 2;
+    static final int FLAG_INITIAL_TRANSACTION_ID = 4;
+    static final int FLAG_PAYER_ACCOUNT_ID = 8;
+    static final int FLAG_VALID_START_TIMESTAMP = 16;
+
+    private final int maxRecordsSize;
+
+    TopicMessageBatchEncoder(int maxPayloadSize) {
+        // Every 3 bytes are encoded as 4 Base64 characters
+        maxRecordsSize = (maxPayloadSize - PREFIX.length() - 1) / 4 * 3;
+    }
+
+    List<String> encode(Collection<TopicMessage> topicMessages) {
+        try {
+            List<String> payloads = new ArrayList<>();
+            var batch = new ByteArrayOutputStream(maxRecordsSize);
+            var record = new ByteArrayOutputStream();
+            var output = new DataOutputStream(record);
+
+            for (var topicMessage : topicMessages) {
+                record.reset();
+                write(topicMessage, output);
+
+                if (record.size() > maxRecordsSize) {
+                    record.reset();
+                    writeHeader(topicMessage, FLAG_REFERENCE, output);
+                }
+
+                if (batch.size() + record.size() > maxRecordsSize) {
+                    payloads.add(toPayload(batch));
+                    batch.reset();
+                }
+
+                record.writeTo(batch);
+            }
+
+            if (batch.size() > 0) {
+                payloads.add(toPayload(batch));
+            }
+
+            return payloads;
+        } catch (IOException e) {
+            throw new ParserException(e);
+        }
+    }
+
+    private String toPayload(ByteArrayOutputStream batch) {
+        return PREFIX + Base64.getEncoder().encodeToString(batch.toByteArray());
+    }
+
+    private void write(TopicMessage topicMessage, DataOutputStream output) throws IOException {
+        int flags = 0;
+        if (topicMessage.getChunkNum() != null) {
+            flags |= FLAG_CHUNK_INFO;
+        }
+        if (topicMessage.getInitialTransactionId() != null) {
+            flags |= FLAG_INITIAL_TRANSACTION_ID;
+        }
+        if (!EntityId.isEmpty(topicMessage.getPayerAccountId())) {
+            flags |= FLAG_PAYER_ACCOUNT_ID;
+        }
+        if (topicMessage.getValidStartTimestamp() != null) {
+            flags |= FLAG_VALID_START_TIMESTAMP;
+        }
+
+        writeHeader(topicMessage, flags, output);
+        output.writeInt(topicMessage.getRunningHashVersion());
+        writeBytes(topicMessage.getRunningHash(), output);
+        writeBytes(topicMessage.getMessage(), output);
+
+        if ((flags & FLAG_CHUNK_INFO) != 0) {
+            output.writeInt(topicMessage.getChunkNum());
+            output.writeInt(topicMessage.getChunkTotal() != null ? topicMessage.getChunkTotal() : 0);
+        }
+        if ((flags & FLAG_INITIAL_TRANSACTION_ID) != 0) {
+            writeBytes(topicMessage.getInitialTransactionId(), output);
+        }
+        if ((flags & FLAG_PAYER_ACCOUNT_ID) != 0) {
+            output.writeLong(topicMessage.getPayerAccountId().id());
+        }
+        if ((flags & FLAG_VALID_START_TIMESTAMP) != 0) {
+            output.writeLong(topicMessage.getValidStartTimestamp());
+        }
+    }
+
+    private void writeHeader(TopicMessage topicMessage, int flags, DataOutputStream output) throws IOException {
+        output.writeByte(flags);
+        output.writeLong(topicMessage.getConsensusTimestamp());
+        output.writeLong(topicMessage.getTopicId().id());
+        output.writeLong(topicMessage.getSequenceNumber());
+    }
+
+    private void writeBytes(byte[] bytes, DataOutputStream output) throws IOException {
+        if (bytes == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
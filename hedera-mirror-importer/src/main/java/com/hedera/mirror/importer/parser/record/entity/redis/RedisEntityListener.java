@@ -40,6 +40,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.importer.MirrorProperties;
@@ -119,10 +121,7 @@ public class RedisEntityListener implements BatchEntityListener {
 
         List<TopicMessage> latestMessageBatch = topicMessages;
         topicMessages = new ArrayList<>();
-        if (!topicMessagesQueue.offer(latestMessageBatch)) {
-            log.warn("topicMessagesQueue is full, will block until space is available");
-            topicMessagesQueue.put(latestMessageBatch);
-        }
+        event.onPersist(() -> afterCommit(() -> enqueue(latestMessageBatch)));
     }
 
     @Override
@@ -132,6 +131,31 @@ public class RedisEntityListener implements BatchEntityListener {
         topicMessages.clear();
     }
 
+    // Subscribers read back messages from the database, so only publish them once they're visible
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private void enqueue(List<TopicMessage> messages) {
+        try {
+            if (!topicMessagesQueue.offer(messages)) {
+                log.warn("topicMessagesQueue is full, will block until space is available");
+                topicMessagesQueue.put(messages);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void publish(List<TopicMessage> messages) {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
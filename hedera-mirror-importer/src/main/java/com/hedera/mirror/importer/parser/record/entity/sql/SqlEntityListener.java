@@ -23,12 +23,20 @@ package com.hedera.mirror.importer.parser.record.entity.sql;
 import static com.hedera.mirror.importer.config.MirrorImporterConfiguration.TOKEN_DISSOCIATE_BATCH_PERSISTER;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.inject.Named;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.BeanCreationNotAllowedException;
@@ -102,6 +110,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final SidecarFileRepository sidecarFileRepository;
     private final SqlProperties sqlProperties;
     private final BatchPersister tokenDissociateTransferBatchPersister;
+    private final ExecutorService flushThreadPool;
 
     // lists of insert only domains
     private final Collection<AssessedCustomFee> assessedCustomFees;
@@ -164,6 +173,8 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         this.sidecarFileRepository = sidecarFileRepository;
         this.sqlProperties = sqlProperties;
         this.tokenDissociateTransferBatchPersister = tokenDissociateTransferBatchPersister;
+        flushThreadPool = Executors.newCachedThreadPool();
+        Runtime.getRuntime().addShutdownHook(new Thread(flushThreadPool::shutdown));
 
         assessedCustomFees = new ArrayList<>();
         contracts = new ArrayList<>();
@@ -211,47 +222,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             eventPublisher.publishEvent(new EntityBatchSaveEvent(this));
 
             Stopwatch stopwatch = Stopwatch.createStarted();
-
-            // insert only operations
-            batchPersister.persist(assessedCustomFees);
-            batchPersister.persist(contractActions);
-            batchPersister.persist(contractLogs);
-            batchPersister.persist(contractResults);
-            batchPersister.persist(contractStateChanges);
-            batchPersister.persist(cryptoTransfers);
-            batchPersister.persist(customFees);
-            batchPersister.persist(ethereumTransactions);
-            batchPersister.persist(fileData);
-            batchPersister.persist(liveHashes);
-            batchPersister.persist(networkStakes);
-            batchPersister.persist(nodeStakes);
-            batchPersister.persist(prngs);
-            batchPersister.persist(topicMessages);
-            batchPersister.persist(transactions);
-            batchPersister.persist(transactionHashes);
-            batchPersister.persist(transactionSignatures);
-
-            // insert operations with conflict management
-            batchPersister.persist(contracts);
-            batchPersister.persist(cryptoAllowances);
-            batchPersister.persist(entities);
-            batchPersister.persist(nftAllowances);
-            batchPersister.persist(tokens.values());
-            // ingest tokenAccounts after tokens since some fields of token accounts depends on the associated token
-            batchPersister.persist(tokenAccounts.values());
-            batchPersister.persist(tokenAllowances);
-            batchPersister.persist(nfts.values()); // persist nft after token entity
-            batchPersister.persist(schedules.values());
-
-            // transfers operations should be last to ensure insert logic completeness, entities should already exist
-            batchPersister.persist(nonFeeTransfers);
-            batchPersister.persist(nftTransferState.values());
-            batchPersister.persist(stakingRewardTransfers);
-            batchPersister.persist(tokenTransfers);
-
-            // handle the transfers from token dissociate transactions after nft is processed
-            tokenDissociateTransferBatchPersister.persist(tokenDissociateTransfers);
-
+            persist(batches());
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -262,11 +233,138 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    /**
+     * Copies the batches of the record file so the returned task can persist them while the collections are reused for
+     * the next record file.
+     */
+    @Override
+    public Runnable onEndDeferred(RecordFile recordFile) {
+        try {
+            var event = new EntityBatchSaveEvent(this, true);
+            eventPublisher.publishEvent(event);
+
+            var batches = batches().stream()
+                    .filter(batch -> !batch.items().isEmpty())
+                    .map(batch -> new Batch(batch.persister(), new ArrayList<>(batch.items())))
+                    .toList();
+
+            return () -> {
+                try {
+                    Stopwatch stopwatch = Stopwatch.createStarted();
+                    persist(batches);
+                    log.info("Completed batch inserts in {}", stopwatch);
+                } catch (ParserException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new ParserException(e);
+                }
+
+                save(recordFile);
+                event.persisted();
+            };
+        } finally {
+            cleanup();
+        }
+    }
+
     @Override
     public boolean isEnabled() {
         return sqlProperties.isEnabled();
     }
 
+    private List<Batch> batches() {
+        return List.of(
+                // insert only operations
+                new Batch(batchPersister, assessedCustomFees),
+                new Batch(batchPersister, contractActions),
+                new Batch(batchPersister, contractLogs),
+                new Batch(batchPersister, contractResults),
+                new Batch(batchPersister, contractStateChanges),
+                new Batch(batchPersister, cryptoTransfers),
+                new Batch(batchPersister, customFees),
+                new Batch(batchPersister, ethereumTransactions),
+                new Batch(batchPersister, fileData),
+                new Batch(batchPersister, liveHashes),
+                new Batch(batchPersister, networkStakes),
+                new Batch(batchPersister, nodeStakes),
+                new Batch(batchPersister, prngs),
+                new Batch(batchPersister, topicMessages),
+                new Batch(batchPersister, transactions),
+                new Batch(batchPersister, transactionHashes),
+                new Batch(batchPersister, transactionSignatures),
+
+                // insert operations with conflict management
+                new Batch(batchPersister, contracts),
+                new Batch(batchPersister, cryptoAllowances),
+                new Batch(batchPersister, entities),
+                new Batch(batchPersister, nftAllowances),
+                new Batch(batchPersister, tokens.values()),
+                // ingest tokenAccounts after tokens since some fields of token accounts depends on the associated
+                // token
+                new Batch(batchPersister, tokenAccounts.values()),
+                new Batch(batchPersister, tokenAllowances),
+                new Batch(batchPersister, nfts.values()), // persist nft after token entity
+                new Batch(batchPersister, schedules.values()),
+
+                // transfers operations should be last to ensure insert logic completeness, entities should
+                // already exist
+                new Batch(batchPersister, nonFeeTransfers),
+                new Batch(batchPersister, nftTransferState.values()),
+                new Batch(batchPersister, stakingRewardTransfers),
+                new Batch(batchPersister, tokenTransfers),
+
+                // handle the transfers from token dissociate transactions after nft is processed
+                new Batch(tokenDissociateTransferBatchPersister, tokenDissociateTransfers)
+        );
+    }
+
+    /**
+     * Persists the batches in the given order on the connection of the current transaction. With a parallelism greater
+     * than one, up to parallelism batches are prepared, i.e. serialized, concurrently ahead of the batch currently being
+     * written. The database writes stay sequential and in order, so the dependencies between tables and the atomicity
+     * of the transaction are kept.
+     *
+     * @param batches the batches to persist in order
+     */
+    private void persist(List<Batch> batches) throws ExecutionException, InterruptedException {
+        int parallelism = sqlProperties.getParallelism();
+        var batchIter = batches.stream().filter(batch -> !batch.items().isEmpty()).iterator();
+
+        if (parallelism <= 1) {
+            batchIter.forEachRemaining(batch -> batch.persister().persist(batch.items()));
+            return;
+        }
+
+        Deque<Future<Runnable>> pendingWrites = new ArrayDeque<>(parallelism);
+        try {
+            while (batchIter.hasNext() || !pendingWrites.isEmpty()) {
+                while (pendingWrites.size() < parallelism && batchIter.hasNext()) {
+                    var batch = batchIter.next();
+                    pendingWrites.add(flushThreadPool.submit(() -> batch.persister().prepare(batch.items())));
+                }
+
+                try {
+                    pendingWrites.poll().get().run();
+                } catch (ExecutionException e) {
+                    Throwables.throwIfUnchecked(e.getCause());
+                    throw e;
+                }
+            }
+        } finally {
+            // wait for in-flight serialization to finish before the batch collections are cleared
+            for (var pendingWrite : pendingWrites) {
+                try {
+                    pendingWrite.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    // the error of the failed write has already been thrown
+                }
+            }
+        }
+    }
+
     @Override
     public void onStart() {
         cleanup();
@@ -275,10 +373,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onEnd(RecordFile recordFile) {
         flush();
-        if (recordFile != null) {
-            recordFileRepository.save(recordFile);
-            sidecarFileRepository.saveAll(recordFile.getSidecars());
-        }
+        save(recordFile);
     }
 
     @Override
@@ -286,6 +381,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         cleanup();
     }
 
+    private void save(RecordFile recordFile) {
+        if (recordFile != null) {
+            recordFileRepository.save(recordFile);
+            sidecarFileRepository.saveAll(recordFile.getSidecars());
+        }
+    }
+
     private void cleanup() {
         try {
             assessedCustomFees.clear();
@@ -464,7 +566,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onToken(Token token) throws ImporterException {
         // tokens could experience multiple updates in a single record file, handle updates in memory for this case
-        tokens.merge(token.getTokenId().getTokenId().getId(), token, this::mergeToken);
+        tokens.merge(token.getTokenId().getTokenId().id(), token, this::mergeToken);
     }
 
     @Override
@@ -769,4 +871,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         previous.setTimestampUpper(current.getTimestampLower());
         return current;
     }
+
+    private record Batch(BatchPersister persister, Collection<?> items) {
+    }
 }
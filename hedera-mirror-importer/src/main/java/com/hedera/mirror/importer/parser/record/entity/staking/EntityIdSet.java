@@ -0,0 +1,121 @@
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash set of entity IDs that stores them in a primitive array. A staking period can touch millions
+ * of entities, and a HashSet would box every ID and allocate a node for it. Zero is used to mark an empty slot since it
+ * isn't a valid entity ID.
+ */
+class EntityIdSet {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long[] ids;
+    private int mask;
+    private int size;
+
+    EntityIdSet() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    void add(long id) {
+        if (id == 0L) {
+            return;
+        }
+
+        int slot = find(id);
+        if (ids[slot] == 0L) {
+            ids[slot] = id;
+
+            if (++size > ids.length * LOAD_FACTOR) {
+                resize();
+            }
+        }
+    }
+
+    void addAll(long[] other) {
+        for (long id : other) {
+            add(id);
+        }
+    }
+
+    boolean contains(long id) {
+        return id != 0L && ids[find(id)] == id;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the IDs in ascending order.
+     *
+     * @return a new array of the IDs
+     */
+    long[] toArray() {
+        var result = new long[size];
+        int index = 0;
+
+        for (long id : ids) {
+            if (id != 0L) {
+                result[index++] = id;
+            }
+        }
+
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int find(long id) {
+        int slot = hash(id) & mask;
+
+        while (ids[slot] != 0L && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private int hash(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void resize() {
+        var oldIds = ids;
+        allocate(oldIds.length * 2);
+
+        for (long id : oldIds) {
+            if (id != 0L) {
+                ids[find(id)] = id;
+            }
+        }
+    }
+}
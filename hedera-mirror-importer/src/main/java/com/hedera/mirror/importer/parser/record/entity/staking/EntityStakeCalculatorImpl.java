@@ -22,6 +22,7 @@ package com.hedera.mirror.importer.parser.record.entity.staking;
 
 import com.google.common.base.Stopwatch;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Named;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +42,15 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
     private final EntityStakeRepository entityStakeRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final RecordStreamFileListener recordStreamFileListener;
+    private final EntityStakeChangeTracker entityStakeChangeTracker;
+
+    private static final long[] NO_CHANGES = new long[0];
+
+    // The changed entity IDs not yet applied to entity_stake. Kept until the update succeeds so that they're also
+    // recalculated next time if the transaction rolls back or the update fails. Null means every entity needs to be
+    // recalculated, which is also the initial state since the changes tracked before the first staking period boundary
+    // after startup are incomplete. The arrays are never modified once published since update() runs asynchronously.
+    private final AtomicReference<long[]> pendingChanges = new AtomicReference<>();
 
     @Override
     public void calculate(Collection<NodeStake> nodeStakes) {
@@ -49,17 +59,52 @@ public class EntityStakeCalculatorImpl implements EntityStakeCalculator {
         }
 
         var stopwatch = Stopwatch.createStarted();
-        // Flush data to final tables so the entity balance is accurate when refreshing the materialized view
+        // Flush data to final tables so the entity balance is accurate when refreshing entity_state_start
         recordStreamFileListener.flush();
-        entityRepository.refreshEntityStateStart();
+
+        var drained = entityStakeChangeTracker.drain();
+        var changes = pendingChanges.updateAndGet(previous -> merge(previous, drained));
+
+        if (changes == null) {
+            entityRepository.refreshEntityStateStart();
+            log.info("Flushed data from record file and refreshed entity_state_start in {}", stopwatch);
+        } else {
+            entityStakeRepository.updateEntityStateStart(changes);
+            log.info("Flushed data from record file and updated entity_state_start for {} changed entities in {}",
+                    changes.length, stopwatch);
+        }
+
         eventPublisher.publishEvent(new NodeStakeUpdateEvent(this));
-        log.info("Flushed data from record file and refreshed entity_state_start materialized view in {} ", stopwatch);
     }
 
     @Override
     public void update() {
         var stopwatch = Stopwatch.createStarted();
-        int count = entityStakeRepository.updateEntityStake();
-        log.info("Updated pending reward and stake state for {} entities in {}", count, stopwatch);
+        var changes = pendingChanges.get();
+        boolean all = changes == null;
+        int count = all ? entityStakeRepository.updateEntityStake() : entityStakeRepository.updateEntityStake(changes);
+        pendingChanges.compareAndSet(changes, NO_CHANGES);
+
+        if (all) {
+            log.info("Updated pending reward and stake state for {} entities in {}", count, stopwatch);
+        } else {
+            log.info("Updated pending reward and stake state for {} changed or staking entities in {}", count,
+                    stopwatch);
+        }
+    }
+
+    private long[] merge(long[] previous, long[] changes) {
+        if (previous == null || changes == null) {
+            return null;
+        }
+
+        if (previous.length == 0) {
+            return changes;
+        }
+
+        var merged = new EntityIdSet();
+        merged.addAll(previous);
+        merged.addAll(changes);
+        return merged.toArray();
     }
 }
@@ -0,0 +1,85 @@
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import javax.inject.Named;
+
+import com.hedera.mirror.common.domain.contract.Contract;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+
+/**
+ * Tracks the entities whose balance or staking metadata may have changed since the start of the staking period so that
+ * only their stake needs to be recalculated at the end of it. The tracked set is a superset of the changed entities
+ * since any entity update counts as a change.
+ * <p>
+ * The listener callbacks and {@link #drain()} are all invoked by the record file parser thread, so the tracked set is
+ * confined to it. The drained IDs are handed to other threads as an array that is never modified afterwards.
+ */
+@Named
+public class EntityStakeChangeTracker implements EntityListener {
+
+    // Past this the changes are discarded and the next calculation covers every entity
+    static final int MAX_CHANGES = 5_000_000;
+
+    private EntityIdSet changes = new EntityIdSet();
+    private boolean overflowed = false;
+
+    @Override
+    public void onContract(Contract contract) {
+        add(contract.getId());
+    }
+
+    @Override
+    public void onCryptoTransfer(CryptoTransfer cryptoTransfer) {
+        add(cryptoTransfer.getEntityId());
+    }
+
+    @Override
+    public void onEntity(Entity entity) {
+        add(entity.getId());
+    }
+
+    /**
+     * Returns the entities that changed since the last call and starts tracking a new staking period.
+     *
+     * @return the changed entity IDs in ascending order, or null if there were too many to track
+     */
+    long[] drain() {
+        var drained = overflowed ? null : changes.toArray();
+        changes = new EntityIdSet();
+        overflowed = false;
+        return drained;
+    }
+
+    private void add(Long id) {
+        if (id == null || overflowed) {
+            return;
+        }
+
+        changes.add(id);
+        if (changes.size() > MAX_CHANGES) {
+            changes = new EntityIdSet();
+            overflowed = true;
+        }
+    }
+}
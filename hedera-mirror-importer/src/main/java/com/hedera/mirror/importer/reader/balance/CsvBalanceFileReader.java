@@ -21,21 +21,18 @@ package com.hedera.mirror.importer.reader.balance;
  */
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Flux;
 
@@ -83,44 +80,60 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     protected abstract String getVersionHeaderPrefix();
 
+    /**
+     * Hashes the decompressed bytes since the hash has to be verified before the file is parsed. The header is parsed
+     * eagerly and the account balances are parsed lazily from the decompressed bytes as they're requested by the
+     * subscriber, so only a batch of them is on the heap at a time. The count is set when all the account balances have
+     * been read.
+     */
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        MessageDigest messageDigest = DigestUtils.getSha384Digest();
-        int bufferSize = balanceParserProperties.getFileBufferSize();
+        byte[] bytes = streamFileData.getDecompressedBytes();
+        long consensusTimestamp = parseConsensusTimestamp(reader(bytes, BUFFER_SIZE));
+
+        AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
+        accountBalanceFile.setBytes(streamFileData.getBytes());
+        accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+        accountBalanceFile.setFileHash(DomainUtils.bytesToHex(DigestUtils.sha384(bytes)));
+        accountBalanceFile.setItems(toFlux(bytes, accountBalanceFile));
+        accountBalanceFile.setLoadStart(Instant.now().getEpochSecond());
+        accountBalanceFile.setName(streamFileData.getFilename());
+        return accountBalanceFile;
+    }
+
+    private BufferedReader reader(byte[] bytes, int bufferSize) {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), CHARSET), bufferSize);
+    }
 
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
+    private Flux<AccountBalance> toFlux(byte[] bytes, AccountBalanceFile accountBalanceFile) {
+        return Flux.defer(() -> {
+            var reader = reader(bytes, balanceParserProperties.getFileBufferSize());
             long consensusTimestamp = parseConsensusTimestamp(reader);
             AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
 
-            AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
-            accountBalanceFile.setBytes(streamFileData.getBytes());
-            accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
-            accountBalanceFile.setLoadStart(Instant.now().getEpochSecond());
-            accountBalanceFile.setName(streamFileData.getFilename());
-
-            reader.lines()
-                    .map(line -> {
+            return Flux.<AccountBalance>generate(sink -> {
+                try {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
                         try {
                             AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
-                            count.incrementAndGet();
-                            return accountBalance;
+                            if (accountBalance != null) {
+                                count.incrementAndGet();
+                                sink.next(accountBalance);
+                                return;
+                            }
                         } catch (InvalidDatasetException ex) {
                             log.error(ex);
-                            return null;
                         }
-                    })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(Flux.fromIterable(items));
-            return accountBalanceFile;
-        } catch (IOException ex) {
-            throw new InvalidDatasetException("Error reading account balance file", ex);
-        }
+                    }
+
+                    accountBalanceFile.setCount(count.get());
+                    sink.complete();
+                } catch (IOException ex) {
+                    sink.error(new InvalidDatasetException("Error reading account balance file", ex));
+                }
+            }).doFinally(s -> IOUtils.closeQuietly(reader));
+        });
     }
 
     protected abstract long parseConsensusTimestamp(BufferedReader reader);
@@ -23,10 +23,14 @@ package com.hedera.mirror.importer.reader.record;
 import static java.lang.String.format;
 import static org.apache.commons.io.output.NullOutputStream.NULL_OUTPUT_STREAM;
 
-import java.io.DataInputStream;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
 import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -50,7 +54,10 @@ import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hedera.services.stream.proto.SidecarMetadata;
 
 @Log4j2
 @Named
@@ -62,9 +69,12 @@ public class ProtoRecordFileReader implements RecordFileReader {
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = Instant.now().getEpochSecond();
+        var decompressedBytes = streamFileData.getDecompressedBytes();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        try {
+            var recordStreamFileBuilder = RecordStreamFile.newBuilder();
+            var items = readRecordStreamFile(filename, decompressedBytes, recordStreamFileBuilder);
+            var recordStreamFile = recordStreamFileBuilder.build();
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -75,26 +85,27 @@ public class ProtoRecordFileReader implements RecordFileReader {
             }
 
             var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
-            int count = items.size();
-            long consensusEnd = items.get(count - 1).getConsensusTimestamp();
-            var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
             var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+            var recordItems = toRecordItems(filename, hapiProtoVersion, items);
+            int count = recordItems.size();
+            long consensusEnd = recordItems.get(count - 1).getConsensusTimestamp();
+            var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
             var sidecars = getSidecars(consensusEnd, recordStreamFile, streamFileData.getStreamFilename());
+            var fileHash = DomainUtils.bytesToHex(createMessageDigest(digestAlgorithm).digest(decompressedBytes));
 
             return RecordFile.builder()
                     .bytes(bytes)
-                    .consensusStart(items.get(0).getConsensusTimestamp())
+                    .consensusStart(recordItems.get(0).getConsensusTimestamp())
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(digestAlgorithm, streamFileData.getDecompressedBytes()))
+                    .fileHash(fileHash)
                     .hapiVersionMajor(hapiProtoVersion.getMajor())
                     .hapiVersionMinor(hapiProtoVersion.getMinor())
                     .hapiVersionPatch(hapiProtoVersion.getPatch())
                     .hash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(endObjectRunningHash)))
                     .index(recordStreamFile.getBlockNumber())
-                    .items(Flux.fromIterable(items))
+                    .items(Flux.fromIterable(recordItems))
                     .loadStart(loadStart)
                     .metadataHash(getMetadataHash(digestAlgorithm, recordStreamFile))
                     .name(filename)
@@ -135,11 +146,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(DigestAlgorithm algorithm, byte[] fileData) {
-        var messageDigest = createMessageDigest(algorithm);
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
-    }
-
     private String getMetadataHash(DigestAlgorithm algorithm, RecordStreamFile recordStreamFile) throws IOException {
         try (var digestOutputStream = new DigestOutputStream(NULL_OUTPUT_STREAM, createMessageDigest(algorithm));
              var dataOutputStream = new DataOutputStream(digestOutputStream)) {
@@ -175,41 +181,89 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
+    private List<RecordItem> toRecordItems(String filename, SemanticVersion hapiProtoVersion,
+                                           List<RecordStreamItemBytes> items) {
+        int count = items.size();
         if (count == 0) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
 
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
         var hapiVersion = new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(),
                 hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
+        var recordItems = new ArrayList<RecordItem>(count);
         RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
+        for (var item : items) {
             var recordItem = RecordItem.builder()
                     .hapiVersion(hapiVersion)
                     .previous(previousItem)
-                    .recordBytes(recordStreamItem.getRecord().toByteArray())
-                    .transactionBytes(recordStreamItem.getTransaction().toByteArray())
-                    .transactionIndex(items.size())
+                    .recordBytes(item.recordBytes())
+                    .transactionBytes(item.transactionBytes())
+                    .transactionIndex(recordItems.size())
                     .build();
-            items.add(recordItem);
+            recordItems.add(recordItem);
             previousItem = recordItem;
         }
 
-        return items;
+        return recordItems;
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(format("Expected file %s with version %d, got %d.", filename,
-                        VERSION, version));
+    /**
+     * Reads the record stream file from the decompressed bytes. All fields except the record stream items are merged
+     * into the builder. The transaction and record of each record stream item are kept as ByteStrings aliasing the
+     * decompressed bytes, instead of being parsed into a RecordStreamItem only to be serialized again for the
+     * RecordItem.
+     */
+    private List<RecordStreamItemBytes> readRecordStreamFile(String filename, byte[] bytes,
+                                                             RecordStreamFile.Builder builder) throws IOException {
+        int version = bytes.length < Integer.BYTES ? -1 : Ints.fromByteArray(bytes);
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(format("Expected file %s with version %d, got %d.", filename,
+                    VERSION, version));
+        }
+
+        var input = CodedInputStream.newInstance(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+        input.enableAliasing(true);
+        var items = new ArrayList<RecordStreamItemBytes>();
+        var registry = ExtensionRegistryLite.getEmptyRegistry();
+
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER -> items.add(readRecordStreamItem(input));
+                case RecordStreamFile.HAPI_PROTO_VERSION_FIELD_NUMBER -> builder.mergeHapiProtoVersion(
+                        input.readMessage(SemanticVersion.parser(), registry));
+                case RecordStreamFile.START_OBJECT_RUNNING_HASH_FIELD_NUMBER -> builder.mergeStartObjectRunningHash(
+                        input.readMessage(HashObject.parser(), registry));
+                case RecordStreamFile.END_OBJECT_RUNNING_HASH_FIELD_NUMBER -> builder.mergeEndObjectRunningHash(
+                        input.readMessage(HashObject.parser(), registry));
+                case RecordStreamFile.BLOCK_NUMBER_FIELD_NUMBER -> builder.setBlockNumber(input.readInt64());
+                case RecordStreamFile.SIDECARS_FIELD_NUMBER -> builder.addSidecars(
+                        input.readMessage(SidecarMetadata.parser(), registry));
+                default -> input.skipField(tag);
             }
+        }
+
+        return items;
+    }
+
+    private RecordStreamItemBytes readRecordStreamItem(CodedInputStream input) throws IOException {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        ByteString recordBytes = ByteString.EMPTY;
+        ByteString transactionBytes = ByteString.EMPTY;
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case RecordStreamItem.RECORD_FIELD_NUMBER -> recordBytes = input.readBytes();
+                case RecordStreamItem.TRANSACTION_FIELD_NUMBER -> transactionBytes = input.readBytes();
+                default -> input.skipField(tag);
+            }
         }
+
+        input.popLimit(oldLimit);
+        return new RecordStreamItemBytes(recordBytes, transactionBytes);
+    }
+
+    private record RecordStreamItemBytes(ByteString recordBytes, ByteString transactionBytes) {
     }
 }
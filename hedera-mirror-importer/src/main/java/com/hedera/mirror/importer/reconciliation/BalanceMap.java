@@ -0,0 +1,265 @@
+package com.hedera.mirror.importer.reconciliation;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * An open addressing hash map of balances keyed by one or two longs that stores keys and values in primitive arrays.
+ * Balance snapshots can contain tens of millions of entries, and a HashMap would box every key and value. Keys of a
+ * token balance map pack the account ID and token ID of an entry next to each other in the same array.
+ */
+class BalanceMap {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private final BiFunction<Long, Long, Object> keyFormatter;
+    private final int width;
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean[] used;
+    private long[] values;
+
+    private BalanceMap(int width, BiFunction<Long, Long, Object> keyFormatter) {
+        this.keyFormatter = keyFormatter;
+        this.width = width;
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    static BalanceMap accounts() {
+        return new BalanceMap(1, (accountId, unused) -> accountId);
+    }
+
+    static BalanceMap tokens() {
+        return new BalanceMap(2, BalanceReconciliationService.TokenAccountId::new);
+    }
+
+    long get(long key) {
+        return get(key, 0L);
+    }
+
+    long get(long key1, long key2) {
+        int slot = find(key1, key2);
+        return used[slot] ? values[slot] : 0L;
+    }
+
+    void merge(long key, long amount) {
+        merge(key, 0L, amount);
+    }
+
+    /**
+     * Adds the amount to the balance of the key, treating a missing balance as zero.
+     *
+     * @throws ArithmeticException if the balance overflows
+     */
+    void merge(long key1, long key2, long amount) {
+        int slot = find(key1, key2);
+        if (used[slot]) {
+            values[slot] = Math.addExact(values[slot], amount);
+        } else {
+            insert(slot, key1, key2, amount);
+        }
+    }
+
+    void put(long key, long value) {
+        put(key, 0L, value);
+    }
+
+    void put(long key1, long key2, long value) {
+        int slot = find(key1, key2);
+        if (used[slot]) {
+            values[slot] = value;
+        } else {
+            insert(slot, key1, key2, value);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Compares this map to another in a single pass over each map, treating a missing balance as zero. At most
+     * maxSamples differences are kept to describe the mismatch.
+     *
+     * @param other      the map to compare to
+     * @param maxSamples the maximum number of differences to keep
+     * @return the differences between the maps, which are empty if the maps are equal
+     */
+    Difference difference(BalanceMap other, int maxSamples) {
+        var difference = new Difference(maxSamples);
+
+        for (int slot = 0; slot < used.length; slot++) {
+            if (!used[slot]) {
+                continue;
+            }
+
+            long key1 = key1(slot);
+            long key2 = key2(slot);
+            int otherSlot = other.find(key1, key2);
+
+            if (!other.used[otherSlot]) {
+                if (values[slot] != 0L) {
+                    difference.add(difference.onlyOnLeft, format(key1, key2), values[slot]);
+                }
+            } else if (values[slot] != other.values[otherSlot]) {
+                var valueDifference = "(" + values[slot] + ", " + other.values[otherSlot] + ")";
+                difference.add(difference.valueDifferences, format(key1, key2), valueDifference);
+            }
+        }
+
+        for (int slot = 0; slot < other.used.length; slot++) {
+            if (other.used[slot] && other.values[slot] != 0L) {
+                long key1 = other.key1(slot);
+                long key2 = other.key2(slot);
+
+                if (!used[find(key1, key2)]) {
+                    difference.add(difference.onlyOnRight, format(key1, key2), other.values[slot]);
+                }
+            }
+        }
+
+        return difference;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * width];
+        mask = capacity - 1;
+        used = new boolean[capacity];
+        values = new long[capacity];
+    }
+
+    private int find(long key1, long key2) {
+        int slot = hash(key1, key2) & mask;
+
+        while (used[slot] && (key1(slot) != key1 || key2(slot) != key2)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private Object format(long key1, long key2) {
+        return keyFormatter.apply(key1, key2);
+    }
+
+    private int hash(long key1, long key2) {
+        long hash = (key1 * 31 + key2) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private void insert(int slot, long key1, long key2, long value) {
+        keys[slot * width] = key1;
+        if (width > 1) {
+            keys[slot * width + 1] = key2;
+        }
+        used[slot] = true;
+        values[slot] = value;
+
+        if (++size > used.length * LOAD_FACTOR) {
+            resize();
+        }
+    }
+
+    private long key1(int slot) {
+        return keys[slot * width];
+    }
+
+    private long key2(int slot) {
+        return width > 1 ? keys[slot * width + 1] : 0L;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldUsed = used;
+        var oldValues = values;
+        allocate(oldUsed.length * 2);
+
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i]) {
+                long key1 = oldKeys[i * width];
+                long key2 = width > 1 ? oldKeys[i * width + 1] : 0L;
+                int slot = find(key1, key2);
+                keys[slot * width] = key1;
+                if (width > 1) {
+                    keys[slot * width + 1] = key2;
+                }
+                used[slot] = true;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * A bounded sample of the differences between two balance maps, formatted like Guava's MapDifference.
+     */
+    static class Difference {
+
+        private final int maxSamples;
+        private final Map<Object, Object> onlyOnLeft = new LinkedHashMap<>();
+        private final Map<Object, Object> onlyOnRight = new LinkedHashMap<>();
+        private final Map<Object, Object> valueDifferences = new LinkedHashMap<>();
+        private long count;
+
+        private Difference(int maxSamples) {
+            this.maxSamples = maxSamples;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        @Override
+        public String toString() {
+            if (isEmpty()) {
+                return "equal";
+            }
+
+            var result = new StringBuilder("not equal");
+            if (!onlyOnLeft.isEmpty()) {
+                result.append(": only on left=").append(onlyOnLeft);
+            }
+            if (!onlyOnRight.isEmpty()) {
+                result.append(": only on right=").append(onlyOnRight);
+            }
+            if (!valueDifferences.isEmpty()) {
+                result.append(": value differences=").append(valueDifferences);
+            }
+
+            long omitted = count - Math.min(count, maxSamples);
+            if (omitted > 0) {
+                result.append(": ").append(omitted).append(" more differences omitted");
+            }
+
+            return result.toString();
+        }
+
+        private void add(Map<Object, Object> samples, Object key, Object value) {
+            if (count++ < maxSamples) {
+                samples.put(key, value);
+            }
+        }
+    }
+}
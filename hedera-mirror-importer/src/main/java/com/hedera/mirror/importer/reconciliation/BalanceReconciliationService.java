@@ -31,14 +31,10 @@ import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.micrometer.core.instrument.Metrics;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -68,6 +64,7 @@ import com.hedera.mirror.importer.repository.RecordFileRepository;
 class BalanceReconciliationService {
 
     static final long FIFTY_BILLION_HBARS = 50_000_000_000L * 100_000_000L;
+    static final int MAX_DIFFERENCES = 100;
     static final String METRIC = "hedera.mirror.reconciliation";
     static final long OFFSET_NANOS = 53;
     static final Version VERSION_27 = new Version(0, 27, 0); // First version with 53 ns offset issue
@@ -207,7 +204,7 @@ class BalanceReconciliationService {
         jdbcOperations.query(CRYPTO_TRANSFER_QUERY, rs -> {
             long accountId = rs.getLong(1);
             long balance = rs.getLong(2);
-            transfersBalance.merge(accountId, balance, Math::addExact);
+            transfersBalance.merge(accountId, balance);
         }, previous.getTimestamp(), current.getTimestamp());
 
         reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
@@ -224,24 +221,23 @@ class BalanceReconciliationService {
             long accountId = rs.getLong(1);
             long tokenId = rs.getLong(2);
             long balance = rs.getLong(3);
-            var tokenAccountId = new TokenAccountId(accountId, tokenId);
-            tokenBalances.merge(tokenAccountId, balance, Math::addExact);
+            tokenBalances.merge(accountId, tokenId, balance);
         }, previous.getTimestamp(), current.getTimestamp());
 
         reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
     }
 
-    private <K> void reconcileTransfers(ReconciliationStatus failureStatus,
-                                        Function<BalanceSnapshot, Map<K, Long>> mapper,
-                                        BalanceSnapshot previous,
-                                        BalanceSnapshot current) {
+    private void reconcileTransfers(ReconciliationStatus failureStatus,
+                                    Function<BalanceSnapshot, BalanceMap> mapper,
+                                    BalanceSnapshot previous,
+                                    BalanceSnapshot current) {
         var transfersBalance = mapper.apply(previous);
         var currentBalances = mapper.apply(current);
+        var difference = transfersBalance.difference(currentBalances, MAX_DIFFERENCES);
 
-        if (!equals(transfersBalance, currentBalances)) {
+        if (!difference.isEmpty()) {
             long fromTimestamp = previous.getTimestamp();
             long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
 
             if (reconciliationProperties.getRemediationStrategy() == FAIL) {
                 throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
@@ -256,22 +252,6 @@ class BalanceReconciliationService {
         }
     }
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
-        }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private Optional<BalanceSnapshot> getNextBalanceSnapshot(ReconciliationJob reconciliationJob,
                                                              Optional<BalanceSnapshot> previous) {
 
@@ -293,8 +273,8 @@ class BalanceReconciliationService {
                 });
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
+    private BalanceMap getAccountBalances(AccountBalanceFile accountBalanceFile) {
+        var balances = BalanceMap.accounts();
         AtomicLong total = new AtomicLong(0L);
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
@@ -313,20 +293,19 @@ class BalanceReconciliationService {
         return balances;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
+    private BalanceMap getTokenBalances(AccountBalanceFile accountBalanceFile) {
+        var balances = BalanceMap.tokens();
         if (!reconciliationProperties.isToken()) {
-            return Collections.emptyMap();
+            return balances;
         }
 
-        Map<TokenAccountId, Long> balances = new HashMap<>();
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
         jdbcOperations.query(TOKEN_BALANCE_QUERY, rs -> {
             long accountId = rs.getLong(1);
             long tokenId = rs.getLong(2);
             long balance = rs.getLong(3);
-            var tokenAccountId = new TokenAccountId(accountId, tokenId);
-            balances.put(tokenAccountId, balance);
+            balances.put(accountId, tokenId, balance);
         }, consensusTimestamp);
 
         return balances;
@@ -343,11 +322,11 @@ class BalanceReconciliationService {
     private static class BalanceSnapshot {
 
         private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
+        private final BalanceMap balances;
         private final Optional<RecordFile> recordFile;
         private final ReconciliationJob reconciliationJob;
         private final long startTime;
-        private final Map<TokenAccountId, Long> tokenBalances;
+        private final BalanceMap tokenBalances;
 
         private long getTimestamp() {
             long offset = accountBalanceFile.getTimeOffset();
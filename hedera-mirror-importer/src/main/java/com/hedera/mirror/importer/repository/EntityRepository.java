@@ -29,7 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.hedera.mirror.common.domain.entity.Entity;
 
 @Transactional
-public interface EntityRepository extends CrudRepository<Entity, Long> {
+public interface EntityRepository extends CrudRepository<Entity, Long>, EntityRepositoryCustom {
 
     @Query(value = "select id from entity where alias = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByAlias(byte[] alias);
@@ -38,7 +38,20 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
     Optional<Long> findByEvmAddress(byte[] evmAddress);
 
     @Modifying
-    @Query(value = "refresh materialized view entity_state_start", nativeQuery = true)
+    @Query(value = """
+            truncate entity_state_start;
+            insert into entity_state_start (balance, decline_reward, id, staked_account_id, staked_node_id,
+              stake_period_start)
+            select
+              balance,
+              decline_reward,
+              id,
+              coalesce(staked_account_id, 0)   as staked_account_id,
+              coalesce(staked_node_id, -1)     as staked_node_id,
+              coalesce(stake_period_start, -1) as stake_period_start
+            from entity
+            where deleted is not true and type in ('ACCOUNT', 'CONTRACT')
+            """, nativeQuery = true)
     void refreshEntityStateStart();
 
     @Modifying
@@ -0,0 +1,44 @@
+package com.hedera.mirror.importer.repository;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+public interface EntityRepositoryCustom {
+
+    /**
+     * Finds the IDs of the entities that aren't deleted with any of the given aliases.
+     *
+     * @param aliases the aliases to look up
+     * @return the entity IDs keyed by the wrapped alias
+     */
+    Map<ByteBuffer, Long> findByAliasIn(Collection<byte[]> aliases);
+
+    /**
+     * Finds the IDs of the entities that aren't deleted with any of the given EVM addresses.
+     *
+     * @param evmAddresses the EVM addresses to look up
+     * @return the entity IDs keyed by the wrapped EVM address
+     */
+    Map<ByteBuffer, Long> findByEvmAddressIn(Collection<byte[]> evmAddresses);
+}
@@ -0,0 +1,67 @@
+package com.hedera.mirror.importer.repository;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@Named
+@RequiredArgsConstructor
+public class EntityRepositoryCustomImpl implements EntityRepositoryCustom {
+
+    private static final String FIND_BY_ALIAS_IN_SQL =
+            "select alias, id from entity where alias = any(?) and deleted <> true";
+
+    private static final String FIND_BY_EVM_ADDRESS_IN_SQL =
+            "select evm_address, id from entity where evm_address = any(?) and deleted <> true";
+
+    private final JdbcOperations jdbcOperations;
+
+    @Override
+    public Map<ByteBuffer, Long> findByAliasIn(Collection<byte[]> aliases) {
+        return find(FIND_BY_ALIAS_IN_SQL, aliases);
+    }
+
+    @Override
+    public Map<ByteBuffer, Long> findByEvmAddressIn(Collection<byte[]> evmAddresses) {
+        return find(FIND_BY_EVM_ADDRESS_IN_SQL, evmAddresses);
+    }
+
+    private Map<ByteBuffer, Long> find(String sql, Collection<byte[]> values) {
+        if (values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<ByteBuffer, Long> ids = new HashMap<>();
+        jdbcOperations.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bytea", values.toArray(new byte[0][]))),
+                rs -> {
+                    ids.put(ByteBuffer.wrap(rs.getBytes(1)), rs.getLong(2));
+                });
+        return ids;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hedera.mirror.importer.repository;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+public interface EntityStakeRepositoryCustom {
+
+    /**
+     * Updates entity stake state based on the current entity stake state, the ending period node reward rate and the
+     * entity state snapshot at the beginning of the new staking period.
+     * <p>
+     * Algorithm to update pending reward:
+     * <p>
+     * 1. IF there is no such row in entity_stake (new entity created in the ending stake period), OR its
+     * decline_reward_start is true (decline reward for the ending staking period), OR it didn't stake to a node for the
+     * ending staking period, the new pending reward is 0
+     * <p>
+     * 2.IF there is no node stake info for the node the entity staked to, the pending reward keeps the same
+     * <p>
+     * 3. IF the current stake_period_start >= the last epochDay from node stake update (either its staking metadata
+     * or balance changed in the ending staking period), calculate the reward it has earned in the ending staking period
+     * as its pending reward
+     * <p>
+     * 4. Otherwise, there's no staking metadata or balance change for the entity since the start of the ending staking
+     * period, add the reward earned in the ending period to the current as the new pending reward
+     *
+     * @return Number of entity state inserted and updated
+     */
+    int updateEntityStake();
+
+    /**
+     * Updates entity stake state like {@link #updateEntityStake()} but only for the given entities that changed in the
+     * ending staking period, the accounts they proxy stake to, and the entities that either staked to a node or had
+     * others proxy staking to them at the start of the ending period. The stake state of any other entity stays the
+     * same since it neither earns rewards nor changed.
+     *
+     * @param changedIds the entities with balance or staking metadata changes in the ending staking period
+     * @return Number of entity state inserted and updated
+     */
+    int updateEntityStake(long[] changedIds);
+
+    /**
+     * Updates the entity_state_start snapshot for the given entities to their current state, removing those that are
+     * deleted.
+     *
+     * @param changedIds the entities with balance or staking metadata changes in the ending staking period
+     */
+    void updateEntityStateStart(long[] changedIds);
+}
@@ -0,0 +1,141 @@
+package com.hedera.mirror.importer.repository;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.sql.Types;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.annotation.Transactional;
+
+@Named
+@RequiredArgsConstructor
+public class EntityStakeRepositoryCustomImpl implements EntityStakeRepositoryCustom {
+
+    private static final String DELETE_ENTITY_STATE_START_SQL = "delete from entity_state_start where id = any(?)";
+
+    private static final String INSERT_ENTITY_STATE_START_SQL = """
+            insert into entity_state_start (balance, decline_reward, id, staked_account_id, staked_node_id,
+              stake_period_start)
+            select
+              balance,
+              decline_reward,
+              id,
+              coalesce(staked_account_id, 0)   as staked_account_id,
+              coalesce(staked_node_id, -1)     as staked_node_id,
+              coalesce(stake_period_start, -1) as stake_period_start
+            from entity
+            where id = any(?) and deleted is not true and type in ('ACCOUNT', 'CONTRACT')
+            """;
+
+    // The changed ids are null to update every entity
+    private static final String UPDATE_ENTITY_STAKE_SQL = """
+            with ending_period_node_stake as (
+              select node_id, epoch_day, reward_rate
+              from node_stake
+              where consensus_timestamp = (select max(consensus_timestamp) from node_stake)
+            ), changed as (
+              select unnest(?::bigint[]) as id
+            ), recalculated as (
+              select id from changed
+              union
+              select staked_account_id
+              from entity_state_start
+              where id in (select id from changed) and staked_account_id <> 0
+              union
+              select id
+              from entity_stake
+              where staked_node_id_start <> -1 or staked_to_me <> 0
+            ), proxy_staking as (
+              select staked_account_id, sum(balance) as staked_to_me
+              from entity_state_start
+              where staked_account_id <> 0
+              group by staked_account_id
+            ), updated as (
+              select
+                ess.decline_reward as decline_reward_start,
+                (select epoch_day from ending_period_node_stake limit 1) as end_stake_period,
+                ess.id,
+                (case
+                   when coalesce(es.decline_reward_start, true) is true
+                        or coalesce(es.staked_node_id_start, -1) = -1
+                        then 0
+                   when node_id is null then es.pending_reward
+                   when ess.stake_period_start >= epoch_day
+                        then reward_rate * (es.stake_total_start / 100000000)
+                   else es.pending_reward + reward_rate * (es.stake_total_start / 100000000)
+                  end) as pending_reward,
+                ess.staked_node_id as staked_node_id_start,
+                coalesce(ps.staked_to_me, 0) as staked_to_me,
+                (case when ess.decline_reward is true or ess.staked_node_id = -1 then 0
+                      else ess.balance + coalesce(ps.staked_to_me, 0)
+                  end) as stake_total_start
+              from entity_state_start ess
+              left join entity_stake es on es.id = ess.id
+              left join ending_period_node_stake on node_id = es.staked_node_id_start
+              left join proxy_staking ps on ps.staked_account_id = ess.id
+              where ?::bigint[] is null or ess.id in (select id from recalculated)
+            )
+            insert into entity_stake
+            table updated
+            on conflict (id) do update
+              set decline_reward_start = excluded.decline_reward_start,
+                  end_stake_period     = excluded.end_stake_period,
+                  pending_reward       = excluded.pending_reward,
+                  staked_node_id_start = excluded.staked_node_id_start,
+                  staked_to_me         = excluded.staked_to_me,
+                  stake_total_start    = excluded.stake_total_start;
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    @Override
+    @Transactional
+    public int updateEntityStake() {
+        return update(UPDATE_ENTITY_STAKE_SQL, null, 2);
+    }
+
+    @Override
+    @Transactional
+    public int updateEntityStake(long[] changedIds) {
+        return update(UPDATE_ENTITY_STAKE_SQL, changedIds, 2);
+    }
+
+    @Override
+    @Transactional
+    public void updateEntityStateStart(long[] changedIds) {
+        update(DELETE_ENTITY_STATE_START_SQL, changedIds, 1);
+        update(INSERT_ENTITY_STATE_START_SQL, changedIds, 1);
+    }
+
+    // The driver binds a primitive array directly as bigint[] without boxing each id
+    private int update(String sql, long[] ids, int parameters) {
+        return jdbcOperations.update(sql, ps -> {
+            for (int i = 1; i <= parameters; i++) {
+                if (ids != null) {
+                    ps.setObject(i, ids);
+                } else {
+                    ps.setNull(i, Types.ARRAY);
+                }
+            }
+        });
+    }
+}
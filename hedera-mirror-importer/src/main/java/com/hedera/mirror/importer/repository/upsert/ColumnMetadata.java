@@ -31,7 +31,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.hedera.mirror.common.domain.UpsertColumn;
 
 @Value
-class ColumnMetadata implements Comparable<ColumnMetadata> {
+public class ColumnMetadata implements Comparable<ColumnMetadata> {
 
     private final Object defaultValue;
     @ToString.Exclude
@@ -41,6 +41,7 @@ class ColumnMetadata implements Comparable<ColumnMetadata> {
     private final boolean nullable;
     @ToString.Exclude
     private final BiConsumer<Object, Object> setter;
+    private final String sqlType; // The udt_name in information_schema.columns, e.g. int8, bytea, _int8
     private final Class<?> type;
     private final boolean updatable;
     private final UpsertColumn upsertColumn;
@@ -28,10 +28,11 @@ import lombok.Value;
 import com.hedera.mirror.common.domain.Upsertable;
 
 /**
- * Contains the metadata associated with an @Upsertable entity. Used to generate dynamic upsert SQL.
+ * Contains the metadata associated with an entity. Used to generate dynamic upsert SQL for @Upsertable entities and to
+ * write the columns of an entity in the binary COPY format.
  */
 @Value
-class EntityMetadata {
+public class EntityMetadata {
 
     private final String tableName;
     private final Upsertable upsertable;
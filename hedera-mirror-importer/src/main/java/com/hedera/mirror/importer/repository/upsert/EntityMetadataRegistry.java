@@ -37,6 +37,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.inject.Named;
 import javax.persistence.Column;
+import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.Table;
 import javax.persistence.metamodel.Attribute;
@@ -69,9 +70,11 @@ public class EntityMetadataRegistry {
 
     private EntityMetadata create(Class<?> domainClass) {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
+        Entity entity = AnnotationUtils.findAnnotation(domainClass, Entity.class);
 
-        if (upsertable == null) {
-            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
+        if (upsertable == null && entity == null) {
+            throw new UnsupportedOperationException("Class is not annotated with @Upsertable or @Entity: " +
+                    domainClass);
         }
 
         EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
@@ -88,10 +91,11 @@ public class EntityMetadataRegistry {
             if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
                 var persistentAttribute = (SingularPersistentAttribute) attribute;
                 var embeddableType = (EmbeddableType<?>) persistentAttribute.getType();
+                var embeddedGetter = getter((Field) attribute.getJavaMember());
                 embeddableType.getDeclaredSingularAttributes()
-                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id)));
+                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id, embeddedGetter)));
             } else {
-                columnMetadata.add(columnMetadata(schema, attribute, id));
+                columnMetadata.add(columnMetadata(schema, attribute, id, null));
             }
         }
 
@@ -100,8 +104,13 @@ public class EntityMetadataRegistry {
         return entityMetadata;
     }
 
+    /*
+     * For an attribute of an embedded type, the embedded getter gets the embedded object from the domain object, so the
+     * column's getter and setter always operate on the domain object.
+     */
     private ColumnMetadata columnMetadata(Map<String, InformationSchemaColumns> schema,
-                                          Attribute<?, ?> attribute, boolean id) {
+                                          Attribute<?, ?> attribute, boolean id,
+                                          Function<Object, Object> embeddedGetter) {
         String name = attribute.getName();
         Field field = (Field) attribute.getJavaMember();
         Column column = field.getAnnotation(Column.class);
@@ -118,18 +127,35 @@ public class EntityMetadataRegistry {
 
         var getter = getter(field);
         var setter = setter(field);
+
+        if (embeddedGetter != null) {
+            var attributeGetter = getter;
+            var attributeSetter = setter;
+            getter = o -> {
+                var embedded = embeddedGetter.apply(o);
+                return embedded != null ? attributeGetter.apply(embedded) : null;
+            };
+            setter = (o, v) -> {
+                var embedded = embeddedGetter.apply(o);
+                if (embedded != null) {
+                    attributeSetter.accept(embedded, v);
+                }
+            };
+        }
+
         boolean updatable = !id && (column == null || column.updatable());
         return new ColumnMetadata(columnSchema.getColumnDefault(), getter, id, columnName,
-                columnSchema.isNullable(), setter, attribute.getJavaType(), updatable, upsertColumn);
+                columnSchema.isNullable(), setter, columnSchema.getUdtName(), attribute.getJavaType(), updatable,
+                upsertColumn);
     }
 
     /*
      * Looks up column defaults in the information_schema.columns table.
      */
-    private Map<String, InformationSchemaColumns> getColumnSchema(String tableName) {
+    Map<String, InformationSchemaColumns> getColumnSchema(String tableName) {
         String sql = """
                 select column_name, regexp_replace(column_default, '::.*', '') as column_default,
-                is_nullable = 'YES' as nullable from information_schema.columns where table_name = ?
+                is_nullable = 'YES' as nullable, udt_name from information_schema.columns where table_name = ?
                 """;
 
         var columnSchemas = jdbcOperations.query(sql, (rs, rowNum) -> {
@@ -137,6 +163,7 @@ public class EntityMetadataRegistry {
             columnSchema.setColumnName(rs.getString(1));
             columnSchema.setColumnDefault(rs.getString(2));
             columnSchema.setNullable(rs.getBoolean(3));
+            columnSchema.setUdtName(rs.getString(4));
             return columnSchema;
         }, tableName);
         var schema = columnSchemas.stream()
@@ -201,5 +228,6 @@ public class EntityMetadataRegistry {
         private String columnName;
         private String columnDefault;
         private boolean nullable;
+        private String udtName;
     }
 }
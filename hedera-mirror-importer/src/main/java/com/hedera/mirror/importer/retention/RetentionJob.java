@@ -23,9 +23,11 @@ package com.hedera.mirror.importer.retention;
 import com.google.common.base.Stopwatch;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
@@ -38,6 +40,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -50,6 +53,7 @@ public class RetentionJob {
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -72,8 +76,10 @@ public class RetentionJob {
                 toInstant(maxTimestamp));
 
         try {
+            var partitioned = dropPartitions(maxTimestamp);
+
             while (iterator.hasNext()) {
-                prune(iterator);
+                prune(iterator, partitioned);
             }
 
             log.info("Finished pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters());
@@ -82,7 +88,7 @@ public class RetentionJob {
         }
     }
 
-    private void prune(RecordFileIterator iterator) {
+    private void prune(RecordFileIterator iterator, Set<String> partitioned) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
         var stopwatch = iterator.getStopwatch();
@@ -93,7 +99,7 @@ public class RetentionJob {
                 retentionRepositories.forEach(repository -> {
                     String table = getTableName(repository);
 
-                    if (retentionProperties.shouldPrune(table)) {
+                    if (retentionProperties.shouldPrune(table) && !partitioned.contains(table)) {
                         long count = repository.prune(endTimestamp);
                         counters.merge(table, count, Long::sum);
                     }
@@ -107,6 +113,41 @@ public class RetentionJob {
         log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
     }
 
+    /**
+     * Drops the partitions of partitioned tables that only contain data on or before the max timestamp. Since only
+     * whole partitions are dropped, data can be kept up to one partition interval longer than the retention period.
+     *
+     * @return the tables pruned by dropping partitions, which don't need to be pruned by deleting rows
+     */
+    private Set<String> dropPartitions(long maxTimestamp) {
+        var tables = new HashSet<String>();
+        if (!retentionProperties.isDropPartitions()) {
+            return tables;
+        }
+
+        var retentionTables = new HashSet<String>();
+        retentionRepositories.forEach(r -> retentionTables.add(getTableName(r)));
+
+        for (var table : timePartitionService.getPartitionedTables()) {
+            if (!retentionTables.contains(table) || !retentionProperties.shouldPrune(table)) {
+                continue;
+            }
+
+            for (var partition : timePartitionService.getPartitions(table)) {
+                // The upper bound is exclusive
+                if (partition.getTo() - 1 <= maxTimestamp) {
+                    timePartitionService.dropPartition(partition);
+                    log.info("Dropped partition {} with data before {}", partition.getName(),
+                            toInstant(partition.getTo()));
+                }
+            }
+
+            tables.add(table);
+        }
+
+        return tables;
+    }
+
     private String getTableName(RetentionRepository repository) {
         Class<?> targetClass = repository.getClass().getInterfaces()[0];
         String className = ClassUtils.getSimpleName(targetClass);
@@ -1,21 +1,33 @@
 -------------------
--- autovacuum insert-only tables more frequently to ensure most pages are visible for index-only scans
+-- autovacuum insert-only tables more frequently to ensure most pages are visible for index-only scans. Storage
+-- parameters can't be set on a partitioned table, so they're set on each of its partitions instead. Partitions created
+-- later by the importer copy the parameters of the latest partition.
 -------------------
 
-alter table if exists crypto_transfer set (
-    autovacuum_vacuum_insert_scale_factor = 0,
-    autovacuum_vacuum_insert_threshold = ${autovacuumVacuumInsertThresholdCryptoTransfer},
-    log_autovacuum_min_duration = 0
-    );
-
-alter table if exists token_transfer set (
-    autovacuum_vacuum_insert_scale_factor = 0,
-    autovacuum_vacuum_insert_threshold = ${autovacuumVacuumInsertThresholdTokenTransfer},
-    log_autovacuum_min_duration = 0
-    );
-
-alter table if exists transaction set (
-    autovacuum_vacuum_insert_scale_factor = 0,
-    autovacuum_vacuum_insert_threshold = ${autovacuumVacuumInsertThresholdTransaction},
-    log_autovacuum_min_duration = 0
-    );
+do
+$$
+declare
+    settings record;
+    table_name regclass;
+begin
+    for settings in select *
+                    from (values ('crypto_transfer', ${autovacuumVacuumInsertThresholdCryptoTransfer}),
+                                 ('token_transfer', ${autovacuumVacuumInsertThresholdTokenTransfer}),
+                                 ('transaction', ${autovacuumVacuumInsertThresholdTransaction})) as s(name, threshold)
+                    where to_regclass(s.name) is not null
+        loop
+            for table_name in select c.oid::regclass
+                              from pg_class c
+                              where c.oid = to_regclass(settings.name) and c.relkind = 'r'
+                              union all
+                              select i.inhrelid::regclass
+                              from pg_inherits i
+                              where i.inhparent = to_regclass(settings.name)
+                loop
+                    execute format('alter table %s set (autovacuum_vacuum_insert_scale_factor = 0, ' ||
+                                   'autovacuum_vacuum_insert_threshold = %s, log_autovacuum_min_duration = 0)',
+                                   table_name, settings.threshold);
+                end loop;
+        end loop;
+end
+$$;
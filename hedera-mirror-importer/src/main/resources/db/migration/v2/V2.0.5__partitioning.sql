@@ -0,0 +1,119 @@
+-------------------
+-- Range partition the large insert-only tables by consensus_timestamp. An existing table can't be converted to a
+-- partitioned table, so it's renamed and attached as the partition of everything before mainnet open access to a new
+-- partitioned table with the same columns, constraints and indexes.
+-------------------
+
+-- Converts a timestamp without time zone in UTC to nanoseconds since the epoch
+create or replace function timestamp_to_nanos(ts timestamp) returns bigint as
+$$
+select extract(epoch from ts)::bigint * 1000000000;
+$$ language sql immutable;
+
+-- Creates the missing partitions of a table range partitioned by consensus_timestamp so that [start_at, end_at) is
+-- covered. Partitions end on the start of a month if the interval is at least a month, otherwise on the start of a day,
+-- and are named after their start like transaction_p2022_09. The first partition starts at start_at and may be shorter
+-- so that it doesn't overlap a partition created with a different interval. A new partition copies the storage
+-- parameters of the latest existing partition. Returns the number of partitions created.
+create or replace function create_consensus_partitions(parent regclass, partition_interval interval,
+                                                       start_at timestamptz, end_at timestamptz) returns integer as
+$$
+declare
+    align          text      := case when partition_interval >= interval '1 month' then 'month' else 'day' end;
+    created        integer   := 0;
+    from_ts        timestamp := start_at at time zone 'utc';
+    options        text[];
+    partition_name text;
+    to_ts          timestamp;
+begin
+    while from_ts < end_at at time zone 'utc'
+        loop
+            to_ts := date_trunc(align, from_ts) + partition_interval;
+            partition_name := parent::text || '_p' ||
+                              to_char(from_ts, case align when 'month' then 'YYYY_MM' else 'YYYY_MM_DD' end);
+
+            if to_regclass(partition_name) is null then
+                select c.reloptions
+                into options
+                from pg_inherits i
+                         join pg_class c on c.oid = i.inhrelid
+                where i.inhparent = parent
+                -- The latest partition has the highest upper bound
+                order by (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \(''?(-?\d+)''?\)'))[1]::bigint
+                    desc nulls last
+                limit 1;
+
+                execute format('create table %I partition of %s for values from (%s) to (%s)', partition_name,
+                               parent, timestamp_to_nanos(from_ts), timestamp_to_nanos(to_ts));
+
+                if options is not null then
+                    execute format('alter table %I set (%s)', partition_name, array_to_string(options, ', '));
+                end if;
+
+                created := created + 1;
+            end if;
+
+            from_ts := to_ts;
+        end loop;
+
+    return created;
+end
+$$ language plpgsql;
+
+-- Convert the tables and create monthly partitions from mainnet open access on. The importer's partition maintenance
+-- job keeps creating partitions ahead of the latest data.
+do
+$$
+declare
+    start_at            constant timestamptz := '2019-09-01 00:00:00+00';
+    distribution_column text;
+    index_names         record;
+    partition_name      text;
+    table_name          text;
+begin
+    foreach table_name in array array ['account_balance', 'assessed_custom_fee', 'contract_action', 'contract_log',
+        'contract_result', 'contract_state_change', 'crypto_transfer', 'nft_transfer', 'non_fee_transfer',
+        'staking_reward_transfer', 'token_balance', 'token_transfer', 'transaction', 'transaction_signature']
+        loop
+            if exists(select from pg_partitioned_table where partrelid = table_name::regclass) then
+                continue;
+            end if;
+
+            partition_name := table_name || '_pmin';
+            execute format('alter table %I rename to %I', table_name, partition_name);
+            execute format('create table %I (like %I including all) partition by range (consensus_timestamp)',
+                           table_name, partition_name);
+            execute format('comment on table %I is %L', table_name,
+                           obj_description(partition_name::regclass, 'pg_class'));
+
+            -- A distributed partition can only be attached to a parent distributed on the same column
+            select column_to_column_name(logicalrelid, partkey)
+            into distribution_column
+            from pg_dist_partition
+            where logicalrelid = partition_name::regclass and partkey is not null;
+
+            if distribution_column is not null then
+                perform create_distributed_table(table_name, distribution_column, colocate_with => partition_name);
+            end if;
+
+            execute format('alter table %I attach partition %I for values from (minvalue) to (%s)', table_name,
+                           partition_name, timestamp_to_nanos(start_at at time zone 'utc'));
+
+            -- Move the original index and constraint names to the partitioned table's indexes
+            for index_names in select child.relname as child_name, parent.relname as parent_name
+                               from pg_index x
+                                        join pg_class child on child.oid = x.indexrelid
+                                        join pg_inherits i on i.inhrelid = x.indexrelid
+                                        join pg_class parent on parent.oid = i.inhparent
+                               where x.indrelid = partition_name::regclass
+                loop
+                    execute format('alter index %I rename to %I', index_names.child_name,
+                                   index_names.child_name || '_pmin');
+                    execute format('alter index %I rename to %I', index_names.parent_name, index_names.child_name);
+                end loop;
+
+            perform create_consensus_partitions(table_name::regclass, interval '1 month', start_at,
+                                                now() + interval '2 months');
+        end loop;
+end
+$$;
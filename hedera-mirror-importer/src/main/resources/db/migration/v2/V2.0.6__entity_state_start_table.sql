@@ -0,0 +1,58 @@
+-------------------
+-- Replace the entity_state_start materialized view with a table so the importer can update only the entities that
+-- changed in a staking period instead of refreshing the whole view.
+-------------------
+
+create or replace function change_access_privilege(grant_or_revoke boolean) returns void as
+$$
+begin
+    if current_user <> '${db-user}' then
+        if grant_or_revoke then
+            grant create on schema public to ${db-user};
+            grant ${db-user} to current_user;
+        else
+            revoke ${db-user} from current_user;
+            revoke create on schema public from ${db-user};
+        end if;
+    end if;
+end
+$$ language plpgsql;
+
+select change_access_privilege(true);
+
+drop materialized view if exists entity_state_start;
+
+create table if not exists entity_state_start
+(
+    balance            bigint,
+    decline_reward     boolean,
+    id                 bigint not null,
+    staked_account_id  bigint not null,
+    staked_node_id     bigint not null,
+    stake_period_start bigint not null
+);
+comment on table entity_state_start is 'Network entity state at start of staking period';
+
+insert into entity_state_start (balance, decline_reward, id, staked_account_id, staked_node_id, stake_period_start)
+select balance,
+       decline_reward,
+       id,
+       coalesce(staked_account_id, 0)   as staked_account_id,
+       coalesce(staked_node_id, -1)     as staked_node_id,
+       coalesce(stake_period_start, -1) as stake_period_start
+from entity
+where deleted is not true
+  and type in ('ACCOUNT', 'CONTRACT');
+
+alter table if exists entity_state_start
+    add constraint entity_state_start__pk primary key (id);
+create index if not exists entity_state_start__staked_account_id
+    on entity_state_start (staked_account_id) where staked_account_id <> 0;
+
+alter table if exists entity_state_start owner to ${db-user};
+
+select change_access_privilege(false);
+
+-- Entities whose stake is recalculated every staking period even if they didn't change
+create index if not exists entity_stake__staking on entity_stake (id)
+    where staked_node_id_start <> -1 or staked_to_me <> 0;
@@ -0,0 +1,82 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.hedera.mirror.importer.EnabledIfV2;
+import com.hedera.mirror.importer.IntegrationTest;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class PartitionMaintenanceJobTest extends IntegrationTest {
+
+    private final PartitionMaintenanceJob partitionMaintenanceJob;
+    private final PartitionProperties partitionProperties;
+    private final TimePartitionService timePartitionService;
+
+    @AfterEach
+    void cleanup() {
+        partitionProperties.setAhead(Period.ofMonths(2));
+        partitionProperties.setEnabled(true);
+    }
+
+    @Test
+    void disabled() {
+        partitionProperties.setEnabled(false);
+        partitionProperties.setAhead(Period.ofYears(1));
+        var partitions = timePartitionService.getPartitionedTables()
+                .stream()
+                .map(timePartitionService::getPartitions)
+                .toList();
+
+        partitionMaintenanceJob.run();
+
+        assertThat(timePartitionService.getPartitionedTables()
+                .stream()
+                .map(timePartitionService::getPartitions)
+                .toList()).isEqualTo(partitions);
+    }
+
+    @EnabledIfV2
+    @Test
+    void run() {
+        partitionProperties.setAhead(Period.ofMonths(6));
+        var endAt = Instant.now().atOffset(ZoneOffset.UTC).plusMonths(6).toInstant();
+
+        partitionMaintenanceJob.run();
+
+        var tables = timePartitionService.getPartitionedTables();
+        assertThat(tables).isNotEmpty();
+        for (var table : tables) {
+            var partitions = timePartitionService.getPartitions(table);
+            var last = partitions.get(partitions.size() - 1);
+            assertThat(Instant.ofEpochSecond(0L, last.getTo())).as(table).isAfterOrEqualTo(endAt);
+        }
+    }
+}
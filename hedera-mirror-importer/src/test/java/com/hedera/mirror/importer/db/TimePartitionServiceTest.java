@@ -0,0 +1,148 @@
+package com.hedera.mirror.importer.db;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.hedera.mirror.importer.EnabledIfV2;
+import com.hedera.mirror.importer.IntegrationTest;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class TimePartitionServiceTest extends IntegrationTest {
+
+    // Mainnet open access, where the first monthly partition starts
+    private static final long START = 1567296000000000000L;
+
+    private final TimePartitionService timePartitionService;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "FOR VALUES FROM (MINVALUE) TO ('1567296000000000000')|-9223372036854775808|1567296000000000000",
+            "FOR VALUES FROM ('1567296000000000000') TO ('1569888000000000000')|1567296000000000000|1569888000000000000",
+            "FOR VALUES FROM (1567296000000000000) TO (MAXVALUE)|1567296000000000000|9223372036854775807",
+    })
+    void parse(String bound, long from, long to) {
+        assertThat(TimePartitionService.parse("transaction", "transaction_p2019_09", bound))
+                .returns("transaction", TimePartition::getParent)
+                .returns("transaction_p2019_09", TimePartition::getName)
+                .returns(from, TimePartition::getFrom)
+                .returns(to, TimePartition::getTo);
+    }
+
+    @Test
+    void parseInvalid() {
+        assertThatThrownBy(() -> TimePartitionService.parse("transaction", "transaction_default", "DEFAULT"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @EnabledIfV2
+    @Test
+    void getPartitionedTables() {
+        assertThat(timePartitionService.getPartitionedTables())
+                .contains("crypto_transfer", "transaction")
+                .doesNotContain("entity", "topic_message");
+    }
+
+    @EnabledIfV2
+    @Test
+    void getPartitions() {
+        var partitions = timePartitionService.getPartitions("transaction");
+
+        assertThat(partitions).first()
+                .returns("transaction_pmin", TimePartition::getName)
+                .returns(Long.MIN_VALUE, TimePartition::getFrom)
+                .returns(START, TimePartition::getTo);
+        assertThat(partitions.get(1))
+                .returns("transaction_p2019_09", TimePartition::getName)
+                .returns(START, TimePartition::getFrom);
+        assertContiguous(partitions);
+        assertThat(partitions.get(partitions.size() - 1).getTo()).isGreaterThan(nanos(Instant.now()));
+    }
+
+    @EnabledIfV2
+    @Test
+    void createPartitions() {
+        var partitions = timePartitionService.getPartitions("transaction");
+        var last = partitions.get(partitions.size() - 1);
+        var endAt = Instant.ofEpochSecond(0L, last.getTo()).atOffset(ZoneOffset.UTC).plusMonths(2).toInstant();
+
+        assertThat(timePartitionService.createPartitions("transaction", Period.ofMonths(1), endAt)).isEqualTo(2);
+        assertThat(timePartitionService.createPartitions("transaction", Period.ofMonths(1), endAt)).isZero();
+
+        var created = timePartitionService.getPartitions("transaction");
+        assertContiguous(created);
+        assertThat(created).hasSize(partitions.size() + 2);
+        assertThat(created.get(created.size() - 1).getTo()).isEqualTo(nanos(endAt));
+
+        // Storage parameters are copied from the latest partition rather than the initial one
+        var newest = created.get(created.size() - 1);
+        assertThat(getOptions(newest.getName())).isNotNull().isEqualTo(getOptions(last.getName()));
+    }
+
+    @EnabledIfV2
+    @Test
+    void dropPartition() {
+        jdbcOperations.execute("create table partition_test (consensus_timestamp bigint not null) " +
+                "partition by range (consensus_timestamp)");
+
+        try {
+            jdbcOperations.queryForObject("select create_consensus_partitions('partition_test', '1 month', " +
+                    "'2022-01-01 00:00:00+00', '2022-03-01 00:00:00+00')", Integer.class);
+            var partitions = timePartitionService.getPartitions("partition_test");
+            assertThat(partitions).extracting(TimePartition::getName)
+                    .containsExactly("partition_test_p2022_01", "partition_test_p2022_02");
+
+            timePartitionService.dropPartition(partitions.get(0));
+
+            assertThat(timePartitionService.getPartitions("partition_test")).containsExactly(partitions.get(1));
+            assertThat(jdbcOperations.queryForObject("select to_regclass('partition_test_p2022_01')", String.class))
+                    .isNull();
+        } finally {
+            jdbcOperations.execute("drop table partition_test");
+        }
+    }
+
+    private void assertContiguous(List<TimePartition> partitions) {
+        for (int i = 1; i < partitions.size(); ++i) {
+            assertThat(partitions.get(i).getFrom()).isEqualTo(partitions.get(i - 1).getTo());
+        }
+    }
+
+    private String getOptions(String table) {
+        return jdbcOperations.queryForObject("select reloptions::text from pg_class where relname = ?", String.class,
+                table);
+    }
+
+    private long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
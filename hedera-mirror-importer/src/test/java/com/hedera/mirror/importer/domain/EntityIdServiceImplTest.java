@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -282,6 +283,62 @@ class EntityIdServiceImplTest extends IntegrationTest {
         assertThat(entityIdService.lookup(accountId)).isEqualTo(EntityId.of(100, CONTRACT));
     }
 
+    @Test
+    void prefetch() {
+        Entity account = domainBuilder.entity().persist();
+        Entity contract = domainBuilder.entity().customize(e -> e.alias(null).type(CONTRACT)).persist();
+        Entity missing = domainBuilder.entity().get();
+        AccountID accountId = getProtoAccountId(account);
+        AccountID missingId = getProtoAccountId(missing);
+        ContractID contractId = getProtoContractId(contract);
+        AccountID accountNum = AccountID.newBuilder().setAccountNum(100).build();
+
+        entityIdService.prefetch(List.of(accountId, missingId, accountNum), List.of(contractId));
+
+        // Served from the cache without querying the database
+        entityRepository.deleteAll();
+        assertThat(entityIdService.lookup(accountId)).isEqualTo(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).isEqualTo(contract.toEntityId());
+        assertThat(entityIdService.lookup(accountNum)).isEqualTo(EntityId.of(100, ACCOUNT));
+        assertThrows(AliasNotFoundException.class, () -> entityIdService.lookup(missingId));
+        assertThat(entityIdService.lookup(missingId, accountNum)).isEqualTo(EntityId.of(100, ACCOUNT));
+
+        // Creating the missing entity replaces the negative entry
+        entityIdService.notify(missing);
+        assertThat(entityIdService.lookup(missingId)).isEqualTo(missing.toEntityId());
+    }
+
+    @Test
+    void prefetchMissScopedToBatch() {
+        Entity missing = domainBuilder.entity().get();
+        AccountID missingId = getProtoAccountId(missing);
+
+        entityIdService.prefetch(List.of(missingId), List.of());
+        assertThrows(AliasNotFoundException.class, () -> entityIdService.lookup(missingId));
+
+        // Not cached past the next prefetch
+        entityRepository.save(missing);
+        entityIdService.prefetch(List.of(), List.of());
+        assertThat(entityIdService.lookup(missingId)).isEqualTo(missing.toEntityId());
+    }
+
+    @Test
+    void notifyAliasAndEvmAddress() {
+        Entity account = domainBuilder.entity().get();
+        AccountID aliasId = getProtoAccountId(account);
+        AccountID evmAddressId = AccountID.newBuilder()
+                .setShardNum(account.getShard())
+                .setRealmNum(account.getRealm())
+                .setAlias(DomainUtils.fromBytes(account.getEvmAddress()))
+                .build();
+
+        entityIdService.prefetch(List.of(aliasId, evmAddressId), List.of());
+        entityIdService.notify(account);
+
+        assertThat(entityIdService.lookup(aliasId)).isEqualTo(account.toEntityId());
+        assertThat(entityIdService.lookup(evmAddressId)).isEqualTo(account.toEntityId());
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder()
                 .setShardNum(account.getShard())
@@ -305,6 +305,38 @@ public abstract class AbstractDownloaderTest {
         assertThat(downloaderProperties.getStreamPath()).doesNotExist();
     }
 
+    @Test
+    @DisplayName("Download and verify files with pipelined data file downloads")
+    void downloadPipelined() {
+        commonDownloaderProperties.setPipelineDepth(4);
+        downloader = getDownloader();
+        mirrorProperties.setStartBlockNumber(null);
+
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    @DisplayName("Pipelined data file downloads with a corrupted stream file")
+    void downloadPipelinedStreamFileCorrupted() throws Exception {
+        commonDownloaderProperties.setPipelineDepth(4);
+        downloader = getDownloader();
+        var nodeAccountId = addressBook.getEntries().get(0).getNodeAccountId();
+        corruptedNodeAccountId = nodeAccountId;
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path).filter(Predicate.not(this::isSigFile))
+                .filter(p -> p.toString().contains(nodeAccountId.toString()))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -49,6 +49,7 @@ import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.addressbook.AddressBookService;
 import com.hedera.mirror.importer.domain.FileStreamSignature;
+import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureStatus;
 import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureType;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
 import com.hedera.mirror.importer.repository.NodeStakeRepository;
@@ -302,6 +303,37 @@ class NodeSignatureVerifierTest extends IntegrationTest {
                 .verify(Arrays.asList(fileStreamSignatureNode3, fileStreamSignatureNode4, fileStreamSignatureNode5));
     }
 
+    @SneakyThrows
+    @Test
+    void testVerifyAsync() {
+        Map<String, PublicKey> nodeAccountIDPubKeyMap = new HashMap();
+        nodeAccountIDPubKeyMap.put("0.0.3", publicKey);
+        nodeAccountIDPubKeyMap.put("0.0.4", publicKey);
+        nodeAccountIDPubKeyMap.put("0.0.5", publicKey);
+        when(currentAddressBook.getNodeAccountIDPubKeyMap()).thenReturn(nodeAccountIDPubKeyMap);
+
+        byte[] fileHash = TestUtils.generateRandomByteArray(48);
+        byte[] fileHashSignature = signHash(fileHash);
+        byte[] metadataHash = TestUtils.generateRandomByteArray(48);
+        byte[] metadataHashSignature = signHash(metadataHash);
+
+        FileStreamSignature fileStreamSignatureNode3 = buildFileStreamSignature(fileHash, fileHashSignature,
+                metadataHash, metadataHashSignature);
+        FileStreamSignature fileStreamSignatureNode4 = buildFileStreamSignature(fileHash, fileHashSignature,
+                metadataHash, metadataHashSignature);
+        fileStreamSignatureNode4.setNodeAccountId(EntityId.of(4L, EntityType.ACCOUNT));
+        FileStreamSignature fileStreamSignatureNode5 = buildFileStreamSignature(fileHash,
+                corruptSignature(signHash(fileHash)), metadataHash, metadataHashSignature);
+        fileStreamSignatureNode5.setNodeAccountId(EntityId.of(5L, EntityType.ACCOUNT));
+
+        nodeSignatureVerifier.verifyAsync(List.of(fileStreamSignatureNode3, fileStreamSignatureNode4,
+                fileStreamSignatureNode5)).get();
+
+        assertEquals(SignatureStatus.CONSENSUS_REACHED, fileStreamSignatureNode3.getStatus());
+        assertEquals(SignatureStatus.CONSENSUS_REACHED, fileStreamSignatureNode4.getStatus());
+        assertEquals(SignatureStatus.DOWNLOADED, fileStreamSignatureNode5.getStatus());
+    }
+
     @SneakyThrows
     @Test
     void testNoSignatureType() {
@@ -118,6 +118,24 @@ class AccountBalanceFileParserTest extends IntegrationTest {
         parserProperties.setBatchSize(batchSize);
     }
 
+    @Test
+    void parallel() {
+        // given
+        int batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(2);
+        parserProperties.setParallelism(2);
+        var accountBalanceFile = accountBalanceFile(1);
+        var items = accountBalanceFile.getItems().collectList().block();
+
+        // when
+        accountBalanceFileParser.parse(accountBalanceFile);
+
+        // then
+        assertAccountBalanceFile(accountBalanceFile, items);
+        parserProperties.setBatchSize(batchSize);
+        parserProperties.setParallelism(1);
+    }
+
     @Test
     void duplicateFile() {
         // given
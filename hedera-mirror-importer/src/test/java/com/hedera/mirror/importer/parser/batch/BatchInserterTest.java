@@ -104,6 +104,22 @@ class BatchInserterTest extends IntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void prepare() {
+        var cryptoTransfers = List.of(cryptoTransfer(1), cryptoTransfer(2), cryptoTransfer(3));
+        var tokenTransfers = List.of(tokenTransfer(1), tokenTransfer(2), tokenTransfer(3));
+
+        var cryptoTransferWriter = batchInserter.prepare(cryptoTransfers);
+        var tokenTransferWriter = batchInserter.prepare(tokenTransfers);
+        assertThat(cryptoTransferRepository.count()).isZero();
+
+        tokenTransferWriter.run();
+        cryptoTransferWriter.run();
+
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+    }
+
     @Test
     void persistDuplicates() {
         var transactions = new HashSet<Transaction>();
@@ -0,0 +1,116 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.domain.AssessedCustomFeeWrapper;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.ContractResultRepository;
+import com.hedera.mirror.importer.repository.TokenTransferRepository;
+import com.hedera.mirror.importer.repository.TransactionRepository;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class BinaryBatchInserterTest extends IntegrationTest {
+
+    private final ContractResultRepository contractResultRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CommonParserProperties properties;
+    private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Test
+    void persist() {
+        var transaction1 = domainBuilder.transaction().get();
+        var transaction2 = domainBuilder.transaction()
+                .customize(t -> t.errata(ErrataType.INSERT).index(null).memo(new byte[0]).parentConsensusTimestamp(null))
+                .get();
+
+        inserter(Transaction.class).persist(List.of(transaction1, transaction2));
+
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrder(transaction1, transaction2);
+    }
+
+    @Test
+    void persistArrays() {
+        var contractResult1 = domainBuilder.contractResult().get();
+        var contractResult2 = domainBuilder.contractResult().customize(c -> c.createdContractIds(List.of())).get();
+        var contractResult3 = domainBuilder.contractResult()
+                .customize(c -> c.errorMessage("error"))
+                .get();
+        var contractResults = List.of(contractResult1, contractResult2, contractResult3);
+
+        inserter(contractResult1.getClass()).persist(contractResults);
+
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+    }
+
+    @Test
+    void persistEmbedded() {
+        var assessedCustomFee = domainBuilder.assessedCustomFee()
+                .customize(a -> a.effectivePayerAccountIds(List.of(1L, 2L)))
+                .get();
+        var tokenTransfers = List.of(domainBuilder.tokenTransfer().get(), domainBuilder.tokenTransfer().get());
+
+        inserter(AssessedCustomFee.class).persist(List.of(assessedCustomFee));
+        inserter(tokenTransfers.get(0).getClass()).prepare(tokenTransfers).run();
+
+        assertThat(jdbcTemplate.query(AssessedCustomFeeWrapper.SELECT_QUERY, AssessedCustomFeeWrapper.ROW_MAPPER))
+                .map(AssessedCustomFeeWrapper::getAssessedCustomFee)
+                .containsExactly(assessedCustomFee);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+    }
+
+    @Test
+    void unsupportedType() {
+        var column = new ColumnMetadata(null, o -> null, false, "data", true, (o, v) -> {
+        }, "jsonb", String.class, true, null);
+        var entityMetadata = new EntityMetadata("transaction", null, Set.of(column));
+
+        assertThatThrownBy(() -> new BinaryBatchInserter(Transaction.class, dataSource, meterRegistry, properties,
+                entityMetadata)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private BatchPersister inserter(Class<?> domainClass) {
+        var entityMetadata = entityMetadataRegistry.lookup(domainClass);
+        return new BinaryBatchInserter(domainClass, dataSource, meterRegistry, properties, entityMetadata);
+    }
+}
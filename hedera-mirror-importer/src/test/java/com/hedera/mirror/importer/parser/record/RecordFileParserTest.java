@@ -20,9 +20,12 @@ package com.hedera.mirror.importer.parser.record;
  * ‍
  */
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -43,11 +46,18 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Durations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 import reactor.core.publisher.Flux;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
@@ -56,6 +66,9 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.downloader.StreamFileRewindEvent;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.exception.ParserSQLException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
 import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
@@ -79,6 +92,15 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
     @Mock(lenient = true)
     private MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityIdService entityIdService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -108,7 +130,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
         when(mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType()))
                 .thenReturn(DateRangeFilter.all());
         return new RecordFileParser(new SimpleMeterRegistry(), parserProperties, recordFileRepository,
-                recordItemListener, recordStreamFileListener, mirrorDateRangePropertiesProcessor);
+                recordItemListener, recordStreamFileListener, mirrorDateRangePropertiesProcessor, transactionManager,
+                entityIdService, eventPublisher);
     }
 
     @Override
@@ -300,6 +323,109 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
         verify(recordFileRepository, never()).updateIndex(anyLong());
     }
 
+    @Test
+    void pipelined() {
+        // given
+        ((RecordParserProperties) parserProperties).setPipelineDepth(2);
+        var streamFile1 = (RecordFile) getStreamFile();
+        var streamFile2 = (RecordFile) getStreamFile();
+        var streamFile3 = (RecordFile) getStreamFile();
+        List<RecordFile> committed = new ArrayList<>();
+        when(recordStreamFileListener.onEndDeferred(any())).then(i -> {
+            RecordFile recordFile = i.getArgument(0);
+            return (Runnable) () -> committed.add(recordFile);
+        });
+
+        // when
+        parser.parse(streamFile1);
+        parser.parse(streamFile2);
+        parser.parse(streamFile3);
+
+        // then
+        verify(recordStreamFileListener, times(3)).onStart();
+        verify(recordStreamFileListener, never()).onEnd(any());
+        assertEquals(List.of(streamFile1, streamFile2), committed.subList(0, 2));
+    }
+
+    @Test
+    void pipelinedBarrier() {
+        // given
+        ((RecordParserProperties) parserProperties).setPipelineDepth(2);
+        var streamFile1 = (RecordFile) getStreamFile();
+        var streamFile2 = getStreamFile(Flux.just(recordItemBuilder.nodeStakeUpdate().build()), ++count);
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        List<Long> committedOnStart = new ArrayList<>();
+        when(recordStreamFileListener.onEndDeferred(any())).then(i -> {
+            RecordFile recordFile = i.getArgument(0);
+            return (Runnable) () -> committed.add(recordFile.getConsensusEnd());
+        });
+        doAnswer(i -> committedOnStart.addAll(committed)).when(recordStreamFileListener).onStart();
+
+        // when
+        parser.parse(streamFile1);
+        parser.parse(streamFile2);
+
+        // then
+        assertEquals(List.of(streamFile1.getConsensusEnd()), committedOnStart);
+        verify(recordStreamFileListener).onEndDeferred(streamFile1);
+        verify(recordStreamFileListener).onEnd(streamFile2);
+    }
+
+    @Test
+    void pipelinedCommitFailure() {
+        // given
+        var properties = new RecordParserProperties();
+        properties.setPipelineDepth(2);
+        properties.getRetry().setMaxAttempts(1);
+        when(mirrorDateRangePropertiesProcessor.getDateRangeFilter(properties.getStreamType()))
+                .thenReturn(DateRangeFilter.all());
+        var recordFileParser = new RecordFileParser(new SimpleMeterRegistry(), properties, recordFileRepository,
+                recordItemListener, recordStreamFileListener, mirrorDateRangePropertiesProcessor, transactionManager,
+                entityIdService, eventPublisher);
+        var streamFile1 = (RecordFile) getStreamFile();
+        var streamFile2 = (RecordFile) getStreamFile();
+        var streamFile3 = (RecordFile) getStreamFile();
+        var failure = new AtomicBoolean(true);
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        when(recordStreamFileListener.onEndDeferred(any())).then(i -> {
+            RecordFile recordFile = i.getArgument(0);
+            return (Runnable) () -> {
+                if (failure.getAndSet(false)) {
+                    throw new ParserException("db error");
+                }
+                committed.add(recordFile.getConsensusEnd());
+            };
+        });
+
+        // when
+        recordFileParser.parse(streamFile1);
+        recordFileParser.parse(streamFile2);
+        recordFileParser.parse(streamFile3);
+
+        // then
+        verify(eventPublisher).publishEvent(isA(StreamFileRewindEvent.class));
+        verify(recordStreamFileListener, times(2)).onStart();
+        assertTrue(committed.isEmpty());
+
+        // when the downloader rewinds to the record file that failed to commit
+        recordFileParser.parse(copy(streamFile1));
+        recordFileParser.parse(copy(streamFile2));
+        recordFileParser.parse(copy(streamFile3));
+
+        // then
+        await().atMost(Durations.FIVE_SECONDS)
+                .with()
+                .pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .untilAsserted(() -> assertEquals(List.of(streamFile1.getConsensusEnd(),
+                        streamFile2.getConsensusEnd(), streamFile3.getConsensusEnd()), committed));
+        verify(recordStreamFileListener, never()).onEnd(any());
+    }
+
+    private RecordFile copy(RecordFile recordFile) {
+        long timestamp = recordFile.getConsensusEnd();
+        return getStreamFile(Flux.just(cryptoTransferRecordItem(timestamp)), timestamp);
+    }
+
     private RecordItem contractCall(ContractFunctionResult contractFunctionResult, long timestamp,
                                     int transactionIdNonce) {
         return recordItemBuilder
@@ -77,6 +77,28 @@ public abstract class BatchEntityListenerTest extends IntegrationTest {
                 .verify(Duration.ofMillis(1000));
     }
 
+    @Test
+    void onTopicMessageDeferred() throws InterruptedException {
+        // given
+        TopicMessage topicMessage = topicMessage();
+        Flux<TopicMessage> topicMessages = subscribe(topicMessage.getTopicId().getId());
+        var event = new EntityBatchSaveEvent(this, true);
+
+        // when
+        entityListener.onTopicMessage(topicMessage);
+        entityListener.onSave(event);
+        entityListener.onCleanup(new EntityBatchCleanupEvent(this));
+
+        // then
+        topicMessages.as(StepVerifier::create)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(500))
+                .then(event::persisted)
+                .expectNext(topicMessage)
+                .thenCancel()
+                .verify(Duration.ofMillis(1500));
+    }
+
     @Test
     void onTopicMessageEmpty() throws InterruptedException {
         // given
@@ -0,0 +1,114 @@
+package com.hedera.mirror.importer.parser.record.entity.notify;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.util.Base64;
+import java.util.List;
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+
+class TopicMessageBatchEncoderTest {
+
+    private static final int MAX_PAYLOAD_SIZE = 8000;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final TopicMessageBatchEncoder encoder = new TopicMessageBatchEncoder(MAX_PAYLOAD_SIZE);
+
+    @Test
+    void empty() {
+        assertThat(encoder.encode(List.of())).isEmpty();
+    }
+
+    @Test
+    void packed() throws Exception {
+        var topicMessages = List.of(domainBuilder.topicMessage().get(), domainBuilder.topicMessage().get());
+
+        var payloads = encoder.encode(topicMessages);
+
+        assertThat(payloads).hasSize(1);
+        var input = decode(payloads.get(0));
+        for (var topicMessage : topicMessages) {
+            int flags = input.readUnsignedByte();
+            assertThat(flags & TopicMessageBatchEncoder.FLAG_REFERENCE).isZero();
+            assertThat(input.readLong()).isEqualTo(topicMessage.getConsensusTimestamp());
+            assertThat(input.readLong()).isEqualTo(topicMessage.getTopicId().getId());
+            assertThat(input.readLong()).isEqualTo(topicMessage.getSequenceNumber());
+            assertThat(input.readInt()).isEqualTo(topicMessage.getRunningHashVersion());
+            assertThat(input.readNBytes(input.readInt())).isEqualTo(topicMessage.getRunningHash());
+            assertThat(input.readNBytes(input.readInt())).isEqualTo(topicMessage.getMessage());
+            if ((flags & TopicMessageBatchEncoder.FLAG_CHUNK_INFO) != 0) {
+                assertThat(input.readInt()).isEqualTo(topicMessage.getChunkNum());
+                assertThat(input.readInt()).isEqualTo(topicMessage.getChunkTotal());
+            }
+            if ((flags & TopicMessageBatchEncoder.FLAG_INITIAL_TRANSACTION_ID) != 0) {
+                assertThat(input.readNBytes(input.readInt())).isEqualTo(topicMessage.getInitialTransactionId());
+            }
+            if ((flags & TopicMessageBatchEncoder.FLAG_PAYER_ACCOUNT_ID) != 0) {
+                assertThat(input.readLong()).isEqualTo(topicMessage.getPayerAccountId().getId());
+            }
+            if ((flags & TopicMessageBatchEncoder.FLAG_VALID_START_TIMESTAMP) != 0) {
+                assertThat(input.readLong()).isEqualTo(topicMessage.getValidStartTimestamp());
+            }
+        }
+        assertThat(input.available()).isZero();
+    }
+
+    @Test
+    void split() {
+        var topicMessages = List.of(
+                domainBuilder.topicMessage().customize(t -> t.message(RandomUtils.nextBytes(3000))).get(),
+                domainBuilder.topicMessage().customize(t -> t.message(RandomUtils.nextBytes(3000))).get());
+
+        var payloads = encoder.encode(topicMessages);
+
+        assertThat(payloads).hasSize(2).allSatisfy(p -> assertThat(p).hasSizeLessThan(MAX_PAYLOAD_SIZE));
+    }
+
+    @Test
+    void reference() throws Exception {
+        var topicMessage = domainBuilder.topicMessage()
+                .customize(t -> t.message(RandomUtils.nextBytes(MAX_PAYLOAD_SIZE)))
+                .get();
+
+        var payloads = encoder.encode(List.of(topicMessage));
+
+        assertThat(payloads).hasSize(1);
+        var input = decode(payloads.get(0));
+        assertThat(input.readUnsignedByte()).isEqualTo(TopicMessageBatchEncoder.FLAG_REFERENCE);
+        assertThat(input.readLong()).isEqualTo(topicMessage.getConsensusTimestamp());
+        assertThat(input.readLong()).isEqualTo(topicMessage.getTopicId().getId());
+        assertThat(input.readLong()).isEqualTo(topicMessage.getSequenceNumber());
+        assertThat(input.available()).isZero();
+    }
+
+    private DataInputStream decode(String payload) {
+        assertThat(payload).startsWith(TopicMessageBatchEncoder.PREFIX);
+        byte[] bytes = Base64.getDecoder().decode(payload.substring(TopicMessageBatchEncoder.PREFIX.length()));
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
@@ -161,6 +161,7 @@ class SqlEntityListenerTest extends IntegrationTest {
     void beforeEach() {
         entityProperties.getPersist().setTrackBalance(true);
         sqlProperties.setBatchSize(20_000);
+        sqlProperties.setParallelism(1);
         sqlEntityListener.onStart();
     }
 
@@ -181,6 +182,32 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchWithParallelism() {
+        // given
+        sqlProperties.setParallelism(4);
+        Entity entity = domainBuilder.entity().get();
+        var contractLog = domainBuilder.contractLog().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onContractLog(contractLog);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(contractLogRepository.findAll()).containsExactly(contractLog);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findById(entity.getId())).get().returns(entity.getMemo(), Entity::getMemo);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
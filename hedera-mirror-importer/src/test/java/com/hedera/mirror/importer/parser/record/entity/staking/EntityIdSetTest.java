@@ -0,0 +1,60 @@
+package com.hedera.mirror.importer.parser.record.entity.staking;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class EntityIdSetTest {
+
+    @Test
+    void add() {
+        var ids = new EntityIdSet();
+        for (long i = 10_000; i >= 1; i--) {
+            ids.add(i);
+        }
+        ids.add(5L);
+        ids.add(0L);
+
+        assertThat(ids.size()).isEqualTo(10_000);
+        assertThat(ids.contains(1L)).isTrue();
+        assertThat(ids.contains(10_000L)).isTrue();
+        assertThat(ids.contains(10_001L)).isFalse();
+        assertThat(ids.contains(0L)).isFalse();
+        assertThat(ids.toArray()).hasSize(10_000).isSorted().startsWith(1L, 2L).endsWith(10_000L);
+    }
+
+    @Test
+    void addAll() {
+        var ids = new EntityIdSet();
+        ids.add(3L);
+        ids.addAll(new long[] {4L, 3L, 2L});
+        assertThat(ids.toArray()).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void empty() {
+        var ids = new EntityIdSet();
+        assertThat(ids.size()).isZero();
+        assertThat(ids.toArray()).isEmpty();
+    }
+}
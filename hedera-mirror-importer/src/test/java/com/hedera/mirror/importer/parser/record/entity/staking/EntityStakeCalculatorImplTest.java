@@ -36,6 +36,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.repository.EntityStakeRepository;
@@ -57,12 +59,15 @@ class EntityStakeCalculatorImplTest {
     @Mock
     private RecordStreamFileListener recordStreamFileListener;
 
+    private EntityStakeChangeTracker entityStakeChangeTracker;
+
     private EntityStakeCalculatorImpl entityStakeCalculator;
 
     @BeforeEach
     void setup() {
+        entityStakeChangeTracker = new EntityStakeChangeTracker();
         entityStakeCalculator = new EntityStakeCalculatorImpl(entityRepository, entityStakeRepository, eventPublisher,
-                recordStreamFileListener);
+                recordStreamFileListener, entityStakeChangeTracker);
     }
 
     @Test
@@ -80,6 +85,47 @@ class EntityStakeCalculatorImplTest {
         verifyNoInteractions(entityRepository, recordStreamFileListener, eventPublisher);
     }
 
+    @Test
+    void calculateIncremental() {
+        // The first staking period after startup is always a full calculation
+        var nodeStakes = List.of(domainBuilder.nodeStake().get());
+        entityStakeCalculator.calculate(nodeStakes);
+        entityStakeCalculator.update();
+        verify(entityStakeRepository).updateEntityStake();
+
+        var entity = new Entity();
+        entity.setId(2L);
+        entityStakeChangeTracker.onEntity(entity);
+        entityStakeChangeTracker.onCryptoTransfer(CryptoTransfer.builder().amount(100L).entityId(3L).build());
+        entityStakeCalculator.calculate(nodeStakes);
+        entityStakeCalculator.update();
+
+        verify(entityRepository).refreshEntityStateStart();
+        verify(entityStakeRepository).updateEntityStateStart(new long[] {2L, 3L});
+        verify(entityStakeRepository).updateEntityStake(new long[] {2L, 3L});
+    }
+
+    @Test
+    void calculateKeepsUnappliedChanges() {
+        var nodeStakes = List.of(domainBuilder.nodeStake().get());
+        entityStakeCalculator.calculate(nodeStakes);
+        entityStakeCalculator.update();
+
+        var entity = new Entity();
+        entity.setId(2L);
+        entityStakeChangeTracker.onEntity(entity);
+        entityStakeCalculator.calculate(nodeStakes);
+
+        // The transaction rolled back so update didn't run and the record file is parsed again
+        entity.setId(3L);
+        entityStakeChangeTracker.onEntity(entity);
+        entityStakeCalculator.calculate(nodeStakes);
+        entityStakeCalculator.update();
+
+        verify(entityStakeRepository).updateEntityStateStart(new long[] {2L, 3L});
+        verify(entityStakeRepository).updateEntityStake(new long[] {2L, 3L});
+    }
+
     @Test
     void update() {
         when(entityStakeRepository.updateEntityStake()).thenReturn(1);
@@ -56,7 +56,7 @@ class BalanceFileReaderImplV1Test extends CsvBalanceFileReaderTest {
         FileUtils.writeLines(testFile, copy);
         StreamFileData streamFileData = StreamFileData.from(testFile);
         AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
-        assertAccountBalanceFile(accountBalanceFile);
         verifySuccess(testFile, accountBalanceFile, 2);
+        assertAccountBalanceFile(accountBalanceFile);
     }
 }
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.google.common.collect.Collections2;
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -37,6 +38,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -99,9 +101,33 @@ abstract class CsvBalanceFileReaderTest {
     void readValid() throws Exception {
         StreamFileData streamFileData = StreamFileData.from(balanceFile);
         AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
-        assertAccountBalanceFile(accountBalanceFile);
         assertFileHash(balanceFile, accountBalanceFile);
         verifySuccess(balanceFile, accountBalanceFile, 2);
+        assertAccountBalanceFile(accountBalanceFile);
+    }
+
+    @Test
+    void readCompressed() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzipOutputStream = new GZIPOutputStream(bytes)) {
+            gzipOutputStream.write(Files.readAllBytes(balanceFile.toPath()));
+        }
+
+        var streamFileData = StreamFileData.from(balanceFile.getName() + ".gz", bytes.toByteArray());
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertFileHash(balanceFile, accountBalanceFile);
+        assertThat(accountBalanceFile.getItems().count().block()).isEqualTo(expectedCount);
+    }
+
+    @Test
+    void readLazily() {
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertThat(accountBalanceFile.getCount()).isNull();
+        assertThat(accountBalanceFile.getItems().take(1).collectList().block()).hasSize(1);
+        assertThat(accountBalanceFile.getCount()).isNull();
+        assertThat(accountBalanceFile.getItems().count().block()).isEqualTo(expectedCount);
+        assertThat(accountBalanceFile.getCount()).isEqualTo(expectedCount);
     }
 
     @Test
@@ -180,8 +206,8 @@ abstract class CsvBalanceFileReaderTest {
 
         StreamFileData streamFileData = StreamFileData.from(testFile);
         AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
-        assertAccountBalanceFile(accountBalanceFile);
         verifySuccess(testFile, accountBalanceFile, 2);
+        assertAccountBalanceFile(accountBalanceFile);
     }
 
     @Test
@@ -192,8 +218,8 @@ abstract class CsvBalanceFileReaderTest {
 
         StreamFileData streamFileData = StreamFileData.from(testFile);
         AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
-        assertAccountBalanceFile(accountBalanceFile);
         verifySuccess(testFile, accountBalanceFile, 2);
+        assertAccountBalanceFile(accountBalanceFile);
     }
 
     @Test
@@ -207,8 +233,8 @@ abstract class CsvBalanceFileReaderTest {
 
         StreamFileData streamFileData = StreamFileData.from(testFile);
         AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
-        assertAccountBalanceFile(accountBalanceFile);
         verifySuccess(testFile, accountBalanceFile, 2);
+        assertAccountBalanceFile(accountBalanceFile);
     }
 
     @Test
@@ -0,0 +1,117 @@
+package com.hedera.mirror.importer.reconciliation;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BalanceMapTest {
+
+    @Test
+    void accounts() {
+        var balances = BalanceMap.accounts();
+        for (long i = 1; i <= 10_000; i++) {
+            balances.put(i, i * 10);
+        }
+        balances.merge(1L, 5L);
+        balances.merge(20_000L, -3L);
+
+        assertThat(balances.size()).isEqualTo(10_001);
+        assertThat(balances.get(1L)).isEqualTo(15L);
+        assertThat(balances.get(10_000L)).isEqualTo(100_000L);
+        assertThat(balances.get(20_000L)).isEqualTo(-3L);
+        assertThat(balances.get(30_000L)).isZero();
+    }
+
+    @Test
+    void tokens() {
+        var balances = BalanceMap.tokens();
+        balances.put(2L, 100L, 10L);
+        balances.put(100L, 2L, 20L);
+        balances.merge(2L, 100L, 5L);
+
+        assertThat(balances.size()).isEqualTo(2);
+        assertThat(balances.get(2L, 100L)).isEqualTo(15L);
+        assertThat(balances.get(100L, 2L)).isEqualTo(20L);
+        assertThat(balances.get(2L, 101L)).isZero();
+    }
+
+    @Test
+    void mergeOverflow() {
+        var balances = BalanceMap.accounts();
+        balances.put(2L, Long.MAX_VALUE);
+        assertThatThrownBy(() -> balances.merge(2L, 1L)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void differenceEqual() {
+        var left = BalanceMap.accounts();
+        var right = BalanceMap.accounts();
+        left.put(2L, 100L);
+        left.put(3L, 0L);
+        right.put(2L, 100L);
+        right.put(4L, 0L);
+
+        var difference = left.difference(right, 10);
+
+        assertThat(difference.isEmpty()).isTrue();
+        assertThat(difference).hasToString("equal");
+    }
+
+    @Test
+    void difference() {
+        var left = BalanceMap.accounts();
+        var right = BalanceMap.accounts();
+        left.put(2L, 100L);
+        left.put(3L, 1L);
+        right.put(2L, 99L);
+        right.put(4L, 1L);
+
+        assertThat(left.difference(right, 10)).hasToString(
+                "not equal: only on left={3=1}: only on right={4=1}: value differences={2=(100, 99)}");
+    }
+
+    @Test
+    void differenceTokens() {
+        var left = BalanceMap.tokens();
+        var right = BalanceMap.tokens();
+        left.put(2L, 100L, 1L);
+
+        assertThat(left.difference(right, 10).toString())
+                .contains("only on left={" + new BalanceReconciliationService.TokenAccountId(2L, 100L) + "=1}");
+    }
+
+    @Test
+    void differenceSampled() {
+        var left = BalanceMap.accounts();
+        var right = BalanceMap.accounts();
+        for (long i = 1; i <= 100; i++) {
+            left.put(i, 1L);
+        }
+
+        var difference = left.difference(right, 2);
+
+        assertThat(difference.isEmpty()).isFalse();
+        assertThat(difference.toString()).endsWith(": 98 more differences omitted");
+    }
+}
@@ -23,9 +23,11 @@ package com.hedera.mirror.importer.repository;
 import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
 import static com.hedera.mirror.common.domain.entity.EntityType.TOPIC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.Key;
+import java.nio.ByteBuffer;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -111,6 +113,29 @@ class EntityRepositoryTest extends AbstractRepositoryTest {
         assertThat(entityRepository.findByEvmAddress(new byte[] {1, 2, 3})).isEmpty();
     }
 
+    @Test
+    void findByAliasIn() {
+        Entity entity1 = domainBuilder.entity().persist();
+        Entity entity2 = domainBuilder.entity().persist();
+        Entity entityDeleted = domainBuilder.entity().customize(b -> b.deleted(true)).persist();
+        var aliases = List.of(entity1.getAlias(), entity2.getAlias(), entityDeleted.getAlias(), new byte[] {1, 2, 3});
+
+        assertThat(entityRepository.findByAliasIn(aliases)).containsOnly(
+                entry(ByteBuffer.wrap(entity1.getAlias()), entity1.getId()),
+                entry(ByteBuffer.wrap(entity2.getAlias()), entity2.getId()));
+        assertThat(entityRepository.findByAliasIn(List.of())).isEmpty();
+    }
+
+    @Test
+    void findByEvmAddressIn() {
+        Entity entity = domainBuilder.entity().persist();
+        Entity entityDeleted = domainBuilder.entity().customize(b -> b.deleted(true)).persist();
+        var evmAddresses = List.of(entity.getEvmAddress(), entityDeleted.getEvmAddress(), new byte[] {1, 2, 3});
+
+        assertThat(entityRepository.findByEvmAddressIn(evmAddresses))
+                .containsOnly(entry(ByteBuffer.wrap(entity.getEvmAddress()), entity.getId()));
+    }
+
     @Test
     void refreshEntityStateStart() {
         // given
@@ -125,6 +125,43 @@ class EntityStakeRepositoryTest extends AbstractRepositoryTest {
         assertThat(entityStakeRepository.findAll()).containsExactlyInAnyOrderElementsOf(expectedEntityStakes);
     }
 
+    @Test
+    void updateEntityStakeIncremental() {
+        // given
+        var staker = domainBuilder.entity().customize(e -> e.balance(100L).stakedNodeId(1L)).persist();
+        var unchanged = domainBuilder.entity().customize(e -> e.balance(200L)).persist();
+        var changed = domainBuilder.entity().customize(e -> e.balance(300L)).persist();
+        var proxied = domainBuilder.entity().customize(e -> e.balance(400L)).persist();
+        long timestamp = domainBuilder.timestamp();
+        domainBuilder.nodeStake().customize(ns -> ns.consensusTimestamp(timestamp).epochDay(100L).nodeId(1L))
+                .persist();
+        entityRepository.refreshEntityStateStart();
+        entityStakeRepository.updateEntityStake();
+
+        domainBuilder.nodeStake().customize(ns -> ns.consensusTimestamp(timestamp + 1).epochDay(101L).nodeId(1L))
+                .persist();
+        changed.setBalance(350L);
+        changed.setStakedAccountId(proxied.getId());
+        entityRepository.save(changed);
+        var deleted = domainBuilder.entity().customize(e -> e.deleted(true)).persist();
+        var changedIds = new long[] {changed.getId(), deleted.getId()};
+
+        // when
+        entityStakeRepository.updateEntityStateStart(changedIds);
+        int count = entityStakeRepository.updateEntityStake(changedIds);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(entityStakeRepository.findAll())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("pendingReward")
+                .containsExactlyInAnyOrder(
+                        fromEntity(staker, 101L, 0L, 100L),
+                        fromEntity(unchanged, 100L, 0L, 0L),
+                        fromEntity(changed, 101L, 0L, 0L),
+                        fromEntity(proxied, 101L, 350L, 0L)
+                );
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0, false, 1, -1, 15090000000, true, 1500",
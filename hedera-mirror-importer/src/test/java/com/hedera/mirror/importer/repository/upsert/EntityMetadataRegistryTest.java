@@ -38,6 +38,7 @@ import com.hedera.mirror.common.domain.UpsertColumn;
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.importer.IntegrationTest;
 
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -88,6 +89,24 @@ class EntityMetadataRegistryTest extends IntegrationTest {
                         .satisfies(d -> assertThat(entity.getAlias()).isEqualTo(newValue)));
     }
 
+    @Test
+    void lookupInsertOnly() {
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        var metadata = registry.lookup(TokenTransfer.class);
+
+        assertThat(metadata)
+                .isNotNull()
+                .returns("token_transfer", EntityMetadata::getTableName)
+                .returns(null, EntityMetadata::getUpsertable)
+                .extracting(EntityMetadata::getColumns, InstanceOfAssertFactories.ITERABLE)
+                .first(InstanceOfAssertFactories.type(ColumnMetadata.class))
+                .returns("account_id", ColumnMetadata::getName)
+                .returns("int8", ColumnMetadata::getSqlType)
+                .returns(true, ColumnMetadata::isId)
+                .satisfies(cm -> assertThat(cm.getGetter().apply(tokenTransfer))
+                        .isEqualTo(tokenTransfer.getId().getAccountId()));
+    }
+
     @Test
     @Transactional
     void lookupSameColumnNameFromMultipleDomainClasses() {
@@ -23,7 +23,9 @@ package com.hedera.mirror.importer.retention;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.AfterEach;
@@ -32,7 +34,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.EnabledIfV2;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.db.TimePartition;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.TransactionRepository;
 
@@ -42,6 +49,7 @@ class RetentionJobTest extends IntegrationTest {
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final TimePartitionService timePartitionService;
     private final TransactionRepository transactionRepository;
 
     @BeforeEach
@@ -55,6 +63,7 @@ class RetentionJobTest extends IntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setEnabled(false);
     }
 
@@ -188,6 +197,48 @@ class RetentionJobTest extends IntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @EnabledIfV2
+    @Test
+    void dropPartitions() {
+        // given
+        var partitions = timePartitionService.getPartitions("transaction");
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setInclude(Set.of("transaction"));
+        retentionProperties.setPeriod(Duration.ofDays(1L));
+        long september = DomainUtils.convertToNanosMax(Instant.parse("2019-09-15T00:00:00Z"));
+        long october = DomainUtils.convertToNanosMax(Instant.parse("2019-10-15T00:00:00Z"));
+        domainBuilder.transaction().customize(t -> t.consensusTimestamp(september)).persist();
+        var transaction = domainBuilder.transaction().customize(t -> t.consensusTimestamp(october)).persist();
+        var recordFile = domainBuilder.recordFile().customize(r -> r.consensusEnd(october)).persist();
+        var latest = recordFile();
+
+        try {
+            // when
+            retentionJob.prune();
+
+            // then
+            assertThat(timePartitionService.getPartitions("transaction"))
+                    .extracting(TimePartition::getName)
+                    .doesNotContain("transaction_pmin", "transaction_p2019_09")
+                    .contains("transaction_p2019_10");
+            assertThat(transactionRepository.findAll())
+                    .extracting(Transaction::getConsensusTimestamp)
+                    .containsExactlyInAnyOrder(transaction.getConsensusTimestamp(), latest.getConsensusEnd());
+            assertThat(recordFileRepository.findAll()).containsExactlyInAnyOrder(recordFile, latest);
+        } finally {
+            restore(partitions);
+        }
+    }
+
+    // Recreate the dropped partitions for the other tests
+    private void restore(List<TimePartition> partitions) {
+        for (var partition : partitions) {
+            String from = partition.getFrom() == Long.MIN_VALUE ? "minvalue" : String.valueOf(partition.getFrom());
+            jdbcOperations.execute(String.format("create table if not exists %s partition of %s for values from " +
+                    "(%s) to (%d)", partition.getName(), partition.getParent(), from, partition.getTo()));
+        }
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder.transaction().customize(t -> t.consensusTimestamp(recordFile.getConsensusEnd())).persist();
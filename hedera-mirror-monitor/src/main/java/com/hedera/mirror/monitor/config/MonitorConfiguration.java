@@ -20,7 +20,6 @@ package com.hedera.mirror.monitor.config;
  * ‍
  */
 
-import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
@@ -31,14 +30,17 @@ import org.springframework.context.annotation.Configuration;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import com.hedera.mirror.monitor.publish.PublishException;
 import com.hedera.mirror.monitor.publish.PublishMetrics;
 import com.hedera.mirror.monitor.publish.PublishProperties;
 import com.hedera.mirror.monitor.publish.PublishRequest;
+import com.hedera.mirror.monitor.publish.PublishResponse;
 import com.hedera.mirror.monitor.publish.TransactionPublisher;
 import com.hedera.mirror.monitor.publish.generator.TransactionGenerator;
+import com.hedera.mirror.monitor.publish.local.LocalTransactionPublisher;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
 import com.hedera.mirror.monitor.subscribe.SubscribeMetrics;
 
@@ -56,6 +58,7 @@ class MonitorConfiguration {
         });
     }
 
+    private final LocalTransactionPublisher localTransactionPublisher;
     private final MirrorSubscriber mirrorSubscriber;
     private final PublishMetrics publishMetrics;
     private final PublishProperties publishProperties;
@@ -64,25 +67,27 @@ class MonitorConfiguration {
     private final TransactionPublisher transactionPublisher;
 
     /**
-     * Constructs a reactive flow for publishing transactions. The transaction generator will run on a single thread and
-     * generate transactions as fast as possible. Next, a parallel Flux will concurrently publish those transactions to
-     * the main nodes. Once the response is received, it will be sent to subscribers in case they need to sample them to
-     * validate whether that transaction was received by the mirror node APIs. Finally, metrics will be collected for
-     * every published transaction.
+     * Constructs a reactive flow for publishing transactions. The transaction generator will run each scenario on its
+     * own thread and generate its transactions at that scenario's rate, merging them into a single Flux. Next, a
+     * parallel Flux will concurrently publish those transactions to the main nodes, or handle them locally and write
+     * them to record stream files when local publishing is enabled. Once the response is received, it will be sent to
+     * subscribers in case they need to sample them to validate whether that transaction was received by the mirror node
+     * APIs. Finally, metrics will be collected for every published transaction.
      *
      * @return the publishing flow's Disposable
      */
     @Bean(destroyMethod = "dispose")
     @ConditionalOnProperty(value = "hedera.mirror.monitor.publish.enabled", havingValue = "true", matchIfMissing = true)
     Disposable publish() {
-        return Flux.<List<PublishRequest>>generate(sink -> sink.next(transactionGenerator.next(0)))
-                .flatMapIterable(Function.identity())
-                .retry()
+        Function<PublishRequest, Mono<PublishResponse>> publisher = publishProperties.getLocal().isEnabled() ?
+                localTransactionPublisher::publish : transactionPublisher::publish;
+
+        return transactionGenerator.generate()
                 .name("generate")
                 .metrics()
                 .parallel(publishProperties.getClients())
                 .runOn(Schedulers.newParallel("publisher", publishProperties.getClients()))
-                .map(transactionPublisher::publish)
+                .map(publisher)
                 .sequential()
                 .parallel(publishProperties.getResponseThreads())
                 .runOn(Schedulers.newParallel("resolver", publishProperties.getResponseThreads()))
@@ -24,19 +24,25 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Transaction;
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.util.IdentityArrayMap;
 
+/**
+ * Records the publish metrics of every transaction. The meters are kept in a table of scenario, node and status so the
+ * hot path only does an identity scan of the few scenarios, an array lookup by node account number and, for the
+ * common successful case, a field read before recording into the timers.
+ */
 @Log4j2
 @Named
 @RequiredArgsConstructor
@@ -46,14 +52,19 @@ public class PublishMetrics {
     static final String METRIC_HANDLE = "hedera.mirror.monitor.publish.handle";
     static final String METRIC_SUBMIT = "hedera.mirror.monitor.publish.submit";
     static final String SUCCESS = "SUCCESS";
+    static final String TAG_NODE = "node";
+    static final String TAG_SCENARIO = "scenario";
+    static final String TAG_STATUS = "status";
+    static final String TAG_TYPE = "type";
     static final String UNKNOWN = "unknown";
 
-    private final Map<Tags, TimeGauge> durationGauges = new ConcurrentHashMap<>();
-    private final Map<Tags, Timer> handleTimers = new ConcurrentHashMap<>();
-    private final Map<Tags, Timer> submitTimers = new ConcurrentHashMap<>();
+    private static final int MAX_INDEXED_NODE = 1024; // Larger node account numbers fall back to a map
+
     private final MeterRegistry meterRegistry;
     private final PublishProperties publishProperties;
 
+    private final IdentityArrayMap<PublishScenario, ScenarioMeters> scenarioMeters = new IdentityArrayMap<>();
+
     public void onSuccess(PublishResponse response) {
         recordMetric(response.getRequest(), response, SUCCESS);
     }
@@ -66,68 +77,62 @@ public class PublishMetrics {
 
     private void recordMetric(PublishRequest request, PublishResponse response, String status) {
         try {
-            String node = Optional.ofNullable(request.getTransaction().getNodeAccountIds())
-                    .filter(l -> !l.isEmpty())
-                    .map(l -> l.get(0))
-                    .map(AccountId::toString)
-                    .orElse(UNKNOWN);
             long startTime = request.getTimestamp().toEpochMilli();
             long endTime = response != null ? response.getTimestamp().toEpochMilli() : System.currentTimeMillis();
-            Tags tags = new Tags(node, request.getScenario(), status);
+            StatusMeters meters = scenarioMeters.computeIfAbsent(request.getScenario(), ScenarioMeters::new)
+                    .getNodeMeters(request.getTransaction())
+                    .getStatusMeters(status);
 
-            Timer submitTimer = submitTimers.computeIfAbsent(tags, this::newSubmitMetric);
-            submitTimer.record(endTime - startTime, TimeUnit.MILLISECONDS);
-
-            durationGauges.computeIfAbsent(tags, this::newDurationMetric);
+            meters.submitTimer.record(endTime - startTime, TimeUnit.MILLISECONDS);
 
             if (response != null && response.getReceipt() != null) {
                 long elapsed = System.currentTimeMillis() - startTime;
-                Timer handleTimer = handleTimers.computeIfAbsent(tags, this::newHandleMetric);
-                handleTimer.record(elapsed, TimeUnit.MILLISECONDS);
+                meters.getHandleTimer().record(elapsed, TimeUnit.MILLISECONDS);
             }
         } catch (Exception ex) {
             log.error("Unexpected error when recording metric", ex);
         }
     }
 
-    private TimeGauge newDurationMetric(Tags tags) {
+    private TimeGauge newDurationMetric(PublishScenario scenario, String node) {
         TimeUnit unit = TimeUnit.NANOSECONDS;
-        return TimeGauge.builder(METRIC_DURATION, tags.getScenario(), unit, s -> s.getElapsed().toNanos())
+        return TimeGauge.builder(METRIC_DURATION, scenario, unit, s -> s.getElapsed().toNanos())
                 .description("The amount of time this scenario has been publishing transactions")
-                .tag(Tags.TAG_NODE, tags.getNode())
-                .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
-                .tag(Tags.TAG_TYPE, tags.getType())
+                .tag(TAG_NODE, node)
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_TYPE, getType(scenario))
                 .register(meterRegistry);
     }
 
-    private Timer newHandleMetric(Tags tags) {
+    private Timer newHandleMetric(PublishScenario scenario, String node, String status) {
         return Timer.builder(METRIC_HANDLE)
                 .description("The time it takes from submit to being handled by the main nodes")
-                .tag(Tags.TAG_NODE, tags.getNode())
-                .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
-                .tag(Tags.TAG_STATUS, tags.getStatus())
-                .tag(Tags.TAG_TYPE, tags.getType())
+                .tag(TAG_NODE, node)
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_STATUS, status)
+                .tag(TAG_TYPE, getType(scenario))
                 .register(meterRegistry);
     }
 
-    private Timer newSubmitMetric(Tags tags) {
+    private Timer newSubmitMetric(PublishScenario scenario, String node, String status) {
         return Timer.builder(METRIC_SUBMIT)
                 .description("The time it takes to submit a transaction")
-                .tag(Tags.TAG_NODE, tags.getNode())
-                .tag(Tags.TAG_SCENARIO, tags.getScenario().getName())
-                .tag(Tags.TAG_STATUS, tags.getStatus())
-                .tag(Tags.TAG_TYPE, tags.getType())
+                .tag(TAG_NODE, node)
+                .tag(TAG_SCENARIO, scenario.getName())
+                .tag(TAG_STATUS, status)
+                .tag(TAG_TYPE, getType(scenario))
                 .register(meterRegistry);
     }
 
+    private String getType(PublishScenario scenario) {
+        return scenario.getProperties().getType().toString();
+    }
+
     @Scheduled(fixedDelayString = "${hedera.mirror.monitor.publish.statusFrequency:10000}")
     public void status() {
         if (publishProperties.isEnabled()) {
             var running = new AtomicBoolean(false);
-            durationGauges.keySet()
-                    .stream()
-                    .map(Tags::getScenario)
-                    .distinct()
+            scenarioMeters.keys()
                     .filter(PublishScenario::isRunning)
                     .peek(s -> running.set(true))
                     .forEach(this::status);
@@ -140,23 +145,94 @@ public class PublishMetrics {
 
     private void status(PublishScenario scenario) {
         String elapsed = DurationToStringSerializer.convert(scenario.getElapsed());
-        log.info("Scenario {} published {} transactions in {} at {}/s. Errors: {}",
-                scenario, scenario.getCount(), elapsed, scenario.getRate(), scenario.getErrors());
+        log.info("Scenario {} published {} transactions in {} at {}/s of {}/s target. Errors: {}", scenario,
+                scenario.getCount(), elapsed, scenario.getRate(), scenario.getProperties().getTps(),
+                scenario.getErrors());
     }
 
-    @Value
-    class Tags {
-        static final String TAG_NODE = "node";
-        static final String TAG_SCENARIO = "scenario";
-        static final String TAG_STATUS = "status";
-        static final String TAG_TYPE = "type";
+    private class ScenarioMeters {
+
+        private final PublishScenario scenario;
+        private final AtomicReferenceArray<NodeMeters> indexedNodes = new AtomicReferenceArray<>(MAX_INDEXED_NODE);
+        private final Map<String, NodeMeters> otherNodes = new ConcurrentHashMap<>();
+
+        private ScenarioMeters(PublishScenario scenario) {
+            this.scenario = scenario;
+        }
+
+        private NodeMeters getNodeMeters(Transaction<?> transaction) {
+            var nodeAccountIds = transaction.getNodeAccountIds();
+            if (nodeAccountIds == null || nodeAccountIds.isEmpty()) {
+                return otherNodes.computeIfAbsent(UNKNOWN, n -> new NodeMeters(scenario, n));
+            }
+
+            AccountId nodeAccountId = nodeAccountIds.get(0);
+            if (nodeAccountId.shard != 0 || nodeAccountId.realm != 0 || nodeAccountId.num >= MAX_INDEXED_NODE) {
+                return otherNodes.computeIfAbsent(nodeAccountId.toString(), n -> new NodeMeters(scenario, n));
+            }
+
+            int index = (int) nodeAccountId.num;
+            NodeMeters meters = indexedNodes.get(index);
+            if (meters == null) {
+                meters = new NodeMeters(scenario, nodeAccountId.toString());
+                if (!indexedNodes.compareAndSet(index, null, meters)) {
+                    meters = indexedNodes.get(index);
+                }
+            }
+
+            return meters;
+        }
+    }
+
+    private class NodeMeters {
 
         private final String node;
         private final PublishScenario scenario;
+        private final Map<String, StatusMeters> errors = new ConcurrentHashMap<>();
+        private volatile StatusMeters success;
+
+        private NodeMeters(PublishScenario scenario, String node) {
+            this.node = node;
+            this.scenario = scenario;
+            newDurationMetric(scenario, node);
+        }
+
+        private StatusMeters getStatusMeters(String status) {
+            if (!SUCCESS.equals(status)) {
+                return errors.computeIfAbsent(status, s -> new StatusMeters(this, s));
+            }
+
+            StatusMeters meters = success;
+            if (meters == null) {
+                meters = new StatusMeters(this, SUCCESS);
+                success = meters;
+            }
+            return meters;
+        }
+    }
+
+    // Meters are only registered once their status is seen. Registering is idempotent, so creating them twice in a race
+    // still records into the same meters.
+    private class StatusMeters {
+
+        private final NodeMeters nodeMeters;
         private final String status;
+        private final Timer submitTimer;
+        private volatile Timer handleTimer;
+
+        private StatusMeters(NodeMeters nodeMeters, String status) {
+            this.nodeMeters = nodeMeters;
+            this.status = status;
+            submitTimer = newSubmitMetric(nodeMeters.scenario, nodeMeters.node, status);
+        }
 
-        private String getType() {
-            return scenario.getProperties().getType().toString();
+        private Timer getHandleTimer() {
+            Timer timer = handleTimer;
+            if (timer == null) {
+                timer = newHandleMetric(nodeMeters.scenario, nodeMeters.node, status);
+                handleTimer = timer;
+            }
+            return timer;
         }
     }
 }
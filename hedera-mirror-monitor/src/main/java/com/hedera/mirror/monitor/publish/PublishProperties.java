@@ -32,6 +32,8 @@ import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import com.hedera.mirror.monitor.publish.local.LocalPublishProperties;
+
 @Data
 @Validated
 @ConfigurationProperties("hedera.mirror.monitor.publish")
@@ -47,6 +49,9 @@ public class PublishProperties {
 
     private boolean enabled = true;
 
+    @NotNull
+    private LocalPublishProperties local = new LocalPublishProperties();
+
     @NotNull
     private Duration nodeMaxBackoff = Duration.ofMinutes(1L);
 
@@ -58,7 +58,7 @@ public class TransactionPublisher implements AutoCloseable {
 
     @Override
     public void close() {
-        if (publishProperties.isEnabled()) {
+        if (publishProperties.isEnabled() && !publishProperties.getLocal().isEnabled()) {
             log.warn("Closing {} clients", publishProperties.getClients());
             clients.subscribe(client -> {
                 try {
@@ -23,16 +23,18 @@ package com.hedera.mirror.monitor.publish.generator;
 import com.google.common.util.concurrent.RateLimiter;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import javax.inject.Named;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.math3.distribution.EnumeratedDistribution;
 import org.apache.commons.math3.util.Pair;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import com.hedera.mirror.monitor.expression.ExpressionConverter;
 import com.hedera.mirror.monitor.properties.ScenarioPropertiesAggregator;
@@ -56,20 +58,20 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     private final PublishProperties properties;
     final AtomicReference<EnumeratedDistribution<TransactionGenerator>> distribution = new AtomicReference<>();
     final AtomicReference<RateLimiter> rateLimiter = new AtomicReference<>();
-    final List<ConfigurableTransactionGenerator> transactionGenerators;
+    final List<ConfigurableTransactionGenerator> transactionGenerators = new CopyOnWriteArrayList<>();
     final AtomicInteger batchSize = new AtomicInteger(1);
 
     public CompositeTransactionGenerator(ExpressionConverter expressionConverter,
                                          ScenarioPropertiesAggregator scenarioPropertiesAggregator,
                                          PublishProperties properties) {
         this.properties = properties;
-        this.transactionGenerators = properties.getScenarios()
+        properties.getScenarios()
                 .values()
                 .stream()
                 .filter(PublishScenarioProperties::isEnabled)
                 .map(scenarioProperties -> new ConfigurableTransactionGenerator(expressionConverter,
                         scenarioPropertiesAggregator, scenarioProperties))
-                .collect(Collectors.toList());
+                .forEach(transactionGenerators::add);
         rebuild();
     }
 
@@ -87,9 +89,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
                 i++;
             } catch (ScenarioException e) {
                 log.warn(e.getMessage());
-                e.getScenario().getProperties().setEnabled(false);
-                e.getScenario().onComplete();
-                rebuild();
+                complete(e.getScenario());
                 if (rateLimiter.get().equals(INACTIVE_RATE_LIMITER)) {
                     break;
                 }
@@ -102,23 +102,65 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         return publishRequests;
     }
 
+    /**
+     * Generates the publish requests of each scenario with an independent producer that has its own rate limiter and
+     * thread, so a scenario that's slow to build its transactions doesn't hold back the rate of the others. The
+     * requests of all producers are merged as they're generated.
+     *
+     * @return the generated publish requests of all scenarios
+     */
+    @Override
+    public Flux<PublishRequest> generate() {
+        return Flux.defer(() -> Flux.fromIterable(transactionGenerators))
+                .flatMap(this::generate, Math.max(1, transactionGenerators.size()));
+    }
+
+    private Flux<PublishRequest> generate(ConfigurableTransactionGenerator transactionGenerator) {
+        double tps = transactionGenerator.getProperties().getTps();
+        if (!properties.isEnabled() || tps <= 0.0) {
+            return Flux.empty();
+        }
+
+        int scenarioBatchSize = Math.max(1, (int) Math.ceil(tps / properties.getBatchDivisor()));
+        RateLimiter scenarioRateLimiter = getRateLimiter(tps, properties.getWarmupPeriod());
+        Scheduler scheduler = Schedulers.newSingle("generator-" + transactionGenerator.getProperties().getName());
+
+        return Flux.<List<PublishRequest>>generate(sink -> {
+                    scenarioRateLimiter.acquire(scenarioBatchSize);
+                    try {
+                        sink.next(transactionGenerator.next(scenarioBatchSize));
+                    } catch (ScenarioException e) {
+                        log.warn(e.getMessage());
+                        complete(e.getScenario());
+                        sink.complete();
+                    }
+                })
+                .flatMapIterable(Function.identity())
+                .doOnError(e -> log.error("Unable to generate a transaction", e))
+                .retry()
+                .subscribeOn(scheduler)
+                .doFinally(s -> scheduler.dispose());
+    }
+
     @Override
     public Flux<PublishScenario> scenarios() {
         return Flux.fromIterable(transactionGenerators).flatMap(TransactionGenerator::scenarios);
     }
 
+    private void complete(PublishScenario scenario) {
+        scenario.getProperties().setEnabled(false);
+        scenario.onComplete();
+        rebuild();
+    }
+
     private synchronized void rebuild() {
+        transactionGenerators.removeIf(t -> !t.getProperties().isEnabled());
         double total = 0.0;
         List<Pair<TransactionGenerator, Double>> pairs = new ArrayList<>();
-        for (Iterator<ConfigurableTransactionGenerator> iter = transactionGenerators.iterator(); iter.hasNext(); ) {
-            ConfigurableTransactionGenerator transactionGenerator = iter.next();
+        for (ConfigurableTransactionGenerator transactionGenerator : transactionGenerators) {
             PublishScenarioProperties publishScenarioProperties = transactionGenerator.getProperties();
-            if (publishScenarioProperties.isEnabled()) {
-                total += publishScenarioProperties.getTps();
-                pairs.add(Pair.create(transactionGenerator, publishScenarioProperties.getTps()));
-            } else {
-                iter.remove();
-            }
+            total += publishScenarioProperties.getTps();
+            pairs.add(Pair.create(transactionGenerator, publishScenarioProperties.getTps()));
         }
 
         if (!properties.isEnabled() || pairs.isEmpty() || total == 0.0) {
@@ -21,6 +21,7 @@ package com.hedera.mirror.monitor.publish.generator;
  */
 
 import java.util.List;
+import java.util.function.Function;
 import reactor.core.publisher.Flux;
 
 import com.hedera.mirror.monitor.publish.PublishRequest;
@@ -41,5 +42,15 @@ public interface TransactionGenerator {
         return next(1);
     }
 
+    /**
+     * Generates publish requests continuously until all scenarios complete. The default pulls batches of the
+     * generator's choosing from {@link #next(int)} in a loop.
+     *
+     * @return the generated publish requests
+     */
+    default Flux<PublishRequest> generate() {
+        return Flux.<List<PublishRequest>>generate(sink -> sink.next(next(0))).flatMapIterable(Function.identity());
+    }
+
     Flux<PublishScenario> scenarios();
 }
@@ -0,0 +1,46 @@
+package com.hedera.mirror.monitor.publish.local;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.nio.file.Path;
+import java.time.Duration;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+public class LocalPublishProperties {
+
+    private boolean enabled = false;
+
+    @DurationMin(millis = 100L)
+    @NotNull
+    private Duration fileInterval = Duration.ofSeconds(2L);
+
+    @NotBlank
+    private String nodeAccountId = "0.0.3";
+
+    @NotNull
+    private Path path = Path.of("data", "local");
+}
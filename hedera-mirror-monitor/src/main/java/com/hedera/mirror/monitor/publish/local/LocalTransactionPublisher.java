@@ -0,0 +1,295 @@
+package com.hedera.mirror.monitor.publish.local;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ContractID;
+import com.hedera.hashgraph.sdk.proto.FileID;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ScheduleID;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenID;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
+import com.hedera.hashgraph.sdk.proto.TransactionReceipt;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.publish.PublishException;
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishRequest;
+import com.hedera.mirror.monitor.publish.PublishResponse;
+
+/**
+ * Publishes transactions without a network by handling them locally and writing them to record stream files that the
+ * importer can ingest. Every transaction succeeds and is charged a fixed fee. Entity creations get sequential entity
+ * numbers and topic messages get per topic sequence numbers, but no other state is kept, so the records are only
+ * realistic enough to load test the mirror node end to end. The entity and sequence numbers are saved next to the
+ * record streams after every record file, so a restart continues them instead of reusing numbers already ingested.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class LocalTransactionPublisher {
+
+    static final String STATE_FILENAME = "state.properties";
+
+    private static final String ENTITY_NUM_KEY = "entityNum";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final String TOPIC_KEY_PREFIX = "topic.";
+    private static final long TRANSACTION_FEE = 100_000L;
+    private static final int TOPIC_RUNNING_HASH_VERSION = 3;
+
+    private final MonitorProperties monitorProperties;
+    private final PublishProperties publishProperties;
+
+    private final Map<TopicID, Long> topicSequenceNumbers = new HashMap<>();
+    private long entityNum = 1000L;
+    private Disposable flusher;
+    private long lastConsensusTimestamp = 0L;
+    private AccountId nodeAccountId;
+    private AccountId operatorId;
+    private PrivateKey operatorKey;
+    private RecordStreamWriter recordStreamWriter;
+    private Path statePath;
+
+    @PostConstruct
+    void init() {
+        var properties = publishProperties.getLocal();
+        if (!publishProperties.isEnabled() || !properties.isEnabled()) {
+            return;
+        }
+
+        nodeAccountId = AccountId.fromString(properties.getNodeAccountId());
+        operatorId = AccountId.fromString(monitorProperties.getOperator().getAccountId());
+        operatorKey = PrivateKey.fromString(monitorProperties.getOperator().getPrivateKey());
+        recordStreamWriter = new RecordStreamWriter(properties);
+        statePath = properties.getPath().resolve(STATE_FILENAME);
+        loadState();
+        flusher = Flux.interval(properties.getFileInterval(), Schedulers.newSingle("record-stream"))
+                .doOnNext(i -> flush())
+                .onErrorContinue((t, i) -> log.error("Unable to write record file: ", t))
+                .doOnSubscribe(s -> log.info("Writing record files to {} every {}",
+                        properties.getPath().toAbsolutePath(), properties.getFileInterval()))
+                .subscribe();
+    }
+
+    @PreDestroy
+    void close() {
+        if (flusher != null) {
+            flusher.dispose();
+            flush();
+        }
+    }
+
+    public Mono<PublishResponse> publish(PublishRequest request) {
+        log.trace("Publishing: {}", request);
+        var scenario = request.getScenario();
+
+        return Mono.fromCallable(() -> handle(request))
+                .doOnNext(response -> {
+                    if (log.isTraceEnabled() || scenario.getProperties().isLogResponse()) {
+                        log.info("Received response : {}", response);
+                    }
+                })
+                .onErrorMap(t -> !(t instanceof PublishException), t -> new PublishException(request, t))
+                .doOnNext(scenario::onNext)
+                .doOnError(scenario::onError);
+    }
+
+    // Synchronized with process so the saved state matches exactly the transactions in the written record files
+    synchronized void flush() {
+        if (recordStreamWriter.flush()) {
+            saveState();
+        }
+    }
+
+    private PublishResponse handle(PublishRequest request) throws InvalidProtocolBufferException {
+        var transaction = request.getTransaction();
+        transaction.setNodeAccountIds(List.of(nodeAccountId));
+        transaction.setTransactionId(TransactionId.generate(operatorId));
+        transaction.freeze();
+        transaction.sign(operatorKey);
+
+        var transactionHash = transaction.getTransactionHash();
+        var transactionProto = TransactionList.parseFrom(transaction.toBytes()).getTransactionList(0);
+        var signedTransaction = SignedTransaction.parseFrom(transactionProto.getSignedTransactionBytes());
+        var body = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+        var transactionRecord = process(transactionProto, body, transactionHash);
+
+        var response = PublishResponse.builder()
+                .request(request)
+                .timestamp(Instant.now())
+                .transactionId(transaction.getTransactionId());
+
+        if (request.isRecord()) {
+            var sdkRecord = com.hedera.hashgraph.sdk.TransactionRecord.fromBytes(transactionRecord.toByteArray());
+            response.record(sdkRecord).receipt(sdkRecord.receipt);
+        } else if (request.isReceipt()) {
+            var receiptBytes = transactionRecord.getReceipt().toByteArray();
+            response.receipt(com.hedera.hashgraph.sdk.TransactionReceipt.fromBytes(receiptBytes));
+        }
+
+        return response.build();
+    }
+
+    // Synchronized so consensus timestamps and topic sequence numbers increase in the order the records are written
+    private synchronized TransactionRecord process(Transaction transaction, TransactionBody body,
+                                                   byte[] transactionHash) {
+        var now = Instant.now();
+        long consensusTimestamp = Math.max(now.getEpochSecond() * NANOS_PER_SECOND + now.getNano(),
+                lastConsensusTimestamp + 1);
+        lastConsensusTimestamp = consensusTimestamp;
+
+        long fee = Math.min(body.getTransactionFee(), TRANSACTION_FEE);
+        var transferList = TransferList.newBuilder()
+                .addAccountAmounts(accountAmount(body.getTransactionID().getAccountID(), -fee))
+                .addAccountAmounts(accountAmount(body.getNodeAccountID(), fee));
+        var transactionRecord = TransactionRecord.newBuilder();
+
+        if (body.hasCryptoTransfer()) {
+            var cryptoTransfer = body.getCryptoTransfer();
+            transferList.addAllAccountAmounts(cryptoTransfer.getTransfers().getAccountAmountsList());
+            transactionRecord.addAllTokenTransferLists(cryptoTransfer.getTokenTransfersList());
+        }
+
+        transactionRecord.setConsensusTimestamp(Timestamp.newBuilder()
+                        .setSeconds(consensusTimestamp / NANOS_PER_SECOND)
+                        .setNanos((int) (consensusTimestamp % NANOS_PER_SECOND)))
+                .setMemo(body.getMemo())
+                .setReceipt(getReceipt(body, transactionHash))
+                .setTransactionFee(fee)
+                .setTransactionHash(ByteString.copyFrom(transactionHash))
+                .setTransactionID(body.getTransactionID())
+                .setTransferList(transferList);
+
+        var record = transactionRecord.build();
+        recordStreamWriter.append(transaction, record);
+        return record;
+    }
+
+    private TransactionReceipt.Builder getReceipt(TransactionBody body, byte[] transactionHash) {
+        var receipt = TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS);
+
+        switch (body.getDataCase()) {
+            case CONSENSUSCREATETOPIC -> receipt.setTopicID(TopicID.newBuilder().setTopicNum(++entityNum));
+            case CONSENSUSSUBMITMESSAGE -> {
+                var topicId = body.getConsensusSubmitMessage().getTopicID();
+                long sequenceNumber = topicSequenceNumbers.merge(topicId, 1L, Long::sum);
+                // The transaction hash stands in for the running hash since it has the same length
+                receipt.setTopicRunningHash(ByteString.copyFrom(transactionHash))
+                        .setTopicRunningHashVersion(TOPIC_RUNNING_HASH_VERSION)
+                        .setTopicSequenceNumber(sequenceNumber);
+            }
+            case CONTRACTCREATEINSTANCE -> receipt.setContractID(ContractID.newBuilder().setContractNum(++entityNum));
+            case CRYPTOCREATEACCOUNT -> receipt.setAccountID(AccountID.newBuilder().setAccountNum(++entityNum));
+            case FILECREATE -> receipt.setFileID(FileID.newBuilder().setFileNum(++entityNum));
+            case SCHEDULECREATE -> receipt.setScheduleID(ScheduleID.newBuilder().setScheduleNum(++entityNum));
+            case TOKENCREATION -> receipt.setTokenID(TokenID.newBuilder().setTokenNum(++entityNum));
+            default -> {
+                // Other transactions don't create entities
+            }
+        }
+
+        return receipt;
+    }
+
+    private void loadState() {
+        if (!Files.exists(statePath)) {
+            return;
+        }
+
+        var state = new Properties();
+        try (var reader = Files.newBufferedReader(statePath)) {
+            state.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        entityNum = Long.parseLong(state.getProperty(ENTITY_NUM_KEY, String.valueOf(entityNum)));
+        for (var key : state.stringPropertyNames()) {
+            if (key.startsWith(TOPIC_KEY_PREFIX)) {
+                var topicId = TopicId.fromString(key.substring(TOPIC_KEY_PREFIX.length()));
+                var topicID = TopicID.newBuilder()
+                        .setShardNum(topicId.shard)
+                        .setRealmNum(topicId.realm)
+                        .setTopicNum(topicId.num)
+                        .build();
+                topicSequenceNumbers.put(topicID, Long.parseLong(state.getProperty(key)));
+            }
+        }
+
+        log.info("Resuming at entity number {} with the sequence numbers of {} topics", entityNum,
+                topicSequenceNumbers.size());
+    }
+
+    private void saveState() {
+        var state = new Properties();
+        state.setProperty(ENTITY_NUM_KEY, String.valueOf(entityNum));
+        topicSequenceNumbers.forEach((topicId, sequenceNumber) -> {
+            var key = TOPIC_KEY_PREFIX + topicId.getShardNum() + "." + topicId.getRealmNum() + "." +
+                    topicId.getTopicNum();
+            state.setProperty(key, String.valueOf(sequenceNumber));
+        });
+
+        try {
+            var bytes = new ByteArrayOutputStream();
+            state.store(bytes, null);
+            recordStreamWriter.write(statePath, bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AccountAmount accountAmount(AccountID accountId, long amount) {
+        return AccountAmount.newBuilder().setAccountID(accountId).setAmount(amount).build();
+    }
+}
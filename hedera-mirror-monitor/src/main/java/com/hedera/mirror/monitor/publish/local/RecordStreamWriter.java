@@ -0,0 +1,350 @@
+package com.hedera.mirror.monitor.publish.local;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.CustomLog;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.NodeAddress;
+import com.hedera.hashgraph.sdk.proto.NodeAddressBook;
+import com.hedera.hashgraph.sdk.proto.SemanticVersion;
+import com.hedera.hashgraph.sdk.proto.Transaction;
+import com.hedera.hashgraph.sdk.proto.TransactionRecord;
+
+/**
+ * Writes v6 record stream files and their signature files in the bucket layout the importer downloads from. The
+ * stream file protobufs aren't part of the SDK, so their few fields are encoded directly. The files are signed with a
+ * key generated on first startup and the address book containing its public key is written next to the streams, so the
+ * importer can be pointed at it as its initial address book. The key is kept in the output directory and the running
+ * hash and block number continue from the last written record file, so a restart extends the same stream.
+ */
+@CustomLog
+class RecordStreamWriter {
+
+    static final String ADDRESS_BOOK_FILENAME = "addressbook.bin";
+    static final String PRIVATE_KEY_FILENAME = "node.key";
+    static final String PUBLIC_KEY_FILENAME = "node.pub";
+    static final int VERSION = 6;
+
+    private static final String DIGEST_ALGORITHM = "SHA-384";
+    private static final DateTimeFormatter FILENAME_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH_mm_ss.nnnnnnnnn'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final SemanticVersion HAPI_VERSION = SemanticVersion.newBuilder().setMinor(30).build();
+    private static final int HASH_ALGORITHM_SHA_384 = 1;
+    private static final int HASH_LENGTH = 48;
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final String RECORD_FILE_EXTENSION = ".rcd.gz";
+    private static final String SIGNATURE_ALGORITHM = "SHA384withRSA";
+    private static final int SIGNATURE_TYPE_SHA_384_WITH_RSA = 1;
+
+    private final KeyPair keyPair;
+    private final List<byte[]> items = new ArrayList<>();
+    private final Path path;
+    private final Path streamPath;
+
+    private long blockNumber = 0L;
+    private Instant consensusStart;
+    private byte[] runningHash = new byte[HASH_LENGTH];
+
+    RecordStreamWriter(LocalPublishProperties properties) {
+        try {
+            path = properties.getPath();
+            streamPath = path.resolve("recordstreams").resolve("record" + properties.getNodeAccountId());
+            Files.createDirectories(streamPath);
+
+            var privateKeyPath = path.resolve(PRIVATE_KEY_FILENAME);
+            var publicKeyPath = path.resolve(PUBLIC_KEY_FILENAME);
+            boolean generated = !Files.exists(privateKeyPath) || !Files.exists(publicKeyPath);
+            keyPair = generated ? generateKeyPair(privateKeyPath, publicKeyPath) :
+                    readKeyPair(privateKeyPath, publicKeyPath);
+
+            if (generated || !Files.exists(path.resolve(ADDRESS_BOOK_FILENAME))) {
+                writeAddressBook(AccountId.fromString(properties.getNodeAccountId()));
+            }
+
+            resume();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void append(Transaction transaction, TransactionRecord transactionRecord) {
+        if (consensusStart == null) {
+            var timestamp = transactionRecord.getConsensusTimestamp();
+            consensusStart = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+        }
+
+        try {
+            var bytes = new ByteArrayOutputStream();
+            var output = CodedOutputStream.newInstance(bytes);
+            output.writeMessage(1, transaction);
+            output.writeMessage(2, transactionRecord);
+            output.flush();
+            items.add(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the transactions appended since the last flush as a record file named after the consensus timestamp of
+     * its first transaction, followed by its signature file.
+     *
+     * @return whether a record file was written
+     */
+    synchronized boolean flush() {
+        if (items.isEmpty()) {
+            return false;
+        }
+
+        try {
+            var startRunningHash = runningHash;
+            var digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            for (var item : items) {
+                var itemHash = digest.digest(item);
+                digest.update(runningHash);
+                runningHash = digest.digest(itemHash);
+            }
+
+            var bytes = new ByteArrayOutputStream();
+            var dataOutput = new DataOutputStream(bytes);
+            dataOutput.writeInt(VERSION);
+            var output = CodedOutputStream.newInstance(dataOutput);
+            output.writeMessage(1, HAPI_VERSION);
+            output.writeByteArray(2, hashObject(startRunningHash));
+            for (var item : items) {
+                output.writeByteArray(3, item);
+            }
+            output.writeByteArray(4, hashObject(runningHash));
+            output.writeInt64(5, blockNumber);
+            output.flush();
+
+            var recordFile = bytes.toByteArray();
+            var fileHash = digest.digest(recordFile);
+            var metadataHash = getMetadataHash(digest, startRunningHash);
+            var filename = FILENAME_FORMATTER.format(consensusStart) + ".rcd";
+
+            write(filename + ".gz", gzip(recordFile));
+            write(filename + "_sig", signatureFile(fileHash, metadataHash));
+            log.debug("Wrote record file {} with {} transactions", filename, items.size());
+
+            blockNumber++;
+            consensusStart = null;
+            items.clear();
+            return true;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private KeyPair generateKeyPair(Path privateKeyPath, Path publicKeyPath) throws GeneralSecurityException,
+            IOException {
+        var keyPairGenerator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        keyPairGenerator.initialize(3072);
+        var generatedKeyPair = keyPairGenerator.generateKeyPair();
+        Files.write(privateKeyPath, generatedKeyPair.getPrivate().getEncoded());
+        Files.write(publicKeyPath, generatedKeyPair.getPublic().getEncoded());
+        log.info("Generated signing key {}", privateKeyPath.toAbsolutePath());
+        return generatedKeyPair;
+    }
+
+    private KeyPair readKeyPair(Path privateKeyPath, Path publicKeyPath) throws GeneralSecurityException,
+            IOException {
+        var keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
+        var privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Files.readAllBytes(privateKeyPath)));
+        var publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Files.readAllBytes(publicKeyPath)));
+        log.info("Loaded signing key {}", privateKeyPath.toAbsolutePath());
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    private byte[] getMetadataHash(MessageDigest digest, byte[] startRunningHash) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var dataOutput = new DataOutputStream(bytes);
+        dataOutput.writeInt(VERSION);
+        dataOutput.writeInt(HAPI_VERSION.getMajor());
+        dataOutput.writeInt(HAPI_VERSION.getMinor());
+        dataOutput.writeInt(HAPI_VERSION.getPatch());
+        dataOutput.write(startRunningHash);
+        dataOutput.write(runningHash);
+        dataOutput.writeLong(blockNumber);
+        return digest.digest(bytes.toByteArray());
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        var compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (var gzipOutput = new GZIPOutputStream(compressed)) {
+            gzipOutput.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private byte[] hashObject(byte[] hash) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(bytes);
+        output.writeEnum(1, HASH_ALGORITHM_SHA_384);
+        output.writeInt32(2, hash.length);
+        output.writeByteArray(3, hash);
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private byte[] signatureFile(byte[] fileHash, byte[] metadataHash) throws GeneralSecurityException,
+            IOException {
+        var bytes = new ByteArrayOutputStream();
+        bytes.write(VERSION);
+        var output = CodedOutputStream.newInstance(bytes);
+        output.writeByteArray(1, signatureObject(fileHash));
+        output.writeByteArray(2, signatureObject(metadataHash));
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    private byte[] signatureObject(byte[] hash) throws GeneralSecurityException, IOException {
+        var signer = Signature.getInstance(SIGNATURE_ALGORITHM);
+        signer.initSign(keyPair.getPrivate());
+        signer.update(hash);
+        var signature = signer.sign();
+
+        var bytes = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(bytes);
+        output.writeEnum(1, SIGNATURE_TYPE_SHA_384_WITH_RSA);
+        output.writeInt32(2, signature.length);
+        output.writeInt32(3, 101 - signature.length); // Checksum
+        output.writeByteArray(4, signature);
+        output.writeByteArray(5, hashObject(hash));
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    // Continue the hash chain and block numbers of the last record file so the importer can verify the next one
+    private void resume() throws IOException {
+        Path lastFile;
+        try (var files = Files.list(streamPath)) {
+            lastFile = files.filter(p -> p.getFileName().toString().endsWith(RECORD_FILE_EXTENSION))
+                    .max(Path::compareTo)
+                    .orElse(null);
+        }
+
+        if (lastFile == null) {
+            return;
+        }
+
+        try (var dataInput = new DataInputStream(new GZIPInputStream(Files.newInputStream(lastFile)))) {
+            int version = dataInput.readInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported record file version " + version + ": " + lastFile);
+            }
+
+            var input = CodedInputStream.newInstance(dataInput);
+            input.setSizeLimit(Integer.MAX_VALUE);
+            Long lastBlockNumber = null;
+            byte[] endRunningHash = null;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 4 -> endRunningHash = readHash(input.readByteArray());
+                    case 5 -> lastBlockNumber = input.readInt64();
+                    default -> input.skipField(tag);
+                }
+            }
+
+            if (endRunningHash == null || lastBlockNumber == null) {
+                throw new IllegalStateException("Missing end running hash or block number: " + lastFile);
+            }
+
+            runningHash = endRunningHash;
+            blockNumber = lastBlockNumber + 1;
+            log.info("Resuming record stream at block {} after {}", blockNumber, lastFile.getFileName());
+        }
+    }
+
+    private byte[] readHash(byte[] hashObject) throws IOException {
+        var input = CodedInputStream.newInstance(hashObject);
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (WireFormat.getTagFieldNumber(tag) == 3) {
+                return input.readByteArray();
+            }
+            input.skipField(tag);
+        }
+        return null;
+    }
+
+    private void write(String filename, byte[] bytes) throws IOException {
+        write(streamPath.resolve(filename), bytes);
+    }
+
+    // Write to a temporary file outside the stream directory first so the importer never lists a partial file
+    void write(Path target, byte[] bytes) throws IOException {
+        var tempFile = Files.createTempFile(path, target.getFileName().toString(), null);
+        Files.write(tempFile, bytes);
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void writeAddressBook(AccountId nodeAccountId) throws IOException {
+        var accountId = AccountID.newBuilder()
+                .setShardNum(nodeAccountId.shard)
+                .setRealmNum(nodeAccountId.realm)
+                .setAccountNum(nodeAccountId.num);
+        var nodeAddress = NodeAddress.newBuilder()
+                .setMemo(ByteString.copyFromUtf8(nodeAccountId.toString()))
+                .setNodeAccountId(accountId)
+                .setNodeId(nodeAccountId.num - 3L)
+                .setRSAPubKey(HexFormat.of().formatHex(keyPair.getPublic().getEncoded()));
+        var addressBook = NodeAddressBook.newBuilder().addNodeAddress(nodeAddress).build();
+        var addressBookPath = path.resolve(ADDRESS_BOOK_FILENAME);
+        Files.write(addressBookPath, addressBook.toByteArray());
+        log.info("Wrote address book for node {} to {}", nodeAccountId, addressBookPath.toAbsolutePath());
+    }
+}
@@ -23,10 +23,7 @@ package com.hedera.mirror.monitor.subscribe;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
 import io.micrometer.core.instrument.Timer;
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Named;
@@ -35,6 +32,7 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import com.hedera.mirror.monitor.converter.DurationToStringSerializer;
+import com.hedera.mirror.monitor.util.IdentityArrayMap;
 
 @Log4j2
 @Named
@@ -47,20 +45,23 @@ public class SubscribeMetrics {
     static final String TAG_SCENARIO = "scenario";
     static final String TAG_SUBSCRIBER = "subscriber";
 
-    private final Map<Scenario<?, ?>, TimeGauge> durationMetrics = new ConcurrentHashMap<>();
-    private final Map<Scenario<?, ?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     private final MeterRegistry meterRegistry;
     private final SubscribeProperties subscribeProperties;
 
+    private final IdentityArrayMap<Scenario<?, ?>, ScenarioMeters> scenarioMeters = new IdentityArrayMap<>();
+
     public void onNext(SubscribeResponse response) {
         log.trace("Response: {}", response);
-        Scenario<?, ?> scenario = response.getScenario();
+        ScenarioMeters meters = scenarioMeters.computeIfAbsent(response.getScenario(), ScenarioMeters::new);
         Instant publishedTimestamp = response.getPublishedTimestamp();
-        durationMetrics.computeIfAbsent(scenario, this::newDurationGauge);
 
         if (publishedTimestamp != null) {
-            Duration latency = Duration.between(publishedTimestamp, response.getReceivedTimestamp());
-            latencyMetrics.computeIfAbsent(scenario, this::newLatencyTimer).record(latency);
+            Instant receivedTimestamp = response.getReceivedTimestamp();
+            long seconds = receivedTimestamp.getEpochSecond() - publishedTimestamp.getEpochSecond();
+            long latency = seconds * NANOS_PER_SECOND + receivedTimestamp.getNano() - publishedTimestamp.getNano();
+            meters.getLatencyTimer().record(latency, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -73,7 +74,7 @@ public class SubscribeMetrics {
                 .register(meterRegistry);
     }
 
-    private final Timer newLatencyTimer(Scenario<?, ?> scenario) {
+    private Timer newLatencyTimer(Scenario<?, ?> scenario) {
         return Timer.builder(METRIC_E2E)
                 .description("The end to end transaction latency starting from publish and ending at receive")
                 .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
@@ -86,8 +87,7 @@ public class SubscribeMetrics {
     public void status() {
         if (subscribeProperties.isEnabled()) {
             var running = new AtomicBoolean(false);
-            durationMetrics.keySet()
-                    .stream()
+            scenarioMeters.keys()
                     .filter(Scenario::isRunning)
                     .peek(s -> running.set(true))
                     .forEach(this::status);
@@ -103,4 +103,25 @@ public class SubscribeMetrics {
         log.info("{} scenario {} received {} responses in {} at {}/s. Errors: {}",
                 s.getProtocol(), s, s.getCount(), elapsed, s.getRate(), s.getErrors());
     }
+
+    private class ScenarioMeters {
+
+        private final Scenario<?, ?> scenario;
+        private volatile Timer latencyTimer;
+
+        private ScenarioMeters(Scenario<?, ?> scenario) {
+            this.scenario = scenario;
+            newDurationGauge(scenario);
+        }
+
+        // Registering is idempotent, so a race only registers the same timer twice
+        private Timer getLatencyTimer() {
+            Timer timer = latencyTimer;
+            if (timer == null) {
+                timer = newLatencyTimer(scenario);
+                latencyTimer = timer;
+            }
+            return timer;
+        }
+    }
 }
@@ -52,6 +52,8 @@ public class SubscribeProperties {
     @NotNull
     private Map<String, GrpcSubscriberProperties> grpc = new LinkedHashMap<>();
 
+    private boolean multiplex = false;
+
     @NotNull
     private Map<String, RestSubscriberProperties> rest = new LinkedHashMap<>();
 
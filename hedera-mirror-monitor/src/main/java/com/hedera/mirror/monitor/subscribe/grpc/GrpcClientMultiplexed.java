@@ -0,0 +1,174 @@
+package com.hedera.mirror.monitor.subscribe.grpc;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import com.hedera.mirror.monitor.MirrorNodeProperties;
+import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
+import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.monitor.util.Utility;
+
+/**
+ * A lightweight gRPC client that calls the generated consensus service stub directly instead of going through the SDK.
+ * Subscriptions are multiplexed over a few channels in a round-robin fashion and each one only keeps its gRPC call and
+ * the last response, so a single monitor can simulate thousands of concurrent subscribers.
+ */
+@ConditionalOnProperty(value = "hedera.mirror.monitor.subscribe.multiplex", havingValue = "true")
+@Log4j2
+@Named
+class GrpcClientMultiplexed implements GrpcClient {
+
+    private static final String IN_PROCESS = "in-process:";
+
+    private final List<ManagedChannel> channels;
+    private final AtomicInteger counter = new AtomicInteger(0);
+    private final List<ConsensusServiceGrpc.ConsensusServiceStub> stubs;
+
+    GrpcClientMultiplexed(MonitorProperties monitorProperties, SubscribeProperties subscribeProperties) {
+        var grpcProperties = monitorProperties.getMirrorNode().getGrpc();
+        channels = IntStream.range(0, subscribeProperties.getClients())
+                .mapToObj(i -> channel(grpcProperties))
+                .toList();
+        stubs = channels.stream().map(ConsensusServiceGrpc::newStub).toList();
+        log.info("Multiplexing subscriptions over {} channels to {}", channels.size(), grpcProperties.getEndpoint());
+    }
+
+    @Override
+    public Flux<SubscribeResponse> subscribe(GrpcSubscription subscription) {
+        int index = Math.floorMod(counter.getAndIncrement(), stubs.size());
+        var stub = stubs.get(index);
+        log.info("Starting '{}' scenario to channel {}", subscription, index);
+
+        return Flux.<SubscribeResponse>create(sink -> {
+                    var observer = new ResponseObserver(subscription, sink);
+                    stub.subscribeTopic(subscription.getConsensusTopicQuery(), observer);
+                    sink.onRequest(observer::request);
+                    sink.onDispose(observer::cancel);
+                })
+                .doOnComplete(subscription::onComplete)
+                .doOnError(subscription::onError);
+    }
+
+    @Override
+    public void close() {
+        log.warn("Closing {} channels", channels.size());
+        channels.forEach(ManagedChannel::shutdownNow);
+    }
+
+    private ManagedChannel channel(MirrorNodeProperties.GrpcProperties properties) {
+        String endpoint = properties.getEndpoint();
+
+        if (endpoint.startsWith(IN_PROCESS)) {
+            return InProcessChannelBuilder.forName(endpoint.substring(IN_PROCESS.length()))
+                    .directExecutor()
+                    .build();
+        }
+
+        var builder = ManagedChannelBuilder.forTarget(endpoint).directExecutor();
+        if (properties.getPort() == 443) {
+            builder.useTransportSecurity();
+        } else {
+            builder.usePlaintext();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Bridges a gRPC call to a FluxSink. Inbound flow control is driven by the subscriber's demand so that a slow
+     * subscriber doesn't buffer unbounded messages.
+     */
+    @RequiredArgsConstructor
+    private static class ResponseObserver implements ClientResponseObserver<ConsensusTopicQuery,
+            ConsensusTopicResponse> {
+
+        private final GrpcSubscription subscription;
+        private final FluxSink<SubscribeResponse> sink;
+        private ClientCallStreamObserver<ConsensusTopicQuery> call;
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> call) {
+            this.call = call;
+            call.disableAutoRequestWithInitial(0);
+        }
+
+        @Override
+        public void onNext(ConsensusTopicResponse response) {
+            subscription.onNext(response);
+            sink.next(toResponse(response));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            sink.error(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            sink.complete();
+        }
+
+        void request(long n) {
+            call.request((int) Math.min(n, Integer.MAX_VALUE));
+        }
+
+        void cancel() {
+            call.cancel("Unsubscribed", null);
+        }
+
+        private SubscribeResponse toResponse(ConsensusTopicResponse response) {
+            Instant receivedTimestamp = Instant.now();
+            var timestamp = response.getConsensusTimestamp();
+            Instant consensusTimestamp = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+            Instant publishedTimestamp = Utility.getTimestamp(response.getMessage().toByteArray());
+
+            if (publishedTimestamp == null) {
+                log.warn("{} Invalid published timestamp for message with consensus timestamp {}", subscription,
+                        consensusTimestamp);
+            }
+
+            return SubscribeResponse.builder()
+                    .consensusTimestamp(consensusTimestamp)
+                    .publishedTimestamp(publishedTimestamp)
+                    .receivedTimestamp(receivedTimestamp)
+                    .scenario(subscription)
+                    .build();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import javax.inject.Named;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -40,6 +41,8 @@ import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
 import com.hedera.mirror.monitor.util.Utility;
 
+@ConditionalOnProperty(value = "hedera.mirror.monitor.subscribe.multiplex", havingValue = "false",
+        matchIfMissing = true)
 @Log4j2
 @Named
 class GrpcClientSDK implements GrpcClient {
@@ -23,15 +23,22 @@ package com.hedera.mirror.monitor.subscribe.grpc;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.hedera.hashgraph.sdk.TopicId;
 import com.hedera.hashgraph.sdk.TopicMessage;
 import com.hedera.hashgraph.sdk.TopicMessageQuery;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
 import com.hedera.mirror.monitor.AbstractScenario;
 import com.hedera.mirror.monitor.ScenarioProtocol;
 
 class GrpcSubscription extends AbstractScenario<GrpcSubscriberProperties, TopicMessage> {
 
+    private final AtomicReference<ConsensusTopicResponse> lastResponse = new AtomicReference<>();
+
     GrpcSubscription(int id, GrpcSubscriberProperties properties) {
         super(id, properties);
     }
@@ -42,32 +49,75 @@ class GrpcSubscription extends AbstractScenario<GrpcSubscriberProperties, TopicM
     }
 
     TopicMessageQuery getTopicMessageQuery() {
-        long limit = properties.getLimit();
-        Instant startTime = getLast().map(t -> t.consensusTimestamp.plusNanos(1))
-                .orElseGet(properties::getStartTime);
-
         TopicMessageQuery topicMessageQuery = new TopicMessageQuery();
         topicMessageQuery.setEndTime(properties.getEndTime());
-        topicMessageQuery.setLimit(limit > 0 ? limit - counter.get() : 0);
-        topicMessageQuery.setStartTime(startTime);
+        topicMessageQuery.setLimit(getRemaining());
+        topicMessageQuery.setStartTime(getStartTime());
         topicMessageQuery.setTopicId(TopicId.fromString(properties.getTopicId()));
         return topicMessageQuery;
     }
 
+    ConsensusTopicQuery getConsensusTopicQuery() {
+        TopicId topicId = TopicId.fromString(properties.getTopicId());
+        return ConsensusTopicQuery.newBuilder()
+                .setConsensusEndTime(toTimestamp(properties.getEndTime()))
+                .setConsensusStartTime(toTimestamp(getStartTime()))
+                .setLimit(getRemaining())
+                .setTopicID(TopicID.newBuilder()
+                        .setShardNum(topicId.shard)
+                        .setRealmNum(topicId.realm)
+                        .setTopicNum(topicId.num)
+                        .build())
+                .build();
+    }
+
     @Override
     public void onNext(TopicMessage topicResponse) {
         log.trace("{}: Received message #{} with timestamp {}", this, topicResponse.sequenceNumber,
                 topicResponse.consensusTimestamp);
+        getLast().ifPresent(t -> checkSequenceNumber(t.sequenceNumber, topicResponse.sequenceNumber));
+        super.onNext(topicResponse);
+    }
 
-        getLast().ifPresent(topicMessage -> {
-            long expected = topicMessage.sequenceNumber + 1;
-            if (topicResponse.sequenceNumber != expected) {
-                log.warn("{}: Expected sequence number {} but received {}", this, expected,
-                        topicResponse.sequenceNumber);
-            }
-        });
+    /**
+     * Records a raw response from the generated stub. Only the last response is retained in addition to the counters
+     * so that a subscription can be resumed after it.
+     */
+    void onNext(ConsensusTopicResponse response) {
+        log.trace("{}: Received message #{} with timestamp {}", this, response.getSequenceNumber(),
+                response.getConsensusTimestamp());
+        var previous = lastResponse.getAndSet(response);
+        if (previous != null) {
+            checkSequenceNumber(previous.getSequenceNumber(), response.getSequenceNumber());
+        }
+        counter.incrementAndGet();
+        intervalCounter.getCurrent().increment();
+    }
 
-        super.onNext(topicResponse);
+    private void checkSequenceNumber(long previous, long sequenceNumber) {
+        long expected = previous + 1;
+        if (sequenceNumber != expected) {
+            log.warn("{}: Expected sequence number {} but received {}", this, expected, sequenceNumber);
+        }
+    }
+
+    private long getRemaining() {
+        long limit = properties.getLimit();
+        return limit > 0 ? limit - counter.get() : 0;
+    }
+
+    private Instant getStartTime() {
+        var response = lastResponse.get();
+        if (response != null) {
+            var timestamp = response.getConsensusTimestamp();
+            return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos() + 1L);
+        }
+
+        return getLast().map(t -> t.consensusTimestamp.plusNanos(1)).orElseGet(properties::getStartTime);
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
     }
 
     @Override
@@ -20,6 +20,7 @@ package com.hedera.mirror.monitor.subscribe.rest;
  * ‍
  */
 
+import java.time.Instant;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Named;
@@ -33,6 +34,8 @@ import reactor.core.publisher.Mono;
 import com.hedera.mirror.monitor.MonitorProperties;
 import com.hedera.mirror.rest.model.NetworkNode;
 import com.hedera.mirror.rest.model.NetworkNodesResponse;
+import com.hedera.mirror.rest.model.Transaction;
+import com.hedera.mirror.rest.model.TransactionsResponse;
 
 @CustomLog
 @Named
@@ -68,4 +71,27 @@ public class RestApiClient {
                         .flatMapIterable(NetworkNodesResponse::getNodes))
                 .repeat(() -> StringUtils.isNotBlank(next.get()));
     }
+
+    /**
+     * Retrieves the transactions in the consensus timestamp range in ascending order, following the next links.
+     *
+     * @param start the inclusive start of the range
+     * @param end   the inclusive end of the range
+     * @return the transactions of each page
+     */
+    public Flux<List<Transaction>> getTransactions(Instant start, Instant end) {
+        return Flux.defer(() -> {
+            var next = new AtomicReference<>(String.format("/transactions?limit=100&order=asc&timestamp=gte:%s" +
+                    "&timestamp=lte:%s", toTimestamp(start), toTimestamp(end)));
+
+            return Flux.defer(() -> retrieve(TransactionsResponse.class, next.get())
+                            .doOnNext(r -> next.set(r.getLinks() != null ? r.getLinks().getNext() : null))
+                            .map(TransactionsResponse::getTransactions))
+                    .repeat(() -> StringUtils.isNotBlank(next.get()));
+        });
+    }
+
+    private String toTimestamp(Instant instant) {
+        return String.format("%d.%09d", instant.getEpochSecond(), instant.getNano());
+    }
 }
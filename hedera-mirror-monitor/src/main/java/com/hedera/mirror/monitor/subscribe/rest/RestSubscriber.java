@@ -20,19 +20,27 @@ package com.hedera.mirror.monitor.subscribe.rest;
  * ‍
  */
 
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
@@ -42,6 +50,7 @@ import com.hedera.mirror.monitor.publish.PublishResponse;
 import com.hedera.mirror.monitor.subscribe.MirrorSubscriber;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
+import com.hedera.mirror.rest.model.Transaction;
 import com.hedera.mirror.rest.model.TransactionByIdResponse;
 
 @Log4j2
@@ -111,36 +120,100 @@ class RestSubscriber implements MirrorSubscriber {
                 .doBeforeRetry(r -> log.debug("Retry attempt #{} after failure: {}",
                         r.totalRetries() + 1, r.failure().getMessage()));
 
-        return subscription.getSink()
+        var publishResponses = subscription.getSink()
                 .asFlux()
                 .publishOn(Schedulers.parallel())
-                .doFinally(s -> subscription.onComplete())
-                .doOnNext(publishResponse -> log.trace("Querying REST API: {}", publishResponse))
-                .flatMap(publishResponse -> restApiClient.retrieve(TransactionByIdResponse.class,
-                                "/transactions/{transactionId}", toString(publishResponse.getTransactionId()))
-                        .timeout(properties.getTimeout())
-                        .retryWhen(retrySpec)
-                        .onErrorContinue((t, o) -> subscription.onError(t))
-                        .doOnNext(subscription::onNext)
-                        .map(transaction -> toResponse(subscription, publishResponse, transaction)))
+                .doFinally(s -> subscription.onComplete());
+
+        var responses = properties.getBatchWindow().isZero() ?
+                publishResponses.flatMap(publishResponse -> verify(subscription, publishResponse, retrySpec)) :
+                publishResponses.bufferTimeout(properties.getBatchSize(), properties.getBatchWindow())
+                        .flatMap(batch -> verify(subscription, batch, retrySpec));
+
+        return responses.doOnNext(subscription::onNext)
                 .take(properties.getLimit(), true)
                 .take(properties.getDuration());
     }
 
-    private SubscribeResponse toResponse(RestSubscription subscription, PublishResponse publishResponse,
-                                         TransactionByIdResponse response) {
-        Instant receivedTimestamp = Instant.now();
-        var transaction = Iterables.getFirst(response.getTransactions(), null);
-        Instant consensusTimestamp = null;
-
-        if (transaction != null) {
-            var timestamp = transaction.getConsensusTimestamp();
-            var parts = StringUtils.split(timestamp, '.');
-            if (parts != null && parts.length == 2) {
-                consensusTimestamp = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+    private Flux<SubscribeResponse> verify(RestSubscription subscription, PublishResponse publishResponse,
+                                           RetryBackoffSpec retrySpec) {
+        log.trace("Querying REST API: {}", publishResponse);
+        return restApiClient.retrieve(TransactionByIdResponse.class, "/transactions/{transactionId}",
+                        toString(publishResponse.getTransactionId()))
+                .timeout(subscription.getProperties().getTimeout())
+                .retryWhen(retrySpec)
+                .onErrorContinue((t, o) -> subscription.onError(t))
+                .map(r -> {
+                    var transaction = Iterables.getFirst(r.getTransactions(), null);
+                    var timestamp = transaction != null ? transaction.getConsensusTimestamp() : null;
+                    return toResponse(subscription, publishResponse, toInstant(timestamp));
+                })
+                .flux();
+    }
+
+    /**
+     * Verifies a batch of transactions with consensus timestamp range queries instead of a lookup per transaction.
+     * The range starts at the earliest valid start, since a transaction can't reach consensus before it, and ends at
+     * the time of the query. Transactions are matched by ID a page at a time, and the remaining ones are queried again
+     * with the usual retry backoff until they're all found. Each retry starts after the last transaction already read.
+     */
+    private Flux<SubscribeResponse> verify(RestSubscription subscription, List<PublishResponse> batch,
+                                           RetryBackoffSpec retrySpec) {
+        log.trace("Querying REST API for {} transactions", batch.size());
+        ListMultimap<String, PublishResponse> pending = ArrayListMultimap.create();
+        batch.forEach(r -> pending.put(toString(r.getTransactionId()), r));
+        Set<String> found = new HashSet<>();
+        var start = new AtomicReference<>(batch.stream()
+                .map(r -> r.getTransactionId().validStart)
+                .min(Instant::compareTo)
+                .orElseThrow());
+
+        return Flux.defer(() -> restApiClient.getTransactions(start.get(), Instant.now())
+                        .timeout(subscription.getProperties().getTimeout())
+                        .map(page -> match(subscription, page, pending, found, start))
+                        .takeUntil(r -> pending.isEmpty())
+                        .flatMapIterable(Function.identity())
+                        .concatWith(Mono.defer(() -> pending.isEmpty() ? Mono.<SubscribeResponse>empty() :
+                                Mono.error(WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                                        pending.size() + " transactions not found", HttpHeaders.EMPTY, null, null)))))
+                .retryWhen(retrySpec)
+                .onErrorResume(t -> {
+                    pending.values().forEach(r -> subscription.onError(t));
+                    return Mono.empty();
+                });
+    }
+
+    // Matches a whole page before checking for completion so that duplicates within it are still reported
+    private List<SubscribeResponse> match(RestSubscription subscription, List<Transaction> page,
+                                          ListMultimap<String, PublishResponse> pending, Set<String> found,
+                                          AtomicReference<Instant> start) {
+        List<SubscribeResponse> responses = new ArrayList<>();
+
+        for (var transaction : page) {
+            var transactionId = normalize(transaction.getTransactionId());
+            var consensusTimestamp = toInstant(transaction.getConsensusTimestamp());
+            var matched = pending.removeAll(transactionId);
+
+            if (!matched.isEmpty()) {
+                found.add(transactionId);
+                matched.forEach(r -> responses.add(toResponse(subscription, r, consensusTimestamp)));
+            } else if (found.contains(transactionId)) {
+                log.warn("Duplicate transaction {} at {}", transactionId, transaction.getConsensusTimestamp());
+                subscription.onError(new IllegalStateException("Duplicate transaction " + transactionId));
+            }
+
+            if (consensusTimestamp != null) {
+                start.set(consensusTimestamp.plusNanos(1));
             }
         }
 
+        return responses;
+    }
+
+    private SubscribeResponse toResponse(RestSubscription subscription, PublishResponse publishResponse,
+                                         Instant consensusTimestamp) {
+        Instant receivedTimestamp = Instant.now();
+
         return SubscribeResponse.builder()
                 .consensusTimestamp(consensusTimestamp)
                 .publishedTimestamp(publishResponse.getRequest().getTimestamp())
@@ -149,6 +222,16 @@ class RestSubscriber implements MirrorSubscriber {
                 .build();
     }
 
+    private Instant toInstant(String timestamp) {
+        var parts = StringUtils.split(timestamp, '.');
+
+        if (parts != null && parts.length == 2) {
+            return Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        }
+
+        return null;
+    }
+
     protected boolean shouldRetry(Throwable t) {
         return t instanceof WebClientResponseException &&
                 ((WebClientResponseException) t).getStatusCode() == HttpStatus.NOT_FOUND;
@@ -157,4 +240,13 @@ class RestSubscriber implements MirrorSubscriber {
     private String toString(TransactionId tid) {
         return tid.accountId + "-" + tid.validStart.getEpochSecond() + "-" + tid.validStart.getNano();
     }
+
+    // The REST API zero pads the nanoseconds of the valid start
+    private String normalize(String transactionId) {
+        var parts = StringUtils.split(StringUtils.defaultString(transactionId), '-');
+        if (parts.length != 3) {
+            return transactionId;
+        }
+        return parts[0] + "-" + Long.parseLong(parts[1]) + "-" + Long.parseLong(parts[2]);
+    }
 }
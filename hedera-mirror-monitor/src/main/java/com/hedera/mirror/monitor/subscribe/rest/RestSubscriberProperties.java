@@ -36,6 +36,13 @@ import com.hedera.mirror.monitor.subscribe.AbstractSubscriberProperties;
 @Validated
 public class RestSubscriberProperties extends AbstractSubscriberProperties {
 
+    @Min(1)
+    @Max(100)
+    private int batchSize = 100;
+
+    @NotNull
+    private Duration batchWindow = Duration.ZERO;
+
     @NotNull
     private Set<String> publishers = new LinkedHashSet<>();
 
@@ -28,10 +28,10 @@ import reactor.core.publisher.Sinks;
 import com.hedera.mirror.monitor.AbstractScenario;
 import com.hedera.mirror.monitor.ScenarioProtocol;
 import com.hedera.mirror.monitor.publish.PublishResponse;
-import com.hedera.mirror.rest.model.TransactionByIdResponse;
+import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
 
 @Getter
-class RestSubscription extends AbstractScenario<RestSubscriberProperties, TransactionByIdResponse> {
+class RestSubscription extends AbstractScenario<RestSubscriberProperties, SubscribeResponse> {
 
     private final Sinks.Many<PublishResponse> sink;
 
@@ -0,0 +1,73 @@
+package com.hedera.mirror.monitor.util;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A copy-on-write map that finds its keys by identity. It's meant for a few long-lived keys, like scenarios, that are
+ * read on a hot path: a lookup only scans a small array without hashing the key, and a miss copies the array.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class IdentityArrayMap<K, V> {
+
+    @SuppressWarnings("unchecked")
+    private volatile Entry<K, V>[] entries = new Entry[0];
+
+    public V computeIfAbsent(K key, Function<K, V> mappingFunction) {
+        V value = get(entries, key);
+        if (value != null) {
+            return value;
+        }
+
+        synchronized (this) {
+            Entry<K, V>[] current = entries;
+            value = get(current, key);
+            if (value == null) {
+                value = mappingFunction.apply(key);
+                Entry<K, V>[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = new Entry<>(key, value);
+                entries = updated;
+            }
+            return value;
+        }
+    }
+
+    public Stream<K> keys() {
+        return Arrays.stream(entries).map(Entry::key);
+    }
+
+    private V get(Entry<K, V>[] current, K key) {
+        for (Entry<K, V> entry : current) {
+            if (entry.key() == key) {
+                return entry.value();
+            }
+        }
+        return null;
+    }
+
+    private record Entry<K, V>(K key, V value) {
+    }
+}
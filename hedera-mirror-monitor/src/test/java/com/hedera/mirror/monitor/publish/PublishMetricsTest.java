@@ -21,6 +21,7 @@ package com.hedera.mirror.monitor.publish;
  */
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.platform.commons.util.ReflectionUtils.getDeclaredConstructor;
 
 import io.grpc.Status;
@@ -28,6 +29,7 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
@@ -107,18 +109,40 @@ class PublishMetricsTest {
                 .isPositive();
 
         assertMetric(meterRegistry.find(PublishMetrics.METRIC_HANDLE).timers())
-                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.TAG_STATUS))
                 .extracting(t -> t.mean(TimeUnit.SECONDS))
                 .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
                 .isGreaterThanOrEqualTo(5.0);
 
         assertMetric(meterRegistry.find(PublishMetrics.METRIC_SUBMIT).timers())
-                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .returns(PublishMetrics.SUCCESS, t -> t.getId().getTag(PublishMetrics.TAG_STATUS))
                 .extracting(t -> t.mean(TimeUnit.SECONDS))
                 .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
                 .isGreaterThanOrEqualTo(3.0);
     }
 
+    @Test
+    void onSuccessMultipleNodes() {
+        var request = request();
+        var otherNode = List.of(AccountId.fromString("0.0.2000"));
+        var otherRequest = request.toBuilder()
+                .transaction(new TopicMessageSubmitTransaction().setNodeAccountIds(otherNode))
+                .build();
+        var unknownRequest = request.toBuilder().transaction(new TopicMessageSubmitTransaction()).build();
+        var response = response();
+
+        publishMetrics.onSuccess(response);
+        publishMetrics.onSuccess(response.toBuilder().request(otherRequest).build());
+        publishMetrics.onSuccess(response.toBuilder().request(unknownRequest).build());
+        publishMetrics.onSuccess(response);
+
+        assertThat(meterRegistry.find(PublishMetrics.METRIC_SUBMIT).timers())
+                .hasSize(3)
+                .extracting(t -> t.getId().getTag(PublishMetrics.TAG_NODE), Timer::count)
+                .containsExactlyInAnyOrder(tuple(NODE_ACCOUNT_ID, 2L), tuple("0.0.2000", 1L),
+                        tuple(PublishMetrics.UNKNOWN, 1L));
+    }
+
     @Test
     void onSuccessWithNullResponseTimestamp() {
         // verifies that when unexpected exception happens, onSuccess catches it and no metric is recorded
@@ -197,7 +221,7 @@ class PublishMetricsTest {
                 .isPositive();
 
         assertMetric(meterRegistry.find(PublishMetrics.METRIC_SUBMIT).timers())
-                .returns(status, t -> t.getId().getTag(PublishMetrics.Tags.TAG_STATUS))
+                .returns(status, t -> t.getId().getTag(PublishMetrics.TAG_STATUS))
                 .extracting(t -> t.mean(TimeUnit.SECONDS))
                 .asInstanceOf(InstanceOfAssertFactories.DOUBLE)
                 .isGreaterThanOrEqualTo(3.0);
@@ -239,10 +263,10 @@ class PublishMetricsTest {
         return assertThat(meters)
                 .hasSize(1)
                 .first()
-                .returns(NODE_ACCOUNT_ID, t -> t.getId().getTag(PublishMetrics.Tags.TAG_NODE))
-                .returns(SCENARIO_NAME, t -> t.getId().getTag(PublishMetrics.Tags.TAG_SCENARIO))
+                .returns(NODE_ACCOUNT_ID, t -> t.getId().getTag(PublishMetrics.TAG_NODE))
+                .returns(SCENARIO_NAME, t -> t.getId().getTag(PublishMetrics.TAG_SCENARIO))
                 .returns(TransactionType.CONSENSUS_SUBMIT_MESSAGE.toString(), t -> t.getId()
-                        .getTag(PublishMetrics.Tags.TAG_TYPE));
+                        .getTag(PublishMetrics.TAG_TYPE));
     }
 
     private void clearLog() {
@@ -134,6 +134,42 @@ class CompositeTransactionGeneratorTest {
         }
     }
 
+    @Test
+    void generate() {
+        properties.setWarmupPeriod(Duration.ZERO);
+        CompositeTransactionGenerator generator = supplier.get();
+        Duration duration = Duration.ofSeconds(5L);
+
+        Multiset<TransactionType> types = HashMultiset.create();
+        generator.generate()
+                .take(duration)
+                .map(r -> r.getScenario().getProperties().getType())
+                .doOnNext(types::add)
+                .blockLast(duration.plusSeconds(5L));
+
+        for (PublishScenarioProperties publishScenarioProperties : properties.getScenarios().values()) {
+            assertThat(types.count(publishScenarioProperties.getType()))
+                    .isCloseTo((int) (publishScenarioProperties.getTps() * duration.toSeconds()),
+                            withinPercentage(10));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void generateComplete() {
+        publishScenarioProperties1.setLimit(10L);
+        publishScenarioProperties2.setLimit(5L);
+        CompositeTransactionGenerator generator = supplier.get();
+        List<PublishScenario> scenarios = generator.scenarios().collectList().block();
+
+        assertThat(generator.generate().collectList().block()).hasSize(15);
+        assertInactive();
+        assertThat(properties.getScenarios().values())
+                .extracting(PublishScenarioProperties::isEnabled)
+                .containsOnly(false);
+        assertThat(scenarios).extracting(PublishScenario::getStatus).containsOnly(ScenarioStatus.COMPLETED);
+    }
+
     @Test
     void disabledScenario() {
         publishScenarioProperties1.setEnabled(false);
@@ -0,0 +1,241 @@
+package com.hedera.mirror.monitor.publish.local;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.CodedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicCreateTransaction;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.proto.NodeAddressBook;
+import com.hedera.mirror.monitor.MonitorProperties;
+import com.hedera.mirror.monitor.publish.PublishProperties;
+import com.hedera.mirror.monitor.publish.PublishRequest;
+import com.hedera.mirror.monitor.publish.PublishResponse;
+import com.hedera.mirror.monitor.publish.PublishScenario;
+import com.hedera.mirror.monitor.publish.PublishScenarioProperties;
+import com.hedera.mirror.monitor.publish.transaction.TransactionType;
+
+class LocalTransactionPublisherTest {
+
+    @TempDir
+    Path path;
+
+    private LocalTransactionPublisher localTransactionPublisher;
+    private PublishScenario scenario;
+
+    @BeforeEach
+    void setup() {
+        var monitorProperties = new MonitorProperties();
+        monitorProperties.getOperator().setAccountId("0.0.100");
+        monitorProperties.getOperator().setPrivateKey(PrivateKey.generateED25519().toString());
+        var publishProperties = new PublishProperties();
+        publishProperties.getLocal().setEnabled(true);
+        publishProperties.getLocal().setFileInterval(Duration.ofMinutes(1L));
+        publishProperties.getLocal().setPath(path);
+        var scenarioProperties = new PublishScenarioProperties();
+        scenarioProperties.setName("test");
+        scenarioProperties.setType(TransactionType.CONSENSUS_SUBMIT_MESSAGE);
+        scenario = new PublishScenario(scenarioProperties);
+        localTransactionPublisher = new LocalTransactionPublisher(monitorProperties, publishProperties);
+        localTransactionPublisher.init();
+    }
+
+    @AfterEach
+    void teardown() {
+        localTransactionPublisher.close();
+    }
+
+    @Test
+    void publish() {
+        localTransactionPublisher.publish(request())
+                .concatWith(localTransactionPublisher.publish(request()))
+                .map(PublishResponse::getReceipt)
+                .map(r -> r.topicSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5L));
+        assertThat(scenario.getCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @SneakyThrows
+    void flush() {
+        localTransactionPublisher.publish(request()).block();
+        localTransactionPublisher.flush();
+        localTransactionPublisher.flush();
+
+        var streamPath = path.resolve("recordstreams").resolve("record0.0.3");
+        List<Path> files;
+        try (var stream = Files.list(streamPath)) {
+            files = stream.toList();
+        }
+        assertThat(files).hasSize(2);
+
+        var recordFile = files.stream().filter(p -> p.toString().endsWith(".rcd.gz")).findFirst().get();
+        var signatureFile = Path.of(recordFile.toString().replace(".rcd.gz", ".rcd_sig"));
+        byte[] bytes;
+        try (var inputStream = new GZIPInputStream(Files.newInputStream(recordFile))) {
+            bytes = inputStream.readAllBytes();
+        }
+        assertThat(new DataInputStream(new ByteArrayInputStream(bytes)).readInt())
+                .isEqualTo(RecordStreamWriter.VERSION);
+
+        // Verify the file signature with the public key of the address book written for the importer
+        var signatureBytes = Files.readAllBytes(signatureFile);
+        assertThat(signatureBytes[0]).isEqualTo((byte) RecordStreamWriter.VERSION);
+        var fileSignature = readField(CodedInputStream.newInstance(signatureBytes, 1, signatureBytes.length - 1), 1);
+        var signature = readField(CodedInputStream.newInstance(fileSignature), 4);
+        var hashObject = readField(CodedInputStream.newInstance(fileSignature), 5);
+        var fileHash = MessageDigest.getInstance("SHA-384").digest(bytes);
+        assertThat(readField(CodedInputStream.newInstance(hashObject), 3)).isEqualTo(fileHash);
+
+        var addressBook = NodeAddressBook.parseFrom(Files.readAllBytes(
+                path.resolve(RecordStreamWriter.ADDRESS_BOOK_FILENAME)));
+        var publicKeyBytes = HexFormat.of().parseHex(addressBook.getNodeAddress(0).getRSAPubKey());
+        var publicKey = KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(publicKeyBytes));
+        var verifier = Signature.getInstance("SHA384withRSA");
+        verifier.initVerify(publicKey);
+        verifier.update(fileHash);
+        assertThat(verifier.verify(signature)).isTrue();
+    }
+
+    @Test
+    @SneakyThrows
+    void restart() {
+        localTransactionPublisher.publish(request()).block();
+        localTransactionPublisher.flush();
+        var addressBookPath = path.resolve(RecordStreamWriter.ADDRESS_BOOK_FILENAME);
+        var addressBook = Files.readAllBytes(addressBookPath);
+        localTransactionPublisher.close();
+
+        setup();
+        localTransactionPublisher.publish(request()).block();
+        localTransactionPublisher.flush();
+
+        // The same key and address book are used and the new file continues the hash chain and block numbers
+        assertThat(Files.readAllBytes(addressBookPath)).isEqualTo(addressBook);
+        List<Path> files;
+        try (var stream = Files.list(path.resolve("recordstreams").resolve("record0.0.3"))) {
+            files = stream.filter(p -> p.toString().endsWith(".rcd.gz")).sorted().toList();
+        }
+        assertThat(files).hasSize(2);
+
+        var first = readRecordFile(files.get(0));
+        var second = readRecordFile(files.get(1));
+        assertThat(readField(CodedInputStream.newInstance(first), 4))
+                .isEqualTo(readField(CodedInputStream.newInstance(second), 2));
+        assertThat(readInt64(CodedInputStream.newInstance(first), 5)).isZero();
+        assertThat(readInt64(CodedInputStream.newInstance(second), 5)).isEqualTo(1L);
+    }
+
+    @Test
+    void restartContinuesNumbers() {
+        var topicId = localTransactionPublisher.publish(request(new TopicCreateTransaction())).block()
+                .getReceipt().topicId;
+        localTransactionPublisher.publish(request()).block();
+        localTransactionPublisher.publish(request()).block();
+        localTransactionPublisher.close();
+        assertThat(path.resolve(LocalTransactionPublisher.STATE_FILENAME)).exists();
+
+        // Sequence numbers and entity numbers already ingested by the importer aren't reused after a restart
+        setup();
+        localTransactionPublisher.publish(request())
+                .concatWith(localTransactionPublisher.publish(request(new TopicCreateTransaction())))
+                .map(PublishResponse::getReceipt)
+                .as(StepVerifier::create)
+                .assertNext(r -> assertThat(r.topicSequenceNumber).isEqualTo(3L))
+                .assertNext(r -> assertThat(r.topicId.num).isEqualTo(topicId.num + 1))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5L));
+    }
+
+    // Returns the record file without its version prefix
+    private byte[] readRecordFile(Path recordFile) throws IOException {
+        try (var inputStream = new GZIPInputStream(Files.newInputStream(recordFile))) {
+            var bytes = inputStream.readAllBytes();
+            return Arrays.copyOfRange(bytes, Integer.BYTES, bytes.length);
+        }
+    }
+
+    private Long readInt64(CodedInputStream input, int fieldNumber) throws IOException {
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            if (tag >>> 3 == fieldNumber) {
+                return input.readInt64();
+            }
+            input.skipField(tag);
+        }
+        return null;
+    }
+
+    private byte[] readField(CodedInputStream input, int fieldNumber) throws IOException {
+        while (!input.isAtEnd()) {
+            int tag = input.readTag();
+            if (tag >>> 3 == fieldNumber) {
+                return input.readByteArray();
+            }
+            input.skipField(tag);
+        }
+        return null;
+    }
+
+    private PublishRequest request() {
+        return request(new TopicMessageSubmitTransaction()
+                .setMessage("test")
+                .setTopicId(TopicId.fromString("0.0.1000")));
+    }
+
+    private PublishRequest request(Transaction<?> transaction) {
+        return PublishRequest.builder()
+                .receipt(true)
+                .scenario(scenario)
+                .timestamp(Instant.now())
+                .transaction(transaction)
+                .build();
+    }
+}
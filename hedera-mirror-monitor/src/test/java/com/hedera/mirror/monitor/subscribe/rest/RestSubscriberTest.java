@@ -41,6 +41,7 @@ import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -70,7 +71,9 @@ import com.hedera.mirror.monitor.subscribe.Scenario;
 import com.hedera.mirror.monitor.subscribe.SubscribeProperties;
 import com.hedera.mirror.monitor.subscribe.SubscribeResponse;
 import com.hedera.mirror.rest.model.TransactionByIdResponse;
+import com.hedera.mirror.rest.model.Transaction;
 import com.hedera.mirror.rest.model.TransactionDetail;
+import com.hedera.mirror.rest.model.TransactionsResponse;
 
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
 class RestSubscriberTest {
@@ -421,6 +424,123 @@ class RestSubscriberTest {
                 .returns(Map.of("404", 1), Scenario::getErrors);
     }
 
+    @Test
+    void batch() {
+        restSubscriberProperties.setBatchWindow(Duration.ofMillis(100L));
+        Mockito.when(exchangeFunction.exchange(Mockito.any(ClientRequest.class)))
+                .thenReturn(transactionsResponse(1L, 2L, 3L));
+
+        Collection<SubscribeResponse> responses = new ArrayList<>();
+        restSubscriber.subscribe()
+                .doOnNext(responses::add)
+                .as(StepVerifier::create)
+                .then(() -> restSubscriber.onPublish(publishResponse(1L)))
+                .then(() -> restSubscriber.onPublish(publishResponse(2L)))
+                .then(() -> restSubscriber.onPublish(publishResponse(3L)))
+                .expectNextCount(3L)
+                .expectComplete()
+                .verify(Duration.ofMillis(500L));
+
+        verify(exchangeFunction, times(1)).exchange(Mockito.isA(ClientRequest.class));
+        assertThat(restSubscriber.getSubscriptions().blockFirst())
+                .isNotNull()
+                .returns(3L, Scenario::getCount)
+                .returns(Map.of(), Scenario::getErrors);
+        assertThat(responses).hasSize(3).allSatisfy(s -> assertThat(s.getConsensusTimestamp()).isNotNull());
+    }
+
+    @Test
+    void batchRecovers() {
+        restSubscriberProperties.setBatchWindow(Duration.ofMillis(100L));
+        Mockito.when(exchangeFunction.exchange(Mockito.isA(ClientRequest.class)))
+                .thenReturn(transactionsResponse())
+                .thenReturn(transactionsResponse(1L));
+
+        restSubscriber.subscribe()
+                .as(StepVerifier::create)
+                .then(() -> restSubscriber.onPublish(publishResponse(1L)))
+                .thenAwait(Duration.ofMillis(500L))
+                .expectNextCount(1L)
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+
+        verify(exchangeFunction, times(2)).exchange(Mockito.isA(ClientRequest.class));
+        assertThat(restSubscriber.getSubscriptions().blockFirst())
+                .isNotNull()
+                .returns(1L, Scenario::getCount)
+                .returns(Map.of(), Scenario::getErrors);
+    }
+
+    @Test
+    void batchNeverRecovers() {
+        restSubscriberProperties.setBatchWindow(Duration.ofMillis(100L));
+        Mockito.when(exchangeFunction.exchange(Mockito.isA(ClientRequest.class))).thenReturn(transactionsResponse());
+
+        restSubscriber.subscribe()
+                .as(StepVerifier::create)
+                .then(() -> restSubscriber.onPublish(publishResponse(1L)))
+                .then(() -> restSubscriber.onPublish(publishResponse(2L)))
+                .thenAwait(Duration.ofSeconds(1L))
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+
+        verify(exchangeFunction, times(3)).exchange(Mockito.isA(ClientRequest.class));
+        assertThat(restSubscriber.getSubscriptions().blockFirst())
+                .isNotNull()
+                .returns(0L, Scenario::getCount)
+                .returns(Map.of("404", 2), Scenario::getErrors);
+    }
+
+    @Test
+    void batchRetryStartsAfterLastRead() {
+        restSubscriberProperties.setBatchWindow(Duration.ofMillis(100L));
+        var request = ArgumentCaptor.forClass(ClientRequest.class);
+        Mockito.when(exchangeFunction.exchange(request.capture()))
+                .thenReturn(transactionsResponse(1L))
+                .thenReturn(transactionsResponse(2L));
+
+        restSubscriber.subscribe()
+                .as(StepVerifier::create)
+                .then(() -> restSubscriber.onPublish(publishResponse(1L)))
+                .then(() -> restSubscriber.onPublish(publishResponse(2L)))
+                .thenAwait(Duration.ofMillis(500L))
+                .expectNextCount(2L)
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+
+        verify(exchangeFunction, times(2)).exchange(Mockito.isA(ClientRequest.class));
+        assertThat(request.getAllValues())
+                .extracting(r -> r.url().toString())
+                .satisfiesExactly(u -> assertThat(u).contains("timestamp=gte:1.000000000"),
+                        u -> assertThat(u).contains("timestamp=gte:1.000000002"));
+        assertThat(restSubscriber.getSubscriptions().blockFirst())
+                .isNotNull()
+                .returns(2L, Scenario::getCount)
+                .returns(Map.of(), Scenario::getErrors);
+    }
+
+    @Test
+    void batchDuplicate() {
+        restSubscriberProperties.setBatchWindow(Duration.ofMillis(100L));
+        Mockito.when(exchangeFunction.exchange(Mockito.isA(ClientRequest.class)))
+                .thenReturn(transactionsResponse(1L, 1L, 2L));
+
+        restSubscriber.subscribe()
+                .as(StepVerifier::create)
+                .then(() -> restSubscriber.onPublish(publishResponse(1L)))
+                .then(() -> restSubscriber.onPublish(publishResponse(2L)))
+                .thenAwait(Duration.ofMillis(500L))
+                .expectNextCount(2L)
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+
+        verify(exchangeFunction, times(1)).exchange(Mockito.isA(ClientRequest.class));
+        assertThat(restSubscriber.getSubscriptions().blockFirst())
+                .isNotNull()
+                .returns(2L, Scenario::getCount)
+                .returns(Map.of("IllegalStateException", 1), Scenario::getErrors);
+    }
+
     @Test
     void samplePercent0() {
         restSubscriberProperties.setLimit(1000L);
@@ -506,13 +626,18 @@ class RestSubscriberTest {
     }
 
     private PublishResponse publishResponse() {
+        return publishResponse(1L);
+    }
+
+    private PublishResponse publishResponse(long validStartSeconds) {
         return PublishResponse.builder()
                 .request(PublishRequest.builder()
                         .scenario(publishScenario)
                         .timestamp(Instant.now())
                         .build())
                 .timestamp(Instant.now())
-                .transactionId(TransactionId.withValidStart(AccountId.fromString("0.0.1000"), Instant.ofEpochSecond(1)))
+                .transactionId(TransactionId.withValidStart(AccountId.fromString("0.0.1000"),
+                        Instant.ofEpochSecond(validStartSeconds)))
                 .build();
     }
 
@@ -539,6 +664,27 @@ class RestSubscriberTest {
         }
     }
 
+    private Mono<ClientResponse> transactionsResponse(long... validStartSeconds) {
+        var response = new TransactionsResponse();
+        response.setTransactions(new ArrayList<>());
+        for (long seconds : validStartSeconds) {
+            var transaction = new Transaction();
+            transaction.setConsensusTimestamp(seconds + ".000000001");
+            transaction.setTransactionId(String.format("0.0.1000-%d-000000000", seconds));
+            response.addTransactionsItem(transaction);
+        }
+
+        try {
+            String json = OBJECT_MAPPER.writeValueAsString(response);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", "application/json")
+                    .body(json)
+                    .build());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static class InstantToStringSerializer extends StdScalarSerializer<Instant> {
 
         private static final long serialVersionUID = -7958416584497817326L;
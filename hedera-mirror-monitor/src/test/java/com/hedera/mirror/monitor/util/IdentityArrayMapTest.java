@@ -0,0 +1,53 @@
+package com.hedera.mirror.monitor.util;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class IdentityArrayMapTest {
+
+    private final IdentityArrayMap<String, Object> map = new IdentityArrayMap<>();
+
+    @Test
+    void computeIfAbsent() {
+        var key = "key";
+        var value = map.computeIfAbsent(key, k -> new Object());
+        assertThat(map.computeIfAbsent(key, k -> new Object())).isSameAs(value);
+        assertThat(map.keys()).containsExactly(key);
+    }
+
+    @Test
+    void computeIfAbsentByIdentity() {
+        var key1 = new String("key");
+        var key2 = new String("key");
+        var value1 = map.computeIfAbsent(key1, k -> new Object());
+        var value2 = map.computeIfAbsent(key2, k -> new Object());
+        assertThat(value2).isNotSameAs(value1);
+        assertThat(map.keys()).hasSize(2).allMatch(k -> k == key1 || k == key2);
+    }
+
+    @Test
+    void empty() {
+        assertThat(map.keys()).isEmpty();
+    }
+}